@@ -0,0 +1,85 @@
+#!/bin/sh
+# 네이티브 바이너리 스모크 테스트
+# 테스트용 DB(application.properties)에 접속 가능한 상태에서 실행할 것. 예약 1건을 만들었다가 취소한다.
+# - 기동: 첫 GET /api/rooms 성공까지의 시간
+# - 예약: POST /api/reservation → GET /api/reservation?date= 에 보이는지 → DELETE 로 취소
+# - 체크인: GET /api/checkin 이 (비로그인) 401 JSON 을 정상 렌더링하는지 (매퍼/직렬화 경로 확인)
+# - 스케줄러: 노쇼 스케줄러 1회 실행 후 오류 로그가 없는지
+# 마지막으로 startup-benchmark.sh 로 네이티브와 (JVM_JAR 가 있으면) JVM 빌드의 기동 시간/RSS 를 비교한다.
+#
+# 환경 변수
+#   APP_BIN          네이티브 실행 파일 (필수)
+#   JVM_JAR          비교할 bootJar (선택)
+#   BASE_URL         기본: http://localhost:8080
+#   SMOKE_USER_ID    예약에 사용할 users.id (기본: 1)
+#   SMOKE_ROOM_ID    예약할 방 id (기본: 1)
+#   SCHEDULER_WAIT   스케줄러 실행 대기 초 (기본: 65)
+
+set -eu
+
+APP_BIN=${APP_BIN:?APP_BIN is required}
+JVM_JAR=${JVM_JAR:-}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+SMOKE_USER_ID=${SMOKE_USER_ID:-1}
+SMOKE_ROOM_ID=${SMOKE_ROOM_ID:-1}
+SCHEDULER_WAIT=${SCHEDULER_WAIT:-65}
+SCRIPT_DIR=$(cd "$(dirname "$0")" && pwd)
+
+fail() {
+    echo "SMOKE FAIL: $*" >&2
+    exit 1
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+START=$(now_ms)
+"$APP_BIN" > native-smoke.log 2>&1 &
+PID=$!
+trap 'kill $PID 2>/dev/null || true' EXIT
+
+until curl -sf -o /dev/null "$BASE_URL/api/rooms"; do
+    kill -0 "$PID" 2>/dev/null || fail "binary exited during startup (see native-smoke.log)"
+    sleep 0.02
+done
+echo "native time to first /api/rooms: $(($(now_ms) - START)) ms"
+
+# 예약 생성 → 조회 → 취소
+DATE=$(date -d tomorrow +%F)
+BODY="{\"userId\":$SMOKE_USER_ID,\"roomId\":$SMOKE_ROOM_ID,\"date\":\"$DATE\",\"startSlot\":20,\"endSlot\":21}"
+CREATED=$(curl -sf -H 'Content-Type: application/json' -d "$BODY" "$BASE_URL/api/reservation") \
+    || fail "booking request failed"
+RESERVATION_ID=$(echo "$CREATED" | sed -n 's/.*"id":\([0-9]*\).*/\1/p')
+[ -n "$RESERVATION_ID" ] || fail "booking response has no id: $CREATED"
+curl -sf "$BASE_URL/api/reservation?date=$DATE" | grep -q "\"id\":$RESERVATION_ID" \
+    || fail "reservation $RESERVATION_ID not visible in grid"
+curl -sf -X DELETE "$BASE_URL/api/reservation/$RESERVATION_ID?userId=$SMOKE_USER_ID" \
+    || fail "cancel failed"
+echo "booking: created and cancelled reservation $RESERVATION_ID"
+
+# 체크인 엔드포인트 (비로그인 → 401 JSON)
+CHECKIN_STATUS=$(curl -s -o checkin.json -w '%{http_code}' "$BASE_URL/api/checkin?roomId=$SMOKE_ROOM_ID")
+[ "$CHECKIN_STATUS" = "401" ] && grep -q '"success":false' checkin.json \
+    || fail "unexpected check-in response $CHECKIN_STATUS: $(cat checkin.json)"
+echo "check-in: endpoint responded 401 as expected for anonymous user"
+
+# 스케줄러
+sleep "$SCHEDULER_WAIT"
+if grep -q "스케줄러 실행 중 오류" native-smoke.log; then
+    fail "scheduler reported an error (see native-smoke.log)"
+fi
+echo "scheduler: ran for ${SCHEDULER_WAIT}s without errors"
+
+kill "$PID"
+wait "$PID" 2>/dev/null || true
+trap - EXIT
+
+# 기동 시간 / 워밍업 후 RSS 비교 (같은 측정 스크립트 사용)
+echo "--- native ---"
+APP_BIN="$APP_BIN" sh "$SCRIPT_DIR/startup-benchmark.sh"
+if [ -n "$JVM_JAR" ]; then
+    echo "--- JVM ---"
+    APP_JAR="$JVM_JAR" sh "$SCRIPT_DIR/startup-benchmark.sh"
+fi
+echo "SMOKE OK"
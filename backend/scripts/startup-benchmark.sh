@@ -0,0 +1,70 @@
+#!/bin/sh
+# 기동 벤치마크
+# - 프로세스 시작부터 첫 번째 성공한 GET /api/rooms 응답까지의 시간(ms)
+# - 워밍업 요청 후 상주 메모리(RSS)
+#
+# 환경 변수
+#   JAVA_BIN    java 실행 파일 (기본: java)
+#   APP_JAR     실행할 jar (APP_BIN 이 없으면 필수)
+#   APP_BIN     네이티브 실행 파일 (지정하면 jar 대신 실행)
+#   JAVA_OPTS   JVM 옵션 (예: -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true)
+#   BASE_URL    기본: http://localhost:8080
+#   WARMUP      워밍업 요청 수 (기본: 200)
+#   TIMEOUT_SEC 기동 대기 한도 (기본: 60)
+
+set -eu
+
+JAVA_BIN=${JAVA_BIN:-java}
+APP_BIN=${APP_BIN:-}
+APP_JAR=${APP_JAR:-}
+JAVA_OPTS=${JAVA_OPTS:-}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+WARMUP=${WARMUP:-200}
+TIMEOUT_SEC=${TIMEOUT_SEC:-60}
+
+now_ms() {
+    date +%s%3N
+}
+
+START=$(now_ms)
+if [ -n "$APP_BIN" ]; then
+    "$APP_BIN" > startup-benchmark.log 2>&1 &
+elif [ -n "$APP_JAR" ]; then
+    # shellcheck disable=SC2086
+    "$JAVA_BIN" $JAVA_OPTS -jar "$APP_JAR" > startup-benchmark.log 2>&1 &
+else
+    echo "APP_JAR or APP_BIN is required" >&2
+    exit 1
+fi
+PID=$!
+trap 'kill $PID 2>/dev/null || true' EXIT
+
+DEADLINE=$((START + TIMEOUT_SEC * 1000))
+until curl -sf -o /dev/null "$BASE_URL/api/rooms"; do
+    if ! kill -0 "$PID" 2>/dev/null; then
+        echo "application exited before serving /api/rooms (see startup-benchmark.log)" >&2
+        exit 1
+    fi
+    if [ "$(now_ms)" -gt "$DEADLINE" ]; then
+        echo "timed out after ${TIMEOUT_SEC}s waiting for /api/rooms" >&2
+        exit 1
+    fi
+    sleep 0.05
+done
+FIRST_OK=$(now_ms)
+
+i=0
+while [ "$i" -lt "$WARMUP" ]; do
+    curl -sf -o /dev/null "$BASE_URL/api/rooms"
+    i=$((i + 1))
+done
+
+RSS_KB=$(awk '/VmRSS/ { print $2 }' "/proc/$PID/status")
+
+if [ -n "$APP_BIN" ]; then
+    echo "binary               : $APP_BIN"
+else
+    echo "jvm options          : ${JAVA_OPTS:-(none)}"
+fi
+echo "time to first /api/rooms: $((FIRST_OK - START)) ms"
+echo "RSS after ${WARMUP} requests: $((RSS_KB / 1024)) MB"
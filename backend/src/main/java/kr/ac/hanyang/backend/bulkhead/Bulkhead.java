@@ -0,0 +1,145 @@
+package kr.ac.hanyang.backend.bulkhead;
+
+import kr.ac.hanyang.backend.exception.BulkheadFullException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류 하나의 격벽
+ * - 동시 실행 max-concurrent 개, 초과분은 max-waiting 개까지 wait-timeout-ms 동안 대기, 그 이상은 바로 거절
+ * - DB 연결은 max-connections 개까지 (공유 풀 안에서 이 종류가 차지할 수 있는 몫)
+ * 0 이하의 한도는 제한 없음.
+ */
+public class Bulkhead {
+
+    public enum Kind { BOOKING, USER_READ, ADMIN }
+
+    private final Kind kind;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long waitTimeoutMs;
+    private final int maxConnections;
+    private final long connectionWaitMs;
+    private final Semaphore calls;
+    private final Semaphore connections;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder connectionRejected = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder queuedNanos = new LongAdder();
+    private final AtomicLong maxQueuedNanos = new AtomicLong();
+
+    public Bulkhead(Kind kind, int maxConcurrent, int maxWaiting, long waitTimeoutMs,
+                    int maxConnections, long connectionWaitMs) {
+        this.kind = kind;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.maxConnections = maxConnections;
+        this.connectionWaitMs = connectionWaitMs;
+        this.calls = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true) : null;
+        this.connections = maxConnections > 0 ? new Semaphore(maxConnections, true) : null;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * 이 격벽이 동시에 쓸 수 있는 연결 수 (0 이하면 제한 없음)
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * 실행 자리 확보 (끝나면 반드시 exit)
+     *
+     * @throws BulkheadFullException 대기열이 찼거나 대기 시간 초과
+     */
+    public void enter() {
+        if (calls == null || calls.tryAcquire()) {
+            accepted.increment();
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new BulkheadFullException(kind.name());
+        }
+        long started = System.nanoTime();
+        try {
+            if (!calls.tryAcquire(waitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new BulkheadFullException(kind.name());
+            }
+            long waited = System.nanoTime() - started;
+            queued.increment();
+            queuedNanos.add(waited);
+            maxQueuedNanos.accumulateAndGet(waited, Math::max);
+            accepted.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            throw new BulkheadFullException(kind.name());
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void exit() {
+        if (calls != null) {
+            calls.release();
+        }
+    }
+
+    /**
+     * DB 연결 몫 확보 (연결을 닫을 때 releaseConnection)
+     */
+    void acquireConnection() {
+        if (connections == null) {
+            return;
+        }
+        try {
+            if (!connections.tryAcquire(connectionWaitMs, TimeUnit.MILLISECONDS)) {
+                connectionRejected.increment();
+                throw new BulkheadFullException(kind.name());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            connectionRejected.increment();
+            throw new BulkheadFullException(kind.name());
+        }
+    }
+
+    void releaseConnection() {
+        if (connections != null) {
+            connections.release();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("active", calls != null ? maxConcurrent - calls.availablePermits() : null);
+        stats.put("waiting", waiting.get());
+        stats.put("accepted", accepted.sum());
+        stats.put("rejected", rejected.sum());
+        long queuedCount = queued.sum();
+        stats.put("queued", queuedCount);
+        stats.put("avgQueueMs", queuedCount > 0 ? queuedNanos.sum() / queuedCount / 1_000_000.0 : 0.0);
+        stats.put("maxQueueMs", maxQueuedNanos.get() / 1_000_000.0);
+        stats.put("maxConnections", maxConnections);
+        stats.put("connectionsInUse", connections != null ? maxConnections - connections.availablePermits() : null);
+        stats.put("connectionRejected", connectionRejected.sum());
+        return stats;
+    }
+}
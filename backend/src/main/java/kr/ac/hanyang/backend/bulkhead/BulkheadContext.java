@@ -0,0 +1,47 @@
+package kr.ac.hanyang.backend.bulkhead;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 처리 중인 요청의 격벽 (BulkheadInterceptor 가 설정)
+ * 설정되지 않은 스레드(스케줄 작업, outbox 디스패처 등)는 DB 연결 한도를 적용받지 않는다.
+ */
+public final class BulkheadContext {
+
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    public static Bulkhead current() {
+        return CURRENT.get();
+    }
+
+    static void set(Bulkhead bulkhead) {
+        CURRENT.set(bulkhead);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 다른 스레드(샤드 작업, 스트리밍 응답)에서 같은 격벽으로 실행
+     */
+    public static <T> T call(Bulkhead bulkhead, Supplier<T> work) {
+        if (bulkhead == null) {
+            return work.get();
+        }
+        Bulkhead previous = CURRENT.get();
+        CURRENT.set(bulkhead);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
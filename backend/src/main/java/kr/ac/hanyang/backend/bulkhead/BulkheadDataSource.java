@@ -0,0 +1,71 @@
+package kr.ac.hanyang.backend.bulkhead;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 공유 연결 풀을 격벽별 몫으로 나누는 DataSource
+ * 현재 스레드의 격벽이 연결 몫을 다 쓰고 있으면 connection-wait-ms 동안 기다린 뒤 BulkheadFullException.
+ * 물리 풀은 하나라 샤딩/replica 라우팅과 그대로 함께 쓸 수 있다.
+ * dataSource 빈 자리를 대신 차지하므로, 컨텍스트 종료 시 close 를 감싼 풀에 넘겨 Hikari 풀이 닫히게 한다.
+ */
+public class BulkheadDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public BulkheadDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return guard(BulkheadContext.current(), () -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return guard(BulkheadContext.current(), () -> super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection guard(Bulkhead bulkhead, ConnectionSupplier supplier) throws SQLException {
+        if (bulkhead == null) {
+            return supplier.get();
+        }
+        bulkhead.acquireConnection();
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.releaseConnection();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        bulkhead.releaseConnection();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,69 @@
+package kr.ac.hanyang.backend.bulkhead;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청을 종류별 격벽에 넣고 처리 스레드에 격벽을 표시 (DB 연결 몫 적용용)
+ * - ADMIN: /api/admin/**, 사용자 전체 목록
+ * - BOOKING: 체크인, 예약/대기열의 쓰기 요청
+ * - USER_READ: 그 밖의 조회
+ * 비동기 응답(CSV 스트리밍 등)은 요청 스레드를 놓는 시점에 자리를 반납한다.
+ */
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ATTRIBUTE = BulkheadInterceptor.class.getName() + ".bulkhead";
+
+    private final BulkheadRegistry registry;
+
+    public BulkheadInterceptor(BulkheadRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        Bulkhead bulkhead = registry.get(classify(request));
+        bulkhead.enter();
+        request.setAttribute(ATTRIBUTE, bulkhead);
+        BulkheadContext.set(bulkhead);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    static Bulkhead.Kind classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+        if (path.startsWith("/api/admin/") || ("GET".equals(method) && path.equals("/api/users"))) {
+            return Bulkhead.Kind.ADMIN;
+        }
+        boolean write = !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+        if (path.startsWith("/api/checkin")
+                || (write && (path.startsWith("/api/reservation") || path.startsWith("/api/waitlist")))) {
+            return Bulkhead.Kind.BOOKING;
+        }
+        return Bulkhead.Kind.USER_READ;
+    }
+
+    private void release(HttpServletRequest request) {
+        Object bulkhead = request.getAttribute(ATTRIBUTE);
+        if (bulkhead != null) {
+            request.removeAttribute(ATTRIBUTE);
+            ((Bulkhead) bulkhead).exit();
+        }
+        BulkheadContext.clear();
+    }
+}
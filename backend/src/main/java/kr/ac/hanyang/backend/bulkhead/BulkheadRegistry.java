@@ -0,0 +1,51 @@
+package kr.ac.hanyang.backend.bulkhead;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청 종류별 격벽 (예약 쓰기 / 사용자 조회 / 관리자·리포트)
+ * 관리자 전체 조회나 내보내기가 몰려도 스레드와 DB 연결을 정해진 몫까지만 쓰게 해 예약 처리 지연을 막는다.
+ * 한도는 app.bulkhead.{booking|user-read|admin}.* 로 설정하고, app.bulkhead.enabled=false 면 모두 제한 없음.
+ */
+@Component
+public class BulkheadRegistry {
+
+    private final Map<Bulkhead.Kind, Bulkhead> bulkheads = new EnumMap<>(Bulkhead.Kind.class);
+
+    public BulkheadRegistry(Environment environment) {
+        boolean enabled = environment.getProperty("app.bulkhead.enabled", Boolean.class, true);
+        bulkheads.put(Bulkhead.Kind.BOOKING, create(environment, enabled, Bulkhead.Kind.BOOKING, 0, 0, 0, 0));
+        bulkheads.put(Bulkhead.Kind.USER_READ, create(environment, enabled, Bulkhead.Kind.USER_READ, 100, 50, 1000, 7));
+        bulkheads.put(Bulkhead.Kind.ADMIN, create(environment, enabled, Bulkhead.Kind.ADMIN, 2, 4, 2000, 2));
+    }
+
+    public Bulkhead get(Bulkhead.Kind kind) {
+        return bulkheads.get(kind);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        bulkheads.forEach((kind, bulkhead) -> stats.put(kind.name(), bulkhead.getStats()));
+        return stats;
+    }
+
+    private static Bulkhead create(Environment environment, boolean enabled, Bulkhead.Kind kind,
+                                   int maxConcurrent, int maxWaiting, long waitTimeoutMs, int maxConnections) {
+        if (!enabled) {
+            return new Bulkhead(kind, 0, 0, 0, 0, 0);
+        }
+        String prefix = "app.bulkhead." + kind.name().toLowerCase(Locale.ROOT).replace('_', '-') + ".";
+        return new Bulkhead(kind,
+                environment.getProperty(prefix + "max-concurrent", Integer.class, maxConcurrent),
+                environment.getProperty(prefix + "max-waiting", Integer.class, maxWaiting),
+                environment.getProperty(prefix + "wait-timeout-ms", Long.class, waitTimeoutMs),
+                environment.getProperty(prefix + "max-connections", Integer.class, maxConnections),
+                environment.getProperty(prefix + "connection-wait-ms", Long.class, 1000L));
+    }
+}
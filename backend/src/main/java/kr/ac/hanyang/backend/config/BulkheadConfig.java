@@ -0,0 +1,48 @@
+package kr.ac.hanyang.backend.config;
+
+import kr.ac.hanyang.backend.bulkhead.BulkheadDataSource;
+import kr.ac.hanyang.backend.bulkhead.BulkheadInterceptor;
+import kr.ac.hanyang.backend.bulkhead.BulkheadRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 종류별 격벽: API 요청마다 격벽 자리를 잡고, 주 DataSource 를 격벽별 연결 몫을 적용하는 래퍼로 감싼다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new BulkheadInterceptor(bulkheadRegistry))
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/health/**", "/api/admin/bulkheads");
+    }
+
+    /**
+     * 단일/replica/샤딩 구성 모두 주 DataSource 빈 이름은 dataSource
+     * 감싼 빈이 destroy 대상이 되므로 BulkheadDataSource.close 가 원래 풀을 닫는다.
+     */
+    @Bean
+    static BeanPostProcessor bulkheadDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package kr.ac.hanyang.backend.config;
+
+import kr.ac.hanyang.backend.time.SlotClock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    /**
+     * 시스템 시계
+     * 시뮬레이션 등에서 다른 Clock 을 쓰려면 app.clock.system=false 로 끄고 직접 등록한다.
+     * (@ConditionalOnMissingBean 은 사용자 설정 클래스에서는 등록 순서에 따라 판단이 달라지므로 쓰지 않음)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.clock.system", havingValue = "true", matchIfMissing = true)
+    public Clock clock() {
+        return Clock.system(SlotClock.ZONE);
+    }
+}
@@ -0,0 +1,25 @@
+package kr.ac.hanyang.backend.config;
+
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.datasource.DatabaseWriteGuardInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * DB 차단기가 열려 있는 동안 API 쓰기 요청을 바로 503 으로 거절
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DatabaseCircuitBreakerConfig implements WebMvcConfigurer {
+
+    private final DatabaseCircuitBreaker databaseCircuitBreaker;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new DatabaseWriteGuardInterceptor(databaseCircuitBreaker))
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/health/**");
+    }
+}
@@ -1,26 +1,75 @@
 package kr.ac.hanyang.backend.config;
 
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
 import kr.ac.hanyang.backend.dto.ErrorResponse;
+import kr.ac.hanyang.backend.exception.BulkheadFullException;
+import kr.ac.hanyang.backend.exception.DatabaseUnavailableException;
+import kr.ac.hanyang.backend.exception.ErrorCode;
 import kr.ac.hanyang.backend.exception.ReservationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+/**
+ * 모든 오류 응답은 ErrorResponse(code, message) 한 가지 형태
+ * 예상된 거절(정책 위반, 과부하)은 로그 없이 미리 만든 본문으로, 예상하지 못한 오류만 로거로 스택 트레이스를 남긴다.
+ */
 @RestControllerAdvice
+@RequiredArgsConstructor
+@Log4j2
 public class GlobalExceptionHandler {
 
+    private final DatabaseCircuitBreaker databaseCircuitBreaker;
+
     @ExceptionHandler(ReservationException.class)
     public ResponseEntity<ErrorResponse> handleReservationException(ReservationException ex) {
-        ErrorResponse response = new ErrorResponse(ex.getMessage());
-        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+        ErrorCode code = ex.getCode();
+        return ResponseEntity.status(code.getStatus()).body(code.body(ex.getMessage()));
+    }
+
+    // 잘못된 요청 파라미터 (날짜 범위, 슬롯 범위, role 값 등)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(ErrorCode.INVALID_REQUEST.body(ex.getMessage()));
+    }
+
+    @ExceptionHandler(DatabaseUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(DatabaseUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ErrorCode.DATABASE_UNAVAILABLE.body(ex.getMessage()));
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ErrorCode.OVERLOADED.getBody());
+    }
+
+    // 연결 획득/쿼리 타임아웃 등 DB 장애: 차단기에 반영하고 503
+    @ExceptionHandler({TransientDataAccessException.class, DataAccessResourceFailureException.class,
+            CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseFailure(RuntimeException ex) {
+        // 트랜잭션 시작 중 격벽 연결 몫 초과로 실패한 경우는 DB 장애가 아님
+        BulkheadFullException bulkheadFull = DatabaseCircuitBreaker.findCause(ex, BulkheadFullException.class);
+        if (bulkheadFull != null) {
+            return handleBulkheadFull(bulkheadFull);
+        }
+        databaseCircuitBreaker.recordFailure(ex);
+        return handleDatabaseUnavailable(new DatabaseUnavailableException(Math.max(1, databaseCircuitBreaker.retryAfterSeconds())));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex) {
-        // Log the exception for debugging purposes
-        ex.printStackTrace(); // In a real application, you'd use a logger
-        ErrorResponse response = new ErrorResponse("An unexpected error occurred. Please try again later.");
-        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        log.error("Unhandled exception", ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ErrorCode.INTERNAL_ERROR.getBody());
     }
 }
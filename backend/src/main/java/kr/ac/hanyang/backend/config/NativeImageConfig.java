@@ -0,0 +1,149 @@
+package kr.ac.hanyang.backend.config;
+
+import kr.ac.hanyang.backend.dto.AdminReservationView;
+import kr.ac.hanyang.backend.dto.ErrorResponse;
+import kr.ac.hanyang.backend.dto.OutboxConsumer;
+import kr.ac.hanyang.backend.dto.OutboxRecord;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.ReservationRequestDTO;
+import kr.ac.hanyang.backend.dto.ReservationStats;
+import kr.ac.hanyang.backend.dto.RoomStatusDTO;
+import kr.ac.hanyang.backend.dto.RoomsCatalog;
+import kr.ac.hanyang.backend.dto.RoomsDTO;
+import kr.ac.hanyang.backend.dto.Setting;
+import kr.ac.hanyang.backend.dto.User;
+import kr.ac.hanyang.backend.dto.WaitlistEntry;
+import kr.ac.hanyang.backend.dto.WaitlistRequestDTO;
+import kr.ac.hanyang.backend.mapper.OutboxMapper;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.mapper.ReservationStatsMapper;
+import kr.ac.hanyang.backend.mapper.RoomsMapper;
+import kr.ac.hanyang.backend.mapper.SettingMapper;
+import kr.ac.hanyang.backend.mapper.UserDailyQuotaMapper;
+import kr.ac.hanyang.backend.mapper.UserMapper;
+import kr.ac.hanyang.backend.mapper.WaitlistMapper;
+import kr.ac.hanyang.backend.notification.Notification;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.commons.JakartaCommonsLoggingImpl;
+import org.apache.ibatis.logging.jdk14.Jdk14LoggingImpl;
+import org.apache.ibatis.logging.log4j2.Log4j2Impl;
+import org.apache.ibatis.logging.nologging.NoLoggingImpl;
+import org.apache.ibatis.logging.slf4j.Slf4jImpl;
+import org.apache.ibatis.logging.stdout.StdOutImpl;
+import org.apache.ibatis.scripting.defaults.RawLanguageDriver;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * GraalVM native-image 빌드를 위한 힌트
+ * - MyBatis XML 매퍼/DTD 리소스, 매퍼 인터페이스 JDK 프록시
+ * - 결과 매핑과 Jackson 직렬화에 쓰이는 Lombok DTO 리플렉션
+ * - MapperFactoryBean 의 제네릭 타입을 AOT 시점에 확정
+ * MariaDB 드라이버 메타데이터는 GraalVM reachability metadata 저장소에서 가져온다 (build.gradle 참고).
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.MyBatisRuntimeHints.class)
+public class NativeImageConfig {
+
+    private static final Class<?>[] MAPPERS = {
+            OutboxMapper.class, ReservationMapper.class, ReservationStatsMapper.class, RoomsMapper.class,
+            SettingMapper.class, UserDailyQuotaMapper.class, UserMapper.class, WaitlistMapper.class
+    };
+
+    private static final Class<?>[] DTOS = {
+            AdminReservationView.class, ErrorResponse.class, OutboxConsumer.class, OutboxRecord.class, Reservation.class, ReservationRequestDTO.class, ReservationStats.class,
+            RoomStatusDTO.class, RoomsCatalog.class, RoomsDTO.class, Setting.class, User.class,
+            WaitlistEntry.class, WaitlistRequestDTO.class, Notification.class
+    };
+
+    @Bean
+    static MergedBeanDefinitionPostProcessor myBatisMapperTypeResolver() {
+        return new MapperFactoryBeanTypeResolver();
+    }
+
+    static class MyBatisRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("mapper/*.xml");
+            hints.resources().registerPattern("log4j2.xml");
+            hints.resources().registerPattern("org/apache/ibatis/builder/xml/*.dtd");
+            hints.resources().registerPattern("org/apache/ibatis/builder/xml/*.xsd");
+
+            // 인터셉터(플러그인)는 Executor 를 JDK 프록시로 감싼다
+            hints.proxies().registerJdkProxy(Executor.class);
+            // 격벽 연결 몫 반납용 Connection 프록시 (BulkheadDataSource)
+            hints.proxies().registerJdkProxy(Connection.class);
+            for (Class<?> mapper : MAPPERS) {
+                hints.proxies().registerJdkProxy(mapper);
+                hints.reflection().registerType(mapper, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            for (Class<?> dto : DTOS) {
+                hints.reflection().registerType(dto, MemberCategory.values());
+            }
+            for (Class<?> type : List.of(RawLanguageDriver.class, XMLLanguageDriver.class,
+                    Log.class, Slf4jImpl.class, Log4j2Impl.class, JakartaCommonsLoggingImpl.class,
+                    Jdk14LoggingImpl.class, StdOutImpl.class, NoLoggingImpl.class,
+                    SqlSessionFactory.class, SqlSessionFactoryBean.class,
+                    ArrayList.class, HashMap.class, HashSet.class, TreeSet.class)) {
+                hints.reflection().registerType(type, MemberCategory.values());
+            }
+        }
+    }
+
+    /**
+     * AOT 처리 시 MapperFactoryBean&lt;T&gt; 의 T 가 풀리지 않으면 매퍼 주입 지점을 찾지 못하므로
+     * mapperInterface 속성으로 타입을 확정해 준다.
+     */
+    static class MapperFactoryBeanTypeResolver implements MergedBeanDefinitionPostProcessor {
+
+        @Override
+        public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+            if (!beanDefinition.hasBeanClass()
+                    || !MapperFactoryBean.class.isAssignableFrom(beanDefinition.getBeanClass())
+                    || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                return;
+            }
+            Class<?> mapperInterface = getMapperInterface(beanDefinition);
+            if (mapperInterface == null) {
+                return;
+            }
+            ConstructorArgumentValues constructorArgs = new ConstructorArgumentValues();
+            constructorArgs.addGenericArgumentValue(mapperInterface);
+            beanDefinition.setConstructorArgumentValues(constructorArgs);
+            beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanDefinition.getBeanClass(), mapperInterface));
+        }
+
+        private Class<?> getMapperInterface(RootBeanDefinition beanDefinition) {
+            Object value = beanDefinition.getPropertyValues().get("mapperInterface");
+            if (value instanceof Class<?> type) {
+                return type;
+            }
+            if (value instanceof String className) {
+                return ClassUtils.resolveClassName(className, getClass().getClassLoader());
+            }
+            return null;
+        }
+    }
+}
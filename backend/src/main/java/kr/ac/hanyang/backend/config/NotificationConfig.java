@@ -0,0 +1,31 @@
+package kr.ac.hanyang.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.hanyang.backend.notification.LoggingNotificationSink;
+import kr.ac.hanyang.backend.notification.NotificationSink;
+import kr.ac.hanyang.backend.notification.WebhookNotificationSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class NotificationConfig {
+
+    /**
+     * 알림 발송 채널: app.notification.webhook-url 이 있으면 웹훅, 없으면 로그
+     * (시뮬레이션 등에서 다른 NotificationSink 를 등록하면 그것을 사용)
+     */
+    @Bean
+    @ConditionalOnMissingBean(NotificationSink.class)
+    public NotificationSink notificationSink(ObjectMapper objectMapper,
+                                             @Value("${app.notification.webhook-url:}") String webhookUrl,
+                                             @Value("${app.notification.webhook-timeout-ms:3000}") long timeoutMs) {
+        if (webhookUrl.isBlank()) {
+            return new LoggingNotificationSink();
+        }
+        return new WebhookNotificationSink(webhookUrl, objectMapper, Duration.ofMillis(timeoutMs));
+    }
+}
@@ -0,0 +1,29 @@
+package kr.ac.hanyang.backend.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import kr.ac.hanyang.backend.profiling.QueryProfiler;
+import kr.ac.hanyang.backend.profiling.ScheduledJobProfilingHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 스케줄 작업이 실행한 SQL 도 작업 단위로 프로파일링
+ * (HTTP 요청은 QueryProfileFilter 가 담당)
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryProfilerConfig implements SchedulingConfigurer {
+
+    private final QueryProfiler queryProfiler;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ScheduledJobProfilingHandler(queryProfiler));
+        registrar.setObservationRegistry(registry);
+    }
+}
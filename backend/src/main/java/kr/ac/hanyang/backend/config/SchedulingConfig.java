@@ -0,0 +1,16 @@
+package kr.ac.hanyang.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화
+ * app.scheduling.enabled=false 면 이 노드에서는 @Scheduled 작업을 돌리지 않는다.
+ * (작업을 한 노드에서만 돌릴 때, 시뮬레이션처럼 작업을 직접 호출할 때)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
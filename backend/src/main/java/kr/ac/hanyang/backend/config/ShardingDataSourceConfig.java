@@ -0,0 +1,83 @@
+package kr.ac.hanyang.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import kr.ac.hanyang.backend.datasource.ShardRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다중 캠퍼스 샤딩 설정 (app.sharding.enabled=true 일 때만 활성화, read replica 라우팅과는 함께 쓰지 않는다)
+ * - spring.datasource.* 는 홈 캠퍼스(app.sharding.home-campus), app.sharding.campuses/urls 는 나머지 캠퍼스
+ * - 예약 id 가 샤드끼리 겹치지 않도록 샤드 k(0부터)의 연결은 auto_increment 를 N 간격, k+1 오프셋으로 발급
+ *   → 샤딩 이후 만든 예약은 (id - 1) % N 으로 샤드를 알 수 있다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingDataSourceConfig {
+
+    @Value("${app.sharding.home-campus:main}")
+    private String homeCampus;
+
+    @Value("${app.sharding.campuses:}")
+    private List<String> campuses;
+
+    @Value("${app.sharding.urls:}")
+    private List<String> urls;
+
+    @Value("${app.sharding.username:${spring.datasource.username}}")
+    private String username;
+
+    @Value("${app.sharding.password:${spring.datasource.password}}")
+    private String password;
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(DataSourceProperties properties) {
+        if (campuses.size() != urls.size()) {
+            throw new IllegalStateException("app.sharding.campuses 와 app.sharding.urls 의 개수가 다릅니다.");
+        }
+        int shardCount = campuses.size() + 1;
+
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        HikariDataSource home = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        configure(home, homeCampus, 0, shardCount);
+        shards.put(homeCampus, home);
+
+        for (int i = 0; i < campuses.size(); i++) {
+            HikariDataSource shard = new HikariDataSource();
+            shard.setJdbcUrl(urls.get(i).trim());
+            shard.setUsername(username);
+            shard.setPassword(password);
+            shard.setDriverClassName(properties.getDriverClassName());
+            configure(shard, campuses.get(i).trim(), i + 1, shardCount);
+            shards.put(campuses.get(i).trim(), shard);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(shards);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    private static void configure(HikariDataSource dataSource, String campus, int index, int shardCount) {
+        dataSource.setPoolName("shard-" + campus);
+        dataSource.setConnectionInitSql("SET SESSION auto_increment_increment = " + shardCount
+                + ", auto_increment_offset = " + (index + 1));
+    }
+}
@@ -1,16 +1,38 @@
 package kr.ac.hanyang.backend.controller;
 
-import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.bulkhead.Bulkhead;
+import kr.ac.hanyang.backend.bulkhead.BulkheadContext;
+import kr.ac.hanyang.backend.bulkhead.BulkheadRegistry;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.AdminReservationView;
+import kr.ac.hanyang.backend.dto.ReservationStats;
 import kr.ac.hanyang.backend.dto.Setting;
+import kr.ac.hanyang.backend.journal.JournalRecord;
+import kr.ac.hanyang.backend.journal.ReservationJournal;
+import kr.ac.hanyang.backend.notification.ReminderService;
+import kr.ac.hanyang.backend.profiling.QueryProfiler;
+import kr.ac.hanyang.backend.service.AdminReservationService;
+import kr.ac.hanyang.backend.service.PolicySimulator;
+import kr.ac.hanyang.backend.service.ReservationExportService;
 import kr.ac.hanyang.backend.service.ReservationService;
+import kr.ac.hanyang.backend.service.ReservationStatsService;
+import kr.ac.hanyang.backend.service.RoomsService;
 import kr.ac.hanyang.backend.service.SettingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +45,16 @@ public class AdminController {
 
     private final SettingService settingService;
     private final ReservationService reservationService;
+    private final AdminReservationService adminReservationService;
+    private final ReservationStatsService reservationStatsService;
+    private final PolicySimulator policySimulator;
+    private final RoomsService roomsService;
+    private final ReservationJournal reservationJournal;
+    private final QueryProfiler queryProfiler;
+    private final ShardRouter shardRouter;
+    private final ReservationExportService reservationExportService;
+    private final ReminderService reminderService;
+    private final BulkheadRegistry bulkheadRegistry;
 
     /**
      * 모든 설정 조회 (관리자 이상)
@@ -40,21 +72,11 @@ public ResponseEntity<List<Setting>> getAllSettings() {
     @PutMapping("/settings")
     public ResponseEntity<Map<String, String>> updateSettings(@RequestBody Map<String, String> settingsMap) {
         log.info("설정 업데이트 요청: {}", settingsMap);
-        
-        try {
-            for (Map.Entry<String, String> entry : settingsMap.entrySet()) {
-                settingService.updateSetting(entry.getKey(), entry.getValue());
-            }
-            
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "설정이 성공적으로 업데이트되었습니다.");
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("설정 업데이트 실패", e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
+
+        for (Map.Entry<String, String> entry : settingsMap.entrySet()) {
+            settingService.updateSetting(entry.getKey(), entry.getValue());
         }
+        return ResponseEntity.ok(Map.of("message", "설정이 성공적으로 업데이트되었습니다."));
     }
 
     /**
@@ -67,42 +89,176 @@ public ResponseEntity<String> refreshSettings() {
     }
 
     /**
-     * 현재 방 사용 현황 조회 (관리자 이상)
+     * 방 목록 스냅샷 새로고침 (관리자 이상)
+     * rooms 테이블을 수정한 뒤 호출하면 내용이 바뀐 경우에만 새 버전(ETag)이 만들어짐
+     */
+    @PostMapping("/rooms/refresh")
+    public ResponseEntity<String> refreshRooms() {
+        long version = roomsService.refreshCatalog().getVersion();
+        return ResponseEntity.ok("Rooms catalog refreshed. version=" + version);
+    }
+
+    /**
+     * 현재 방 사용 현황 조회 (관리자 이상, 예약자/방 이름 포함)
      */
     @GetMapping("/reservations/current")
-    public ResponseEntity<List<Reservation>> getCurrentReservations() {
+    public ResponseEntity<List<AdminReservationView>> getCurrentReservations() {
         log.info("현재 방 사용 현황 조회 요청");
-        List<Reservation> currentReservations = reservationService.getCurrentReservations();
+        List<AdminReservationView> currentReservations = adminReservationService.getCurrentReservations();
         return ResponseEntity.ok(currentReservations);
     }
 
     /**
-     * 모든 예약 조회 (관리자 이상)
+     * 모든 예약 조회 (관리자 이상, 예약자/방 이름 포함)
      */
     @GetMapping("/reservations/all")
-    public ResponseEntity<List<Reservation>> getAllReservations() {
+    public ResponseEntity<List<AdminReservationView>> getAllReservations() {
         log.info("모든 예약 조회 요청");
-        List<Reservation> allReservations = reservationService.getAllReservations();
+        List<AdminReservationView> allReservations = adminReservationService.getAllReservations();
         return ResponseEntity.ok(allReservations);
     }
 
+    /**
+     * 예약 CSV 내보내기 (관리자 이상)
+     * GET /api/admin/reservations/export?from=2025-03-01&to=2025-06-30&status=CANCELLED&roomId=101
+     * 목록을 메모리에 모으지 않고 DB 커서에서 읽는 대로 응답에 쓴다.
+     */
+    @GetMapping("/reservations/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "status", required = false) List<String> statuses,
+            @RequestParam(value = "roomId", required = false) List<Integer> roomIds) {
+        log.info("예약 CSV 내보내기 요청: {} ~ {}, status={}, roomId={}", from, to, statuses, roomIds);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 이후일 수 없습니다.");
+        }
+
+        // 스트리밍은 별도 스레드에서 돌므로 관리자 격벽의 연결 몫을 직접 지정
+        Bulkhead bulkhead = bulkheadRegistry.get(Bulkhead.Kind.ADMIN);
+        StreamingResponseBody body = out -> BulkheadContext.call(bulkhead, () -> {
+            try {
+                return reservationExportService.writeCsv(from, to, statuses, roomIds, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("reservations_" + from + "_" + to + ".csv").build().toString())
+                .body(body);
+    }
+
+    /**
+     * 예약 변경 이력 조회 (관리자 이상)
+     * 취소로 삭제된 예약도 저널에 남은 기록으로 확인할 수 있음
+     */
+    @GetMapping("/reservations/{reservationId}/history")
+    public ResponseEntity<List<JournalRecord>> getReservationHistory(@PathVariable int reservationId) throws IOException {
+        log.info("예약 이력 조회 요청: reservationId={}", reservationId);
+        return ResponseEntity.ok(reservationJournal.history(reservationId));
+    }
+
     /**
      * 관리자 권한으로 예약 취소 (관리자 이상)
      */
     @DeleteMapping("/reservations/{reservationId}")
     public ResponseEntity<Map<String, String>> cancelReservationByAdmin(@PathVariable Long reservationId) {
         log.info("관리자 예약 취소 요청: reservationId={}", reservationId);
-        
-        try {
+
+        shardRouter.onShard(shardRouter.shardOfReservation(reservationId.intValue()), () -> {
             reservationService.cancelReservationByAdmin(reservationId);
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "예약이 취소되었습니다.");
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("예약 취소 실패", e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
+            return null;
+        });
+        return ResponseEntity.ok(Map.of("message", "예약이 취소되었습니다."));
+    }
+
+    /**
+     * 방 예약 일괄 취소 (관리자 이상, 방 폐쇄/점검)
+     * POST /api/admin/rooms/101/reservations/cancel?from=2025-05-01&to=2025-05-03&startSlot=18&endSlot=27
+     * 슬롯을 생략하면 하루 전체. 취소된 예약을 예약자 이름/이메일과 함께 반환 (안내 발송용)
+     */
+    @PostMapping("/rooms/{roomId}/reservations/cancel")
+    public ResponseEntity<List<AdminReservationView>> cancelRoomReservations(
+            @PathVariable int roomId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "startSlot", defaultValue = "0") int startSlot,
+            @RequestParam(value = "endSlot", defaultValue = "47") int endSlot) {
+        log.info("방 예약 일괄 취소 요청: roomId={}, {} ~ {}, 슬롯 {} ~ {}", roomId, from, to, startSlot, endSlot);
+        return ResponseEntity.ok(adminReservationService.cancelRoomReservations(roomId, from, to, startSlot, endSlot));
+    }
+
+    /**
+     * 이용률 / 노쇼 통계 조회 (관리자 이상)
+     * 누적 롤업 테이블에서 바로 계산하므로 이력 크기와 무관
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        log.info("통계 조회 요청");
+        return ResponseEntity.ok(reservationStatsService.getStats());
+    }
+
+    /**
+     * 기간별 일 단위 통계 조회 (관리자 이상)
+     */
+    @GetMapping("/stats/daily")
+    public ResponseEntity<List<ReservationStats>> getDailyStats(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reservationStatsService.getDailyStats(from, to));
+    }
+
+    /**
+     * 정책 what-if 시뮬레이션 (관리자 이상)
+     * 설정을 바꾸기 전에 기간 내 예약 이력을 현재 설정과 후보 설정들로 재생해 이용률/거절/방별 경합을 비교
+     * POST /api/admin/policy/simulate?from=2025-03-01&to=2025-06-20
+     * body: [{"name": "4h", "policy": {"dailyLimitHours": 4, "openingHour": 8, "closingHour": 22}}]
+     */
+    @PostMapping("/policy/simulate")
+    public ResponseEntity<PolicySimulator.SimulationResult> simulatePolicy(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestBody(required = false) List<PolicySimulator.Scenario> candidates) {
+        log.info("정책 시뮬레이션 요청: {} ~ {}, 후보 {}개", from, to, candidates != null ? candidates.size() : 0);
+        return ResponseEntity.ok(policySimulator.simulate(from, to, candidates));
+    }
+
+    /**
+     * 최근 느린 요청/작업의 SQL 프로파일 (관리자 이상, 최신순)
+     */
+    @GetMapping("/profiler/slow")
+    public ResponseEntity<List<Map<String, Object>>> getSlowRequests() {
+        return ResponseEntity.ok(queryProfiler.getSlowRequests());
+    }
+
+    /**
+     * 요청 종류별 격벽 현황: 동시 실행/대기/거절 수, 연결 사용량 (관리자 이상, 격벽 적용 제외)
+     */
+    @GetMapping("/bulkheads")
+    public ResponseEntity<Map<String, Object>> getBulkheads() {
+        return ResponseEntity.ok(bulkheadRegistry.getStats());
+    }
+
+    /**
+     * 예약 안내/체크인 마감 알림 현황: 대기/발송/실패/만료 건수 (관리자 이상)
+     */
+    @GetMapping("/notifications/stats")
+    public ResponseEntity<Map<String, Object>> getNotificationStats() {
+        return ResponseEntity.ok(reminderService.getStats());
+    }
+
+    /**
+     * 통계 롤업 백필 (관리자 이상)
+     */
+    @PostMapping("/stats/backfill")
+    public ResponseEntity<Map<String, String>> backfillStats(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("통계 백필 요청: {} ~ {}", from, to);
+
+        int processed = reservationStatsService.backfill(from, to);
+        return ResponseEntity.ok(Map.of("message", "통계 백필이 완료되었습니다. (예약 " + processed + "건)"));
     }
 }
@@ -1,5 +1,6 @@
 package kr.ac.hanyang.backend.controller;
 
+import kr.ac.hanyang.backend.datasource.ShardRouter;
 import kr.ac.hanyang.backend.dto.Reservation;
 import kr.ac.hanyang.backend.service.CheckinService;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@
 public class CheckinController {
 
     private final CheckinService checkinService;
+    private final ShardRouter shardRouter;
 
     /**
      * QR 코드 스캔 후 체크인
@@ -43,7 +45,7 @@ public ResponseEntity<Map<String, Object>> checkin(
             // principal.getName()은 OAuth2에서 email을 반환
             String email = principal.getName();
             
-            Reservation resultReservation = checkinService.checkin(email, roomId);
+            Reservation resultReservation = shardRouter.forRoom(roomId, () -> checkinService.checkin(email, roomId));
 
             // 상태/플래그에 따라 응답 메시지 분기
             String status = resultReservation.getStatus();
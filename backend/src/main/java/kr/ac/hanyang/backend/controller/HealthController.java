@@ -0,0 +1,42 @@
+package kr.ac.hanyang.backend.controller;
+
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.service.CacheWarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/health")
+public class HealthController {
+
+    private final ApplicationAvailability applicationAvailability;
+    private final CacheWarmupService cacheWarmupService;
+    private final DatabaseCircuitBreaker databaseCircuitBreaker;
+
+    /**
+     * 로드밸런서/오케스트레이터 readiness 확인
+     * 캐시 워밍업이 끝나기 전(또는 시간 예산 만료 전)에는 503
+     * DB 차단기 상태는 참고용으로만 표시 (DB 장애 중에도 stale 읽기는 계속 제공하므로 트래픽은 유지)
+     */
+    @GetMapping("/ready")
+    public ResponseEntity<Map<String, Object>> ready() {
+        boolean accepting = applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+        boolean ready = accepting && cacheWarmupService.isCompleted();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", ready ? "READY" : "WARMING_UP");
+        body.put("warmup", cacheWarmupService.getReport());
+        body.put("database", databaseCircuitBreaker.getState());
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+}
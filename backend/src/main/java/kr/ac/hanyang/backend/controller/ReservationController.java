@@ -2,11 +2,16 @@
 
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.service.ReservationDayCache;
 import kr.ac.hanyang.backend.service.ReservationService;
+import kr.ac.hanyang.backend.service.ReservationSyncService;
+import kr.ac.hanyang.backend.time.SlotClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import kr.ac.hanyang.backend.dto.Reservation;
 import kr.ac.hanyang.backend.dto.ReservationRequestDTO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -22,19 +27,43 @@
 @RequestMapping("/api/reservation")
 public class ReservationController {
     
+    static final String STALE_HEADER = "X-Data-Stale";
+
     private final ReservationService reservationService;
+    private final ReservationSyncService reservationSyncService;
+    private final ShardRouter shardRouter;
+    private final SlotClock slotClock;
 
     @PostMapping
     public ResponseEntity<Reservation> createReservation(@RequestBody ReservationRequestDTO request) {
-        Reservation reservation = reservationService.createReservation(request);
+        // 예약은 방 캠퍼스의 샤드에서 (트랜잭션 시작 전에 샤드 지정)
+        Reservation reservation = shardRouter.forRoom(request.getRoomId(),
+                () -> reservationService.createReservation(request));
         return ResponseEntity.ok(reservation);
     }
 
     @GetMapping
     public ResponseEntity<List<Reservation>> getReservationsByDate(
             @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<Reservation> reservations = reservationService.getReservationsByDate(date);
-        return ResponseEntity.ok(reservations);
+        ReservationDayCache.DayView day = reservationService.getReservationDay(date);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (day.stale()) {
+            // DB 장애로 마지막 정상 데이터를 내려줌: 데이터 나이(초)와 stale 표시
+            response.header(HttpHeaders.AGE, String.valueOf(Math.max(0, (slotClock.getClock().millis() - day.loadedAt()) / 1000)))
+                    .header(STALE_HEADER, "true");
+        }
+        return response.body(day.reservations());
+    }
+
+    /**
+     * 예약 현황 그리드 델타 동기화: since 이후 바뀐 예약과 새 버전
+     * since 없이 부르면 활성 예약 전체, 바뀐 게 없으면 빈 목록
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ReservationSyncService.Changes> getReservationChanges(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "since", required = false) String since) {
+        return ResponseEntity.ok(reservationSyncService.getChanges(date, since));
     }
 
     // TODO: 추후 Spring Security 적용 시, @AuthenticationPrincipal 사용하여 토큰에서 userId 추출하도록 변경
@@ -49,7 +78,10 @@ public ResponseEntity<List<Reservation>> getMyReservations(@RequestParam("userId
     public ResponseEntity<Void> cancelReservation(
             @PathVariable("reservationId") int reservationId,
             @RequestParam("userId") int userId) {
-        reservationService.cancelReservation(reservationId, userId);
+        shardRouter.onShard(shardRouter.shardOfReservation(reservationId), () -> {
+            reservationService.cancelReservation(reservationId, userId);
+            return null;
+        });
         return ResponseEntity.ok().build();
     }
 }
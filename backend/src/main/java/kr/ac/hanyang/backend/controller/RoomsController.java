@@ -1,14 +1,30 @@
 package kr.ac.hanyang.backend.controller;
 
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.dto.RoomStatusDTO;
+import kr.ac.hanyang.backend.dto.RoomsCatalog;
 import kr.ac.hanyang.backend.dto.RoomsDTO;
+import kr.ac.hanyang.backend.service.RoomOccupancyService;
 import kr.ac.hanyang.backend.service.RoomsService;
+import kr.ac.hanyang.backend.time.SlotClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,14 +34,85 @@
 public class RoomsController {
     
     private final RoomsService roomsService;
+    private final RoomOccupancyService roomOccupancyService;
+    private final DatabaseCircuitBreaker databaseCircuitBreaker;
+    private final SlotClock slotClock;
 
+    @Value("${app.rooms.cache-max-age-seconds:3600}")
+    private long cacheMaxAgeSeconds;
+
+    /**
+     * 방 목록 조회
+     * 미리 직렬화(및 gzip)된 스냅샷을 그대로 내려주고, ETag가 같으면 304로 응답
+     * gzip 본문은 ETag 끝에 -gz 를 붙여 원본 본문과 구분한다.
+     * DB 차단기가 열려 있으면 스냅샷이 마지막으로 확인된 뒤의 나이와 stale 표시를 붙인다.
+     */
     @GetMapping
-    public ResponseEntity<List<RoomsDTO>> getRooms(){
-        List<RoomsDTO> rooms = roomsService.getRooms();
-        return ResponseEntity.ok(rooms);
-    }
+    public ResponseEntity<byte[]> getRooms(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        RoomsCatalog catalog = roomsService.getCatalog();
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = gzip ? catalog.getGzipEtag() : catalog.getEtag();
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePublic();
 
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
 
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (databaseCircuitBreaker.getState() != DatabaseCircuitBreaker.State.CLOSED) {
+            response.header(HttpHeaders.AGE, String.valueOf(roomsService.getCatalogAgeSeconds()))
+                    .header(ReservationController.STALE_HEADER, "true");
+        }
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(catalog.getGzippedJson());
+        }
+        return response.body(catalog.getJson());
+    }
 
+    /**
+     * 조건으로 방 검색 (메모리 인덱스만 사용)
+     * GET /api/rooms/search?minCapacity=6&equipment=projector&date=2025-03-10&startSlot=28&endSlot=31
+     * date 를 주면 startSlot~endSlot 이 모두 비어 있는 방만 반환
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<RoomsDTO>> searchRooms(
+            @RequestParam(value = "minCapacity", required = false) Integer minCapacity,
+            @RequestParam(value = "equipment", required = false) List<String> equipment,
+            @RequestParam(value = "accessible", required = false) Boolean accessible,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "campus", required = false) String campus,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "startSlot", required = false) Integer startSlot,
+            @RequestParam(value = "endSlot", required = false) Integer endSlot) {
+        // 잘못된 슬롯 범위는 IllegalArgumentException → GlobalExceptionHandler 에서 400
+        RoomsService.RoomSearch result =
+                roomsService.search(minCapacity, equipment, accessible, type, campus, date, startSlot, endSlot);
 
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.stale()) {
+            response.header(HttpHeaders.AGE, String.valueOf(Math.max(0, (slotClock.getClock().millis() - result.loadedAt()) / 1000)))
+                    .header(ReservationController.STALE_HEADER, "true");
+        }
+        return response.body(result.rooms());
+    }
+
+    /**
+     * 방 현재 상태 조회 (문 앞 태블릿 폴링용, DB 조회 없음)
+     * GET /api/rooms/101/status
+     */
+    @GetMapping("/{roomId}/status")
+    public ResponseEntity<RoomStatusDTO> getRoomStatus(@PathVariable int roomId) {
+        return ResponseEntity.ok(roomOccupancyService.getRoomStatus(roomId));
+    }
 }
@@ -7,7 +7,6 @@
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -42,24 +41,12 @@ public ResponseEntity<Map<String, String>> updateUserRole(
         log.info("사용자 role 변경 요청: userId={}, newRole={}", userId, newRole);
 
         if (newRole == null || newRole < 0 || newRole > 2) {
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "role은 0(일반), 1(관리자), 2(슈퍼관리자) 중 하나여야 합니다.");
-            return ResponseEntity.badRequest().body(error);
+            throw new IllegalArgumentException("role은 0(일반), 1(관리자), 2(슈퍼관리자) 중 하나여야 합니다.");
         }
 
-        try {
-            userService.updateUserRole(userId, newRole);
-            
-            Map<String, String> response = new HashMap<>();
-            String roleName = newRole == 0 ? "일반 사용자" : (newRole == 1 ? "관리자" : "슈퍼 관리자");
-            response.put("message", "사용자 권한이 " + roleName + "로 변경되었습니다.");
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("사용자 role 변경 실패", e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
+        userService.updateUserRole(userId, newRole);
+        String roleName = newRole == 0 ? "일반 사용자" : (newRole == 1 ? "관리자" : "슈퍼 관리자");
+        return ResponseEntity.ok(Map.of("message", "사용자 권한이 " + roleName + "로 변경되었습니다."));
     }
 
     /**
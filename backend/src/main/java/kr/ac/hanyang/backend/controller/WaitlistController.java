@@ -0,0 +1,50 @@
+package kr.ac.hanyang.backend.controller;
+
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.WaitlistEntry;
+import kr.ac.hanyang.backend.dto.WaitlistRequestDTO;
+import kr.ac.hanyang.backend.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Log4j2
+@RequiredArgsConstructor
+@RequestMapping("/api/waitlist")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping
+    public ResponseEntity<WaitlistEntry> join(@RequestBody WaitlistRequestDTO request) {
+        return ResponseEntity.ok(waitlistService.join(request));
+    }
+
+    // TODO: 추후 Spring Security 적용 시, @AuthenticationPrincipal 사용하여 토큰에서 userId 추출하도록 변경
+    @GetMapping("/my")
+    public ResponseEntity<List<WaitlistEntry>> getMyWaitlist(@RequestParam("userId") int userId) {
+        return ResponseEntity.ok(waitlistService.getMyWaitlist(userId));
+    }
+
+    /**
+     * 임시 배정(OFFERED) 수락 → 예약 확정
+     */
+    @PostMapping("/{entryId}/accept")
+    public ResponseEntity<Reservation> accept(
+            @PathVariable("entryId") long entryId,
+            @RequestParam("userId") int userId) {
+        return ResponseEntity.ok(waitlistService.accept(entryId, userId));
+    }
+
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<Void> cancel(
+            @PathVariable("entryId") long entryId,
+            @RequestParam("userId") int userId) {
+        waitlistService.cancel(entryId, userId);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,25 @@
+package kr.ac.hanyang.backend.datasource;
+
+/**
+ * 현재 스레드의 읽기 라우팅 힌트
+ * 읽기 전용 트랜잭션이라도 primary로 보내야 하는 경우(read-your-writes)에 사용
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        FORCE_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(FORCE_PRIMARY.get());
+    }
+
+    public static void clear() {
+        FORCE_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,229 @@
+package kr.ac.hanyang.backend.datasource;
+
+import kr.ac.hanyang.backend.exception.BulkheadFullException;
+import kr.ac.hanyang.backend.exception.DatabaseUnavailableException;
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * DB 호출 차단기 (CLOSED → OPEN → HALF_OPEN → CLOSED)
+ * - 연속 실패(연결/타임아웃 계열 예외, slow-call-ms 를 넘긴 호출)가 failure-threshold 에 이르면 OPEN
+ * - OPEN 동안은 DB 를 부르지 않고 바로 DatabaseUnavailableException → 읽기는 마지막 정상 데이터, 쓰기는 503
+ * - open-seconds 가 지나면 HALF_OPEN 에서 한 번에 한 호출만 시험(probe)으로 통과시키고, 성공하면 CLOSED
+ * 읽기 경로는 call() 로 감싸고, 쓰기 요청은 DatabaseWriteGuardInterceptor 가 요청 단위로 막는다.
+ */
+@Component
+@Log4j2
+public class DatabaseCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final DataSource dataSource;
+    private final SlotClock slotClock;
+
+    @Value("${app.db-breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.db-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${app.db-breaker.slow-call-ms:2000}")
+    private long slowCallMs;
+
+    @Value("${app.db-breaker.open-seconds:10}")
+    private long openSeconds;
+
+    @Value("${app.db-breaker.probe-timeout-seconds:2}")
+    private int probeTimeoutSeconds;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public DatabaseCircuitBreaker(DataSource dataSource, SlotClock slotClock) {
+        this.dataSource = dataSource;
+        this.slotClock = slotClock;
+    }
+
+    /**
+     * 차단기를 거쳐 DB 호출 실행
+     * OPEN(또는 다른 시험 호출이 진행 중인 HALF_OPEN)이면 호출하지 않고 DatabaseUnavailableException
+     */
+    public <T> T call(Supplier<T> query) {
+        if (!enabled) {
+            return query.get();
+        }
+        boolean probe = acquire();
+        long started = System.nanoTime();
+        try {
+            T result = query.get();
+            onSuccess((System.nanoTime() - started) / 1_000_000, probe);
+            return result;
+        } catch (RuntimeException e) {
+            if (isDatabaseFailure(e)) {
+                onFailure(e, probe);
+            } else {
+                // 정책 위반 등 DB 장애가 아닌 예외는 DB 가 응답했다는 뜻
+                onSuccess((System.nanoTime() - started) / 1_000_000, probe);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 쓰기 요청을 받아도 되는지 (CLOSED 일 때만)
+     */
+    public synchronized boolean allowsWrites() {
+        return !enabled || state == State.CLOSED;
+    }
+
+    /**
+     * 요청 경로 밖에서 DB 장애를 관찰했을 때 (예: 쓰기 트랜잭션 시작 실패)
+     */
+    public void recordFailure(RuntimeException e) {
+        if (enabled && isDatabaseFailure(e)) {
+            onFailure(e, false);
+        }
+    }
+
+    /**
+     * OPEN 상태에서 대기 시간이 지났으면 연결 검사로 복구 여부 확인 (주기 작업)
+     * 읽기 트래픽이 모두 캐시로 처리되어 DB 를 부르지 않을 때도 회복되도록 하기 위함
+     */
+    public void probeIfDue() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            if (state == State.CLOSED || !probeDue()) {
+                return;
+            }
+        }
+        try {
+            call(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    if (!connection.isValid(probeTimeoutSeconds)) {
+                        throw new DataAccessResourceFailureException("connection validation failed");
+                    }
+                    return null;
+                } catch (SQLException e) {
+                    throw new DataAccessResourceFailureException("probe connection failed", e);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.debug("Database probe failed: {}", e.getMessage());
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && probeDue()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * OPEN 된 뒤 다시 시험하기까지 남은 초 (Retry-After 용)
+     */
+    public synchronized long retryAfterSeconds() {
+        if (state == State.CLOSED) {
+            return 0;
+        }
+        long remainingMs = openedAt + openSeconds * 1000 - slotClock.getClock().millis();
+        return Math.max(1, (remainingMs + 999) / 1000);
+    }
+
+    public static boolean isDatabaseFailure(Throwable e) {
+        // 격벽 연결 몫 초과는 트랜잭션 예외로 감싸여 와도 DB 장애가 아니다.
+        if (findCause(e, BulkheadFullException.class) != null) {
+            return false;
+        }
+        return e instanceof DatabaseUnavailableException
+                || e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    public static <T extends Throwable> T findCause(Throwable e, Class<T> type) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+        }
+        return null;
+    }
+
+    private synchronized boolean acquire() {
+        switch (state) {
+            case CLOSED -> {
+                return false;
+            }
+            case OPEN -> {
+                if (!probeDue()) {
+                    throw new DatabaseUnavailableException(retryAfterSeconds());
+                }
+                state = State.HALF_OPEN;
+                log.info("Database circuit half-open: probing");
+            }
+            case HALF_OPEN -> {
+            }
+        }
+        if (probeInFlight) {
+            throw new DatabaseUnavailableException(retryAfterSeconds());
+        }
+        probeInFlight = true;
+        return true;
+    }
+
+    private synchronized void onSuccess(long elapsedMs, boolean probe) {
+        if (elapsedMs >= slowCallMs) {
+            onFailure(null, probe);
+            return;
+        }
+        consecutiveFailures = 0;
+        if (probe) {
+            probeInFlight = false;
+            state = State.CLOSED;
+            log.info("Database circuit closed");
+        }
+    }
+
+    private synchronized void onFailure(RuntimeException e, boolean probe) {
+        if (probe) {
+            probeInFlight = false;
+            open(e);
+            return;
+        }
+        if (e instanceof DatabaseUnavailableException) {
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open(e);
+        }
+    }
+
+    private void open(RuntimeException cause) {
+        state = State.OPEN;
+        openedAt = slotClock.getClock().millis();
+        log.warn("Database circuit opened after {} consecutive failures (last: {}); retry in {} s",
+                consecutiveFailures, cause != null ? cause.getMessage() : "slow call", openSeconds);
+    }
+
+    private boolean probeDue() {
+        return slotClock.getClock().millis() - openedAt >= openSeconds * 1000;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.ac.hanyang.backend.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.ac.hanyang.backend.exception.DatabaseUnavailableException;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * DB 차단기가 닫혀 있지 않으면 쓰기 요청(POST/PUT/PATCH/DELETE)을 트랜잭션 시작 전에 바로 거절
+ * (연결 풀 대기로 요청 스레드가 묶이지 않도록)
+ */
+public class DatabaseWriteGuardInterceptor implements HandlerInterceptor {
+
+    private final DatabaseCircuitBreaker circuitBreaker;
+
+    public DatabaseWriteGuardInterceptor(DatabaseCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request) && !circuitBreaker.allowsWrites()) {
+            throw new DatabaseUnavailableException(circuitBreaker.retryAfterSeconds());
+        }
+        return true;
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+}
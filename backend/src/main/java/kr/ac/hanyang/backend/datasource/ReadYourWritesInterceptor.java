@@ -0,0 +1,47 @@
+package kr.ac.hanyang.backend.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 사용자가 방금 쓴 데이터를 바로 다시 읽을 수 있도록 보장 (read-your-writes)
+ * 세션에서 쓰기 요청이 성공한 뒤 일정 시간 동안은 해당 세션의 읽기를 primary로 보낸다.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    static final String LAST_WRITE_ATTRIBUTE = "kr.ac.hanyang.backend.datasource.LAST_WRITE_AT";
+
+    private final long windowMillis;
+
+    public ReadYourWritesInterceptor(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute(LAST_WRITE_ATTRIBUTE) instanceof Long lastWriteAt
+                && System.currentTimeMillis() - lastWriteAt < windowMillis) {
+            DataSourceRoutingContext.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DataSourceRoutingContext.clear();
+        if (isWrite(request) && ex == null && response.getStatus() < 400) {
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+            }
+        }
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+}
@@ -0,0 +1,102 @@
+package kr.ac.hanyang.backend.datasource;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 replica로, 나머지는 primary로 보내는 라우팅 DataSource
+ * - replica 지연(lag)이 허용치를 넘거나 복제가 멈추면 해당 replica는 제외되고 primary로 대체된다.
+ * - LazyConnectionDataSourceProxy로 감싸서 사용해야 트랜잭션의 readOnly 플래그가 라우팅 시점에 반영된다.
+ */
+@Log4j2
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final boolean requireReplication;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private volatile List<String> healthyReplicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    long maxLagSeconds, boolean requireReplication) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagSeconds = maxLagSeconds;
+        this.requireReplication = requireReplication;
+        this.healthyReplicas = List.copyOf(replicas.keySet());
+
+        Map<Object, Object> targets = new LinkedHashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || DataSourceRoutingContext.isPrimaryForced()) {
+            return PRIMARY;
+        }
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        int index = Math.floorMod(cursor.getAndIncrement(), candidates.size());
+        return candidates.get(index);
+    }
+
+    /**
+     * 각 replica의 복제 지연을 확인하여 라우팅 대상 목록 갱신
+     */
+    public void refreshReplicaHealth() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> entry : replicas.entrySet()) {
+            Long lag = readLagSeconds(entry.getKey(), entry.getValue());
+            if (lag != null && lag <= maxLagSeconds) {
+                healthy.add(entry.getKey());
+            } else {
+                log.warn("Replica {} excluded from routing (lag={}s, max={}s)", entry.getKey(), lag, maxLagSeconds);
+            }
+        }
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("Healthy replicas changed: {} -> {}", healthyReplicas, healthy);
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    /**
+     * @return 복제 지연(초), 복제가 멈췄거나 접속 불가면 null
+     */
+    private Long readLagSeconds(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!rs.next()) {
+                // 복제 설정이 없는 인스턴스 (로컬 테스트용 두 인스턴스 구성 등)
+                return requireReplication ? null : 0L;
+            }
+            long lag = rs.getLong("Seconds_Behind_Master");
+            return rs.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            log.warn("Replica {} lag check failed: {}", key, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package kr.ac.hanyang.backend.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 샤드(캠퍼스) 키
+ * 비어 있으면 홈 샤드(spring.datasource.*)로 간다.
+ * 트랜잭션은 첫 문장에서 연결을 얻으므로 트랜잭션 시작 전에 지정해야 한다 (ShardRouter 사용)
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 지정한 샤드로 작업을 실행하고 이전 값을 복원
+     */
+    public static <T> T call(String shard, Supplier<T> work) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
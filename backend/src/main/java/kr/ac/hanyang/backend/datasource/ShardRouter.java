@@ -0,0 +1,205 @@
+package kr.ac.hanyang.backend.datasource;
+
+import kr.ac.hanyang.backend.bulkhead.Bulkhead;
+import kr.ac.hanyang.backend.bulkhead.BulkheadContext;
+import kr.ac.hanyang.backend.dto.RoomsCatalog;
+import kr.ac.hanyang.backend.dto.RoomsDTO;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.profiling.QueryProfile;
+import kr.ac.hanyang.backend.profiling.QueryProfiler;
+import kr.ac.hanyang.backend.service.RoomsService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * 예약 데이터의 샤드(캠퍼스) 선택
+ * - 방 하나의 예약/outbox/통계는 그 방 캠퍼스의 샤드에만 있다 → 방을 아는 작업은 forRoom 으로 한 샤드에서 실행
+ * - 사용자 본인 예약, 관리자 목록처럼 방을 모르는 조회만 gather 로 모든 샤드에 병렬 조회 후 합친다.
+ * - 사용자/방/설정(전역 테이블)은 onHome 으로 홈 샤드에서 읽는다.
+ * 샤딩이 꺼져 있으면(app.sharding.enabled=false) 모든 메서드가 현재 스레드에서 그대로 실행된다.
+ */
+@Component
+@Log4j2
+public class ShardRouter {
+
+    private static final String SINGLE = "default";
+
+    private final ObjectProvider<RoomsService> roomsService;
+    private final ReservationMapper reservationMapper;
+    private final boolean sharded;
+    private final String homeShard;
+    private final List<String> shards;
+    private final ExecutorService executor;
+
+    private volatile RoomsCatalog indexedCatalog;
+    private volatile Map<Integer, String> campusByRoom = Map.of();
+
+    public ShardRouter(ObjectProvider<ShardRoutingDataSource> routingDataSource,
+                       ObjectProvider<RoomsService> roomsService, ReservationMapper reservationMapper) {
+        this.roomsService = roomsService;
+        this.reservationMapper = reservationMapper;
+        ShardRoutingDataSource routing = routingDataSource.getIfAvailable();
+        this.sharded = routing != null && routing.getShards().size() > 1;
+        this.homeShard = routing != null ? routing.getHomeShard() : SINGLE;
+        this.shards = routing != null ? routing.getShards() : List.of(SINGLE);
+        this.executor = sharded ? Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "shard-worker");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    /**
+     * 방이 속한 캠퍼스의 샤드 (샤드로 설정되지 않은 캠퍼스는 홈)
+     */
+    public String shardOfRoom(int roomId) {
+        if (!sharded) {
+            return homeShard;
+        }
+        String campus = campusIndex().get(roomId);
+        return campus != null && shards.contains(campus) ? campus : homeShard;
+    }
+
+    /**
+     * 현재 스레드가 홈 샤드에서 실행 중인지 (샤드를 지정하지 않았으면 홈)
+     */
+    public boolean isOnHome() {
+        return !sharded || Objects.equals(currentShard(), homeShard);
+    }
+
+    public <T> T forRoom(int roomId, Supplier<T> work) {
+        return onShard(shardOfRoom(roomId), work);
+    }
+
+    public <T> T onHome(Supplier<T> work) {
+        return onShard(homeShard, work);
+    }
+
+    /**
+     * 지정한 샤드에서 실행
+     * 이미 다른 샤드의 트랜잭션이 진행 중이면 그 연결을 쓸 수 없으므로 별도 스레드(별도 트랜잭션)에서 실행하고 기다린다.
+     */
+    public <T> T onShard(String shard, Supplier<T> work) {
+        if (!sharded || Objects.equals(currentShard(), shard)) {
+            return work.get();
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            Bulkhead bulkhead = BulkheadContext.current();
+            QueryProfile profile = QueryProfiler.current();
+            return await(executor.submit(() -> BulkheadContext.call(bulkhead,
+                    () -> QueryProfiler.call(profile, () -> ShardContext.call(shard, work)))));
+        }
+        return ShardContext.call(shard, work);
+    }
+
+    public void runOnEachShard(Runnable work) {
+        for (String shard : shards) {
+            onShard(shard, () -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 모든 샤드에 같은 조회를 병렬로 실행하고 결과를 이어 붙인다 (순서는 호출자가 다시 정렬)
+     */
+    public <T> List<T> gather(Supplier<List<T>> query) {
+        if (!sharded) {
+            return query.get();
+        }
+        // 작업 스레드도 요청과 같은 격벽의 연결 몫을 쓰고, 실행한 문장은 요청 프로파일에 합산한다.
+        Bulkhead bulkhead = BulkheadContext.current();
+        QueryProfile profile = QueryProfiler.current();
+        List<Future<List<T>>> futures = new ArrayList<>(shards.size());
+        for (String shard : shards) {
+            futures.add(executor.submit(() -> BulkheadContext.call(bulkhead,
+                    () -> QueryProfiler.call(profile, () -> ShardContext.call(shard, query)))));
+        }
+        List<T> merged = new ArrayList<>();
+        for (Future<List<T>> future : futures) {
+            merged.addAll(await(future));
+        }
+        return merged;
+    }
+
+    /**
+     * 예약이 저장된 샤드: id 로 계산한 샤드를 먼저 보고, 없으면(샤딩 이전 예약 등) 모든 샤드에서 찾는다.
+     * 어디에도 없으면 홈 (호출한 서비스가 "예약 없음"으로 처리)
+     */
+    public String shardOfReservation(int reservationId) {
+        if (!sharded) {
+            return homeShard;
+        }
+        String expected = shards.get(Math.floorMod(reservationId - 1, shards.size()));
+        if (onShard(expected, () -> reservationMapper.findById(reservationId)) != null) {
+            return expected;
+        }
+        List<String> found = gather(() -> reservationMapper.findById(reservationId) != null
+                ? List.of(Objects.requireNonNullElse(ShardContext.current(), homeShard)) : List.of());
+        return found.isEmpty() ? homeShard : found.get(0);
+    }
+
+    private String currentShard() {
+        String current = ShardContext.current();
+        return current != null ? current : homeShard;
+    }
+
+    private Map<Integer, String> campusIndex() {
+        RoomsCatalog catalog = roomsService.getObject().getCatalog();
+        if (catalog != indexedCatalog) {
+            Map<Integer, String> index = new HashMap<>();
+            for (RoomsDTO room : catalog.getRooms()) {
+                if (room.getCampus() != null) {
+                    index.put(room.getId(), room.getCampus());
+                }
+            }
+            campusByRoom = index;
+            indexedCatalog = catalog;
+        }
+        return campusByRoom;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 작업이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
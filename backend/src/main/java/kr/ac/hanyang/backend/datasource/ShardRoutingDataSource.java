@@ -0,0 +1,44 @@
+package kr.ac.hanyang.backend.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캠퍼스별 DB 로 보내는 라우팅 DataSource (키: ShardContext)
+ * - 홈 캠퍼스는 spring.datasource.* 로, 사용자/방/설정 같은 전역 테이블도 여기에 있다.
+ * - LazyConnectionDataSourceProxy 로 감싸서 사용해야 트랜잭션 안에서 지정한 샤드가 반영된다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final String homeShard;
+    private final List<String> shards;
+
+    /**
+     * @param shards 홈 캠퍼스를 첫 번째로 하는 캠퍼스 → DataSource (순서가 예약 id 의 샤드 번호)
+     */
+    public ShardRoutingDataSource(Map<String, DataSource> shards) {
+        this.shards = List.copyOf(shards.keySet());
+        this.homeShard = this.shards.get(0);
+        setTargetDataSources(new LinkedHashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(homeShard));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : homeShard;
+    }
+
+    public String getHomeShard() {
+        return homeShard;
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+}
@@ -0,0 +1,60 @@
+package kr.ac.hanyang.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 예약 목록 한 행: 예약 + 예약자(이름/학과/이메일) + 방 이름
+ * 관리자 화면이 사용자/방을 따로 조회하지 않고 한 번의 응답으로 표를 그리기 위함
+ */
+@Getter
+@Setter
+public class AdminReservationView {
+    private int id;
+    private int userId;
+    private int roomId;
+    private LocalDate date;
+    private int startSlot;
+    private int endSlot;
+    private String status;
+    private LocalDateTime checkinTime;
+    private Boolean checkinRequired;
+    private LocalDateTime createdAt;
+
+    private String userName;
+    private String userEmail;
+    private String userDepartment;
+    private String roomName;
+    private String roomCampus;
+
+    /**
+     * @param user 탈퇴 등으로 없으면 null
+     * @param room 방 목록에서 빠졌으면 null
+     */
+    public static AdminReservationView of(Reservation reservation, User user, RoomsDTO room) {
+        AdminReservationView view = new AdminReservationView();
+        view.id = reservation.getId();
+        view.userId = reservation.getUserId();
+        view.roomId = reservation.getRoomId();
+        view.date = reservation.getDate();
+        view.startSlot = reservation.getStartSlot();
+        view.endSlot = reservation.getEndSlot();
+        view.status = reservation.getStatus();
+        view.checkinTime = reservation.getCheckinTime();
+        view.checkinRequired = reservation.getCheckinRequired();
+        view.createdAt = reservation.getCreatedAt();
+        if (user != null) {
+            view.userName = user.getName();
+            view.userEmail = user.getEmail();
+            view.userDepartment = user.getDepartment();
+        }
+        if (room != null) {
+            view.roomName = room.getName();
+            view.roomCampus = room.getCampus();
+        }
+        return view;
+    }
+}
@@ -3,8 +3,12 @@
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 공통 오류 응답 본문 (code: ErrorCode 이름, message: 사용자에게 보여 줄 문구)
+ */
 @Getter
 @AllArgsConstructor
 public class ErrorResponse {
-    private String message;
+    private final String code;
+    private final String message;
 }
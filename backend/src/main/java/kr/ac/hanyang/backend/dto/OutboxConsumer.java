@@ -0,0 +1,17 @@
+package kr.ac.hanyang.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * outbox 구독자별 전달 위치 (reservation_outbox_consumer)
+ */
+@Getter
+@Setter
+public class OutboxConsumer {
+    private String consumer;
+    private long lastSeq;
+    private int attempts;
+    // 재시도 대기 중이 아니면 true (DB 시각 기준으로 계산)
+    private boolean ready;
+}
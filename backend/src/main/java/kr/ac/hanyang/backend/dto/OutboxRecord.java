@@ -0,0 +1,18 @@
+package kr.ac.hanyang.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class OutboxRecord {
+    private long id;
+    private int reservationId;
+    private String eventType;
+    private String payload;
+    private LocalDateTime createdAt;
+    private Long seq;
+    private LocalDateTime dispatchedAt;
+}
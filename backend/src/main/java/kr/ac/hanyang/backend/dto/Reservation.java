@@ -18,4 +18,6 @@ public class Reservation {
     private LocalDateTime checkinTime;
     private Boolean checkinRequired;  // 체크인 필요 여부
     private LocalDateTime createdAt;
+    private long version;  // 변경 버전 (델타 동기화 조회에서만 채워짐)
+    private LocalDateTime deletedAt;  // 사용자/관리자 취소 tombstone 이면 취소 시각
 }
@@ -0,0 +1,22 @@
+package kr.ac.hanyang.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 이용률 통계 롤업 한 행 (단위: 30분 슬롯 수)
+ * 조회 범위에 따라 statDate / hourOfDay 는 null 일 수 있음
+ */
+@Getter
+@Setter
+public class ReservationStats {
+    private LocalDate statDate;
+    private int roomId;
+    private Integer hourOfDay;
+    private long bookedSlots;
+    private long checkedInSlots;
+    private long noShowSlots;
+    private long cancelledSlots;
+}
@@ -0,0 +1,25 @@
+package kr.ac.hanyang.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 방 문 앞 태블릿용 현재 사용 현황
+ */
+@Getter
+@AllArgsConstructor
+public class RoomStatusDTO {
+    private int roomId;
+    private LocalDate date;
+    private int slot;
+    private String status;  // AVAILABLE, RESERVED, CHECKED_IN
+    private Integer reservationId;
+    private Integer startSlot;
+    private Integer endSlot;
+
+    public static RoomStatusDTO available(int roomId, LocalDate date, int slot) {
+        return new RoomStatusDTO(roomId, date, slot, "AVAILABLE", null, null, null);
+    }
+}
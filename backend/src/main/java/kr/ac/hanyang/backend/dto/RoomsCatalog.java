@@ -0,0 +1,27 @@
+package kr.ac.hanyang.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 방 목록 스냅샷 (불변)
+ * 응답 본문을 미리 직렬화/압축해 두어 요청마다 Jackson 직렬화를 하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class RoomsCatalog {
+    private final long version;
+    private final List<RoomsDTO> rooms;
+    private final byte[] json;
+    private final byte[] gzippedJson;
+    private final String etag;
+
+    /**
+     * gzip 본문의 ETag: 본문 바이트가 다르므로 강한 ETag 를 구분한다 (캐시가 두 표현을 섞지 않도록)
+     */
+    public String getGzipEtag() {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+}
@@ -11,4 +11,11 @@ public class RoomsDTO {
     private int id;
     private String name;
     private String type;
-}
\ No newline at end of file
+    private String campus;
+    // 수용 인원
+    private int capacity;
+    // 비품 태그, 쉼표 구분 (예: projector,whiteboard)
+    private String equipment;
+    // 휠체어 접근 가능
+    private boolean accessible;
+}
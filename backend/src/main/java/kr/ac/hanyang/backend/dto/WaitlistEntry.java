@@ -0,0 +1,25 @@
+package kr.ac.hanyang.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class WaitlistEntry {
+    private long id;
+    private int userId;
+    private Integer roomId;      // 특정 방 대기
+    private String roomType;     // 유형 대기 (roomId 가 없을 때)
+    private LocalDate date;
+    private int startSlot;
+    private int endSlot;
+    private boolean autoBook;    // true: 자동 예약, false: 임시 배정 후 수락
+    private String status;       // WAITING, OFFERED, BOOKED, EXPIRED, CANCELLED
+    private Integer offeredRoomId;
+    private LocalDateTime holdExpiresAt;
+    private Integer reservationId;
+    private LocalDateTime createdAt;
+}
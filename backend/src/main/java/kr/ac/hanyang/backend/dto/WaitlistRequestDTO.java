@@ -0,0 +1,18 @@
+package kr.ac.hanyang.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class WaitlistRequestDTO {
+    private int userId;
+    private Integer roomId;
+    private String roomType;
+    private LocalDate date;
+    private int startSlot;
+    private int endSlot;
+    private boolean autoBook = true;
+}
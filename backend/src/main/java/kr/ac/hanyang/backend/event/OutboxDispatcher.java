@@ -0,0 +1,278 @@
+package kr.ac.hanyang.backend.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.OutboxConsumer;
+import kr.ac.hanyang.backend.dto.OutboxRecord;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.mapper.OutboxMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * outbox 를 읽어 구독자에게 전달하는 디스패처 (인스턴스마다 하나)
+ * - 순번: 임대(reservation_outbox_lease)를 가진 리더 인스턴스 하나만 커밋된 이벤트에 빈 번호 없는 순번(seq)을 붙인다.
+ *   커밋 순서와 id 순서가 달라도 순번은 보이게 된 순서로 붙으므로, 순번 위치만 기억하면 빠뜨리는 이벤트가 없다.
+ * - 전달: 구독자마다 전달 위치(reservation_outbox_consumer)를 따로 두고 순번 순으로 전달한다.
+ *   - NODE 구독자(메모리 읽기 모델)는 인스턴스마다 위치가 있어 모든 인스턴스가 모든 이벤트를 받는다.
+ *   - CLUSTER 구독자는 위치가 하나뿐이고 리더만 전달한다.
+ * - 구독자마다 전용 레인(단일 스레드)에서 전달하므로 한 구독자가 느리거나 실패해도 다른 구독자는 계속 받는다.
+ *   실패하면 그 구독자만 지수 백오프(next_attempt_at) 뒤 같은 이벤트부터 다시 받고(at-least-once),
+ *   max-attempts 를 넘기면 그 이벤트를 건너뛴다. 리더가 바뀌는 사이에는 CLUSTER 구독자가 같은 이벤트를 다시 받을 수 있다.
+ * - 샤딩 시 outbox/임대/위치는 샤드마다 있으므로 샤드를 차례로 처리한다.
+ */
+@Component
+@Log4j2
+public class OutboxDispatcher {
+
+    private final OutboxMapper outboxMapper;
+    private final ObjectMapper objectMapper;
+    private final OutboxSignal outboxSignal;
+    private final List<ReservationEventSubscriber> subscribers;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.poll-interval-ms:500}")
+    private long pollIntervalMs;
+
+    @Value("${app.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${app.outbox.max-retry-backoff-ms:60000}")
+    private long maxRetryBackoffMs;
+
+    @Value("${app.outbox.lease-ms:10000}")
+    private long leaseMs;
+
+    @Value("${app.outbox.node-id:}")
+    private String nodeId;
+
+    private final List<Consumer> consumers = new ArrayList<>();
+    private final Map<String, AtomicBoolean> running = new ConcurrentHashMap<>();
+    private final Set<String> ensured = ConcurrentHashMap.newKeySet();
+    private Thread dispatcherThread;
+    private volatile boolean started;
+
+    /**
+     * 구독자 하나의 전달 단위: 위치 키와 전용 레인
+     */
+    record Consumer(String key, ReservationEventSubscriber subscriber, ExecutorService lane) {
+    }
+
+    public OutboxDispatcher(OutboxMapper outboxMapper, ObjectMapper objectMapper, OutboxSignal outboxSignal,
+                            List<ReservationEventSubscriber> subscribers, ShardRouter shardRouter,
+                            PlatformTransactionManager transactionManager) {
+        this.outboxMapper = outboxMapper;
+        this.objectMapper = objectMapper;
+        this.outboxSignal = outboxSignal;
+        this.subscribers = subscribers;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = localHostName();
+        }
+        for (ReservationEventSubscriber subscriber : subscribers) {
+            String name = ClassUtils.getUserClass(subscriber).getSimpleName();
+            String key = subscriber.scope() == ReservationEventSubscriber.Scope.CLUSTER ? name : nodeId + "/" + name;
+            ExecutorService lane = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "outbox-" + name));
+            consumers.add(new Consumer(key, subscriber, lane));
+        }
+        started = true;
+        dispatcherThread = new Thread(this::runLoop, "outbox-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+        log.info("Outbox dispatcher started: node {}, {} subscribers", nodeId, consumers.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        started = false;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+        for (Consumer consumer : consumers) {
+            consumer.lane().shutdown();
+        }
+    }
+
+    private void runLoop() {
+        while (started) {
+            try {
+                // 순번을 한 배치 가득 붙였으면 바로 이어서, 아니면 새 기록 신호나 폴링 간격까지 쉰다
+                boolean more = false;
+                for (String shard : shardRouter.shards()) {
+                    more |= shardRouter.onShard(shard, () -> poll(shard));
+                }
+                if (!more) {
+                    outboxSignal.await(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Outbox dispatch failed", e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 샤드: 리더면 순번을 붙이고, 이 인스턴스가 맡은 구독자 레인을 깨운다
+     *
+     * @return 순번을 붙일 이벤트가 더 남았을 수 있으면 true
+     */
+    private boolean poll(String shard) {
+        boolean leader = outboxMapper.tryAcquireLease(nodeId, leaseMs) == 1;
+        int sequenced = leader ? sequence() : 0;
+        for (Consumer consumer : consumers) {
+            if (leader || consumer.subscriber().scope() == ReservationEventSubscriber.Scope.NODE) {
+                kick(shard, consumer);
+            }
+        }
+        return sequenced == batchSize;
+    }
+
+    /**
+     * 커밋된 이벤트에 순번을 붙인다 (임대 행 잠금으로 직렬화되므로 리더가 겹쳐도 같은 순번은 생기지 않는다)
+     *
+     * @return 순번을 붙인 이벤트 수
+     */
+    int sequence() {
+        Integer sequenced = transactionTemplate.execute(status -> {
+            long lastSeq = outboxMapper.lockLastSeq();
+            List<Long> ids = outboxMapper.lockUnsequenced(batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            outboxMapper.assignSeq(ids, lastSeq);
+            outboxMapper.updateLastSeq(lastSeq + ids.size());
+            return ids.size();
+        });
+        return sequenced != null ? sequenced : 0;
+    }
+
+    /**
+     * 구독자 레인에서 전달 시작 (이미 전달 중이면 그대로 둠)
+     */
+    private void kick(String shard, Consumer consumer) {
+        AtomicBoolean busy = running.computeIfAbsent(consumer.key() + "@" + shard, key -> new AtomicBoolean());
+        if (!busy.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            consumer.lane().execute(() -> {
+                try {
+                    shardRouter.onShard(shard, () -> {
+                        // 배치를 가득 읽은 동안은 쉬지 않고 이어서 전달
+                        int read;
+                        do {
+                            read = deliver(shard, consumer.key(), consumer.subscriber());
+                        } while (started && read == batchSize);
+                        return null;
+                    });
+                } catch (Exception e) {
+                    log.error("Outbox delivery to {} failed", consumer.key(), e);
+                } finally {
+                    busy.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            busy.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 구독자 하나에 전달 위치 다음의 이벤트를 순번 순으로 전달 (현재 샤드)
+     * 실패하면 그 자리에서 멈추고 위치와 실패를 기록해 백오프 뒤 같은 이벤트부터 다시 전달한다.
+     *
+     * @return 이번에 읽은 이벤트 수 (배치 크기와 같으면 더 있을 수 있음)
+     */
+    int deliver(String shard, String consumer, ReservationEventSubscriber subscriber) {
+        if (ensured.add(consumer + "@" + shard)) {
+            outboxMapper.ensureConsumer(consumer);
+        }
+        OutboxConsumer position = outboxMapper.findConsumer(consumer);
+        if (position == null || !position.isReady()) {
+            return 0;
+        }
+        List<OutboxRecord> batch = outboxMapper.findAfter(position.getLastSeq(), batchSize);
+        long lastSeq = position.getLastSeq();
+        int attempts = position.getAttempts();
+        for (OutboxRecord record : batch) {
+            try {
+                subscriber.onReservationEvent(toEvent(record));
+            } catch (Exception e) {
+                if (attempts + 1 < maxAttempts) {
+                    log.warn("Outbox event {} delivery to {} failed (attempt {}): {}",
+                            record.getId(), consumer, attempts + 1, e.getMessage());
+                    outboxMapper.recordConsumerFailure(consumer, lastSeq, retryBackoffMs, maxRetryBackoffMs);
+                    return 0;
+                }
+                log.error("Outbox event {} ({}, reservation {}) dropped for {} after {} attempts",
+                        record.getId(), record.getEventType(), record.getReservationId(), consumer, maxAttempts, e);
+            }
+            lastSeq = record.getSeq();
+            attempts = 0;
+        }
+        if (lastSeq != position.getLastSeq()) {
+            outboxMapper.advanceConsumer(consumer, lastSeq);
+        }
+        return batch.size();
+    }
+
+    private ReservationEvent toEvent(OutboxRecord record) throws Exception {
+        return new ReservationEvent(record.getId(), ReservationEventType.valueOf(record.getEventType()),
+                objectMapper.readValue(record.getPayload(), Reservation.class),
+                record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now());
+    }
+
+    /**
+     * 순번을 붙인 뒤 보관 기간이 지난 이벤트 정리
+     */
+    public int purgeDispatched(LocalDateTime before) {
+        return outboxMapper.deleteDispatchedBefore(before);
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("app.outbox.node-id 를 지정해야 합니다.", e);
+        }
+    }
+}
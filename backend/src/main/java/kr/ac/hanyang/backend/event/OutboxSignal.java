@@ -0,0 +1,27 @@
+package kr.ac.hanyang.backend.event;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox 기록 커밋 → 디스패처 깨우기 (폴링 간격을 기다리지 않도록)
+ */
+@Component
+public class OutboxSignal {
+
+    private final Semaphore permits = new Semaphore(0);
+
+    public void notifyWritten() {
+        if (permits.availablePermits() == 0) {
+            permits.release();
+        }
+    }
+
+    public void await(long timeoutMillis) throws InterruptedException {
+        if (permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            permits.drainPermits();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package kr.ac.hanyang.backend.event;
+
+import kr.ac.hanyang.backend.dto.Reservation;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 에서 읽어 구독자에게 전달하는 예약 상태 변경 이벤트
+ *
+ * @param id          outbox id (예약별로 단조 증가, 중복 전달 판별에 사용 가능)
+ * @param reservation 변경 시점의 예약
+ */
+public record ReservationEvent(long id, ReservationEventType type, Reservation reservation, LocalDateTime createdAt) {
+}
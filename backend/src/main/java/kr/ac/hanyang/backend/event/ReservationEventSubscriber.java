@@ -0,0 +1,25 @@
+package kr.ac.hanyang.backend.event;
+
+/**
+ * 예약 상태 변경 구독자
+ * 전달 계약 (OutboxDispatcher):
+ * - 최소 한 번(at-least-once): 실패 후 재시도, 재시작, 리더 교체 때 같은 이벤트를 다시 받을 수 있으므로
+ *   같은 이벤트(ReservationEvent.id)를 다시 받아도 결과가 같도록(멱등) 구현해야 한다.
+ * - 구독자마다 outbox 순번 순서대로 받는다 (같은 예약의 이벤트는 상태 변경 순서대로).
+ * - 예외를 던지면 그 구독자만 백오프 뒤 같은 이벤트부터 다시 받는다. 다른 구독자의 전달에는 영향이 없고,
+ *   app.outbox.max-attempts 번 실패하면 그 이벤트는 건너뛴다.
+ * - 범위: NODE 는 인스턴스마다 모든 이벤트를 받고(메모리 캐시/인덱스 같은 인스턴스별 상태),
+ *   CLUSTER 는 클러스터 전체에서 한 인스턴스(리더)만 받는다(대기열 자동 예약처럼 한 번만 실행할 작업).
+ */
+public interface ReservationEventSubscriber {
+
+    enum Scope {
+        NODE, CLUSTER
+    }
+
+    void onReservationEvent(ReservationEvent event);
+
+    default Scope scope() {
+        return Scope.NODE;
+    }
+}
@@ -0,0 +1,8 @@
+package kr.ac.hanyang.backend.event;
+
+public enum ReservationEventType {
+    CREATED,
+    CANCELLED,   // 사용자/관리자 취소, 관리자 일괄 취소 (tombstone)
+    CHECKED_IN,
+    NO_SHOW      // 체크인 마감 초과로 자동 취소 (상태 CANCELLED)
+}
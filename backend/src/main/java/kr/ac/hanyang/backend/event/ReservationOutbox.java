@@ -0,0 +1,77 @@
+package kr.ac.hanyang.backend.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.hanyang.backend.dto.OutboxRecord;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.mapper.OutboxMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 상태 변경을 호출한 트랜잭션 안에서 outbox 에 기록
+ * 상태 변경이 롤백되면 이벤트도 함께 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationOutbox {
+
+    // 일괄 기록 시 한 INSERT 문에 넣는 최대 행 수
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final OutboxMapper outboxMapper;
+    private final ObjectMapper objectMapper;
+    private final OutboxSignal outboxSignal;
+
+    public void record(ReservationEventType type, Reservation reservation) {
+        outboxMapper.insert(toRecord(type, reservation));
+        signalAfterCommit();
+    }
+
+    /**
+     * 같은 종류의 이벤트 여러 건을 묶어 기록 (관리자 일괄 취소)
+     */
+    public void recordAll(ReservationEventType type, List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        List<OutboxRecord> records = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            records.add(toRecord(type, reservation));
+        }
+        for (int i = 0; i < records.size(); i += INSERT_BATCH_SIZE) {
+            outboxMapper.insertAll(records.subList(i, Math.min(i + INSERT_BATCH_SIZE, records.size())));
+        }
+        signalAfterCommit();
+    }
+
+    private OutboxRecord toRecord(ReservationEventType type, Reservation reservation) {
+        OutboxRecord record = new OutboxRecord();
+        record.setReservationId(reservation.getId());
+        record.setEventType(type.name());
+        try {
+            record.setPayload(objectMapper.writeValueAsString(reservation));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload 직렬화 실패", e);
+        }
+        return record;
+    }
+
+    private void signalAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxSignal.notifyWritten();
+                }
+            });
+        } else {
+            outboxSignal.notifyWritten();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package kr.ac.hanyang.backend.event;
+
+import java.time.LocalDate;
+
+/**
+ * 취소/노쇼로 방의 슬롯 구간이 비었음을 알리는 이벤트
+ */
+public record SlotsFreedEvent(int roomId, LocalDate date, int startSlot, int endSlot) {
+}
@@ -0,0 +1,20 @@
+package kr.ac.hanyang.backend.exception;
+
+/**
+ * 요청 종류별 동시 실행/DB 연결 한도를 넘어 대기 없이(또는 대기 시간 초과로) 거절할 때
+ * GlobalExceptionHandler 에서 503 + Retry-After. DB 장애가 아니므로 차단기에는 반영하지 않는다.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkhead;
+
+    public BulkheadFullException(String bulkhead) {
+        // 과부하 때 쏟아지는 거절이므로 스택 트레이스를 채우지 않음
+        super(ErrorCode.OVERLOADED.getMessage(), null, false, false);
+        this.bulkhead = bulkhead;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+}
@@ -0,0 +1,13 @@
+package kr.ac.hanyang.backend.exception;
+
+/**
+ * 체크인 마감이 지나 예약이 노쇼로 취소됨
+ * 취소(상태 변경, 통계, outbox)는 커밋되어야 하므로 CheckinService.checkin 은 이 예외로 롤백하지 않는다.
+ * 응답은 다른 체크인 실패와 같이 400 + 메시지 (IllegalArgumentException 처리 경로)
+ */
+public class CheckinExpiredException extends IllegalArgumentException {
+
+    public CheckinExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package kr.ac.hanyang.backend.exception;
+
+/**
+ * DB 차단기가 열려 있어 호출하지 않고 바로 실패시킬 때 (GlobalExceptionHandler 에서 503 + Retry-After)
+ */
+public class DatabaseUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public DatabaseUnavailableException(long retryAfterSeconds) {
+        super("데이터베이스 응답이 지연되어 잠시 요청을 처리할 수 없습니다. " + retryAfterSeconds + "초 후 다시 시도해 주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,65 @@
+package kr.ac.hanyang.backend.exception;
+
+import kr.ac.hanyang.backend.dto.ErrorResponse;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 오류 응답 코드
+ * 응답 본문(code + message)은 코드마다 미리 만들어 두고 그대로 내보낸다 (거절 경로에서 문자열/객체 생성 없음)
+ * 클라이언트는 message 를 그대로 보여 주고, 분기가 필요하면 code 를 본다.
+ */
+public enum ErrorCode {
+
+    // 예약 정책 위반
+    OUT_OF_RANGE(HttpStatus.CONFLICT, "예약은 오늘부터 6일 뒤까지만 가능합니다."),
+    OUT_OF_HOURS(HttpStatus.CONFLICT, "운영 시간 밖의 예약입니다. 예약 가능 시간을 확인해 주세요."),
+    QUOTA_EXCEEDED(HttpStatus.CONFLICT, "하루 예약 가능 시간을 초과했습니다."),
+    SLOT_HELD(HttpStatus.CONFLICT, "대기자에게 임시 배정된 시간입니다. 잠시 후 다시 시도해 주세요."),
+    SLOT_TAKEN(HttpStatus.CONFLICT, "선택하신 시간에 이미 다른 사용자의 예약이 있습니다."),
+
+    // 예약/대기 상태
+    RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예약을 찾을 수 없습니다."),
+    NOT_OWNER(HttpStatus.FORBIDDEN, "본인의 예약/대기 요청만 변경할 수 있습니다."),
+    NOT_CANCELLABLE(HttpStatus.CONFLICT, "이미 취소되었거나 완료된 예약입니다."),
+    WAITLIST_NOT_FOUND(HttpStatus.NOT_FOUND, "대기 요청을 찾을 수 없습니다."),
+    WAITLIST_CLOSED(HttpStatus.CONFLICT, "이미 처리된 대기 요청입니다."),
+    HOLD_EXPIRED(HttpStatus.CONFLICT, "임시 배정이 없거나 만료되었습니다."),
+
+    // 요청/시스템
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    DATABASE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "데이터베이스 응답이 지연되어 잠시 요청을 처리할 수 없습니다."),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "처리 중 오류가 발생했습니다. 잠시 후 다시 시도해 주세요.");
+
+    private final HttpStatus status;
+    private final String message;
+    private final ErrorResponse body;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        this.body = new ErrorResponse(name(), message);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 기본 메시지 응답 본문 (불변, 공유)
+     */
+    public ErrorResponse getBody() {
+        return body;
+    }
+
+    /**
+     * 상세 메시지 응답 본문 (드문 경로용)
+     */
+    public ErrorResponse body(String detail) {
+        return detail == null || detail.equals(message) ? body : new ErrorResponse(name(), detail);
+    }
+}
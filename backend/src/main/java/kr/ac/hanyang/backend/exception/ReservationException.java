@@ -1,11 +1,45 @@
 package kr.ac.hanyang.backend.exception;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import java.util.EnumMap;
+import java.util.Map;
 
-// @ResponseStatus(HttpStatus.CONFLICT) // Now handled by GlobalExceptionHandler
+/**
+ * 예약/대기 정책 위반 (GlobalExceptionHandler 에서 코드별 상태 + 미리 만든 본문으로 응답)
+ * 예상된 거절이므로 스택 트레이스를 채우지 않는다. 몰리는 시간대의 거절은 of(code) 의 공유 인스턴스를 던져
+ * 예외 생성/메시지 포맷 비용 없이 처리한다 (스택과 suppressed 가 없어 공유해도 상태가 바뀌지 않음).
+ */
 public class ReservationException extends RuntimeException {
-    public ReservationException(String message) {
-        super(message);
+
+    private static final Map<ErrorCode, ReservationException> SHARED = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            SHARED.put(code, new ReservationException(code));
+        }
+    }
+
+    private final ErrorCode code;
+
+    public ReservationException(ErrorCode code) {
+        this(code, code.getMessage());
+    }
+
+    /**
+     * 상세 메시지가 필요한 드문 경로용
+     */
+    public ReservationException(ErrorCode code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+
+    /**
+     * 코드별 공유 인스턴스 (기본 메시지)
+     */
+    public static ReservationException of(ErrorCode code) {
+        return SHARED.get(code);
+    }
+
+    public ErrorCode getCode() {
+        return code;
     }
 }
@@ -0,0 +1,115 @@
+package kr.ac.hanyang.backend.journal;
+
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.zip.CRC32;
+
+/**
+ * 저널의 고정 길이(40바이트) 레코드
+ * <pre>
+ * eventId(8) type(1) startSlot(1) endSlot(1) reserved(1) reservationId(4) userId(4) roomId(4)
+ * epochDay(4) recordedAt epochMilli(8) crc32(4)
+ * </pre>
+ * 세그먼트는 0 으로 채워져 있으므로 eventId 가 0 이면 아직 쓰이지 않은 자리, CRC 가 맞지 않으면 쓰다 끊긴 레코드로 본다.
+ *
+ * @param eventId outbox id (DB 와 대조해 만든 레코드는 -1)
+ */
+public record JournalRecord(long eventId, ReservationEventType type, int reservationId, int userId, int roomId,
+                            LocalDate date, int startSlot, int endSlot, long recordedAt) {
+
+    public static final int SIZE = 40;
+    private static final int PAYLOAD_SIZE = SIZE - Integer.BYTES;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    public static JournalRecord of(long eventId, ReservationEventType type, Reservation reservation) {
+        return new JournalRecord(eventId, type, reservation.getId(), reservation.getUserId(), reservation.getRoomId(),
+                reservation.getDate(), reservation.getStartSlot(), reservation.getEndSlot(), System.currentTimeMillis());
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putLong(eventId);
+        buffer.put(typeCode(type));
+        buffer.put((byte) startSlot);
+        buffer.put((byte) endSlot);
+        buffer.put((byte) 0);
+        buffer.putInt(reservationId);
+        buffer.putInt(userId);
+        buffer.putInt(roomId);
+        buffer.putInt((int) date.toEpochDay());
+        buffer.putLong(recordedAt);
+        buffer.putInt(crc(buffer, start));
+    }
+
+    /**
+     * 현재 위치에서 레코드 하나를 읽는다. 빈 자리이거나 손상된 레코드면 null (위치는 레코드 크기만큼 이동)
+     */
+    public static JournalRecord readFrom(ByteBuffer buffer) {
+        int start = buffer.position();
+        long eventId = buffer.getLong();
+        byte type = buffer.get();
+        int startSlot = buffer.get();
+        int endSlot = buffer.get();
+        buffer.get();
+        int reservationId = buffer.getInt();
+        int userId = buffer.getInt();
+        int roomId = buffer.getInt();
+        int epochDay = buffer.getInt();
+        long recordedAt = buffer.getLong();
+        int storedCrc = buffer.getInt();
+        if (eventId == 0 || type == 0 || storedCrc != crc(buffer, start)) {
+            return null;
+        }
+        return new JournalRecord(eventId, typeOf(type), reservationId, userId, roomId,
+                LocalDate.ofEpochDay(epochDay), startSlot, endSlot, recordedAt);
+    }
+
+    public Reservation toReservation() {
+        Reservation reservation = new Reservation();
+        reservation.setId(reservationId);
+        reservation.setUserId(userId);
+        reservation.setRoomId(roomId);
+        reservation.setDate(date);
+        reservation.setStartSlot(startSlot);
+        reservation.setEndSlot(endSlot);
+        reservation.setStatus(type == ReservationEventType.CHECKED_IN ? "CHECKED_IN"
+                : type == ReservationEventType.CREATED ? "RESERVED" : "CANCELLED");
+        return reservation;
+    }
+
+    public LocalDateTime recordedAtTime() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(recordedAt), ZONE);
+    }
+
+    private static int crc(ByteBuffer buffer, int start) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(start + PAYLOAD_SIZE).position(start));
+        return (int) crc.getValue();
+    }
+
+    // enum 순서가 바뀌어도 기존 파일을 읽을 수 있도록 코드를 고정
+    private static byte typeCode(ReservationEventType type) {
+        return switch (type) {
+            case CREATED -> 1;
+            case CANCELLED -> 2;
+            case CHECKED_IN -> 3;
+            case NO_SHOW -> 4;
+        };
+    }
+
+    private static ReservationEventType typeOf(byte code) {
+        return switch (code) {
+            case 1 -> ReservationEventType.CREATED;
+            case 2 -> ReservationEventType.CANCELLED;
+            case 3 -> ReservationEventType.CHECKED_IN;
+            case 4 -> ReservationEventType.NO_SHOW;
+            default -> throw new IllegalStateException("Unknown journal record type: " + code);
+        };
+    }
+}
@@ -0,0 +1,499 @@
+package kr.ac.hanyang.backend.journal;
+
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.ReservationEvent;
+import kr.ac.hanyang.backend.event.ReservationEventSubscriber;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 예약 상태 변경(생성/취소/체크인/노쇼)을 append-only 로 기록하는 메모리 맵 저널
+ * - outbox 구독자로 커밋된 변경만 기록하며, 고정 길이 레코드를 미리 할당한 세그먼트 파일에 이어 쓴다.
+ * - 이번 주 활성 예약 상태를 메모리에 유지하고 주기적으로 스냅샷을 남긴다.
+ *   재시작 시 최신 스냅샷 + 이후 저널만 읽어 복원하고, 기동 후 DB 와 대조해 차이를 바로잡는다.
+ * - 사용자/관리자 취소는 행을 지우지 않고 CANCELLED + deleted_at(tombstone) 으로 남긴다.
+ *   DB 에는 마지막 상태만 있으므로 중간 변경과 시각은 저널이 예약 이력(감사 기록)으로 보관한다.
+ * 매핑된 페이지는 프로세스가 죽어도 OS 가 디스크로 내보내며, 스냅샷 시점에만 force() 로 디스크 반영을 보장한다.
+ */
+@Component
+@Log4j2
+public class ReservationJournal implements ReservationEventSubscriber {
+
+    private static final int SNAPSHOT_MAGIC = 0x524A534E;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_SIZE = Integer.BYTES * 6;
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private final ReservationMapper reservationMapper;
+    private final ShardRouter shardRouter;
+    private final SlotClock slotClock;
+
+    @Value("${app.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.journal.dir:./data/journal}")
+    private String directory;
+
+    @Value("${app.journal.segment-size-mb:16}")
+    private int segmentSizeMb;
+
+    @Value("${app.journal.retention-days:90}")
+    private int retentionDays;
+
+    private Path dir;
+    private int segmentSize;
+
+    // 이번 주 활성 예약 (key: reservationId, value: 마지막 CREATED/CHECKED_IN 레코드)
+    private final Map<Integer, JournalRecord> state = new HashMap<>();
+    private LocalDate weekStart;
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private long appendedSinceSnapshot;
+    private volatile boolean open;
+    private volatile boolean restored;
+
+    public ReservationJournal(ReservationMapper reservationMapper, ShardRouter shardRouter, SlotClock slotClock) {
+        this.reservationMapper = reservationMapper;
+        this.shardRouter = shardRouter;
+        this.slotClock = slotClock;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dir = Paths.get(directory);
+            segmentSize = Math.max(1, segmentSizeMb) * 1024 * 1024 / JournalRecord.SIZE * JournalRecord.SIZE;
+            Files.createDirectories(dir);
+            restore();
+            open = true;
+        } catch (Exception e) {
+            log.error("Reservation journal disabled: cannot open {}", directory, e);
+            closeQuietly();
+        }
+    }
+
+    /**
+     * 기동 후 DB 와 대조 (복원한 상태가 틀렸으면 DB 기준으로 교체)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!open) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                reconcile();
+            } catch (Exception e) {
+                log.error("Journal reconcile failed", e);
+            }
+        }, "journal-reconcile");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (!open) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (Exception e) {
+            log.warn("Final journal snapshot failed", e);
+        }
+        open = false;
+        closeQuietly();
+    }
+
+    @Override
+    public void onReservationEvent(ReservationEvent event) {
+        if (!open) {
+            return;
+        }
+        append(JournalRecord.of(event.id(), event.type(), event.reservation()));
+    }
+
+    public boolean isRestored() {
+        return restored;
+    }
+
+    /**
+     * 복원된 상태에서 해당 날짜의 활성 예약 (복원 전이거나 이번 주 밖의 날짜면 null)
+     */
+    public synchronized List<Reservation> activeOn(LocalDate date) {
+        if (!restored || weekStart == null || date.isBefore(weekStart) || !date.isBefore(weekStart.plusDays(7))) {
+            return null;
+        }
+        return state.values().stream()
+                .filter(r -> r.date().equals(date))
+                .map(JournalRecord::toReservation)
+                .toList();
+    }
+
+    /**
+     * 예약 하나의 전체 변경 이력 (삭제된 예약 포함, 관리자 감사용)
+     * 모든 세그먼트를 순차로 읽으므로 자주 부르는 용도는 아니다.
+     */
+    public List<JournalRecord> history(int reservationId) throws IOException {
+        if (!open) {
+            return List.of();
+        }
+        List<JournalRecord> records = new ArrayList<>();
+        for (int index : segmentIndexes()) {
+            readSegment(index, 0, record -> {
+                if (record.reservationId() == reservationId) {
+                    records.add(record);
+                }
+            });
+        }
+        return records;
+    }
+
+    /**
+     * 현재 상태와 저널 위치를 스냅샷으로 기록 (임시 파일에 쓴 뒤 원자적으로 교체)
+     * 스냅샷보다 오래되고 보관 기간이 지난 세그먼트는 삭제한다.
+     */
+    public synchronized void snapshot() throws IOException {
+        if (!open) {
+            return;
+        }
+        rollWeekIfNeeded();
+        // 주가 바뀐 뒤 reconcile 전의 상태는 불완전하므로 스냅샷으로 남기지 않는다.
+        if (!restored || appendedSinceSnapshot == 0) {
+            return;
+        }
+        segment.force();
+
+        ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE + state.size() * JournalRecord.SIZE);
+        buffer.putInt(SNAPSHOT_MAGIC);
+        buffer.putInt(SNAPSHOT_VERSION);
+        buffer.putInt((int) weekStart.toEpochDay());
+        buffer.putInt(segmentIndex);
+        buffer.putInt(segment.position());
+        buffer.putInt(state.size());
+        for (JournalRecord record : state.values()) {
+            record.writeTo(buffer);
+        }
+        buffer.flip();
+
+        Path tmp = dir.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(tmp, dir.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        appendedSinceSnapshot = 0;
+        log.debug("Journal snapshot written: {} reservations at segment {} offset {}",
+                state.size(), segmentIndex, segment.position());
+
+        deleteExpiredSegments();
+    }
+
+    /**
+     * 이번 주 예약을 DB 에서 다시 읽어 상태를 교체한다.
+     * 조회하는 동안 기록된 저널은 조회 결과 위에 다시 적용하므로 그 사이의 변경도 잃지 않는다.
+     * tombstone(deleted_at) 이나 CANCELLED 행은 취소된 예약으로 보고, 그 사이 저널의 CREATED/CHECKED_IN 이 되살리지 않게 한다.
+     * (취소는 되돌릴 수 없으므로 DB 에서 취소로 보이면 그 이전 변경이 늦게 기록된 것)
+     */
+    public void reconcile() throws IOException {
+        if (!open) {
+            return;
+        }
+        LocalDate start = currentWeekStart();
+        int fromSegment;
+        int fromOffset;
+        synchronized (this) {
+            fromSegment = segmentIndex;
+            fromOffset = segment.position();
+        }
+
+        List<Reservation> rows = shardRouter.gather(() -> reservationMapper.findByDateRange(start, start.plusDays(6)));
+        Map<Integer, JournalRecord> fresh = new HashMap<>();
+        Set<Integer> cancelled = new HashSet<>();
+        for (Reservation row : rows) {
+            if (row.getDeletedAt() != null || "CANCELLED".equals(row.getStatus())) {
+                cancelled.add(row.getId());
+            } else if ("RESERVED".equals(row.getStatus()) || "CHECKED_IN".equals(row.getStatus())) {
+                ReservationEventType type = "CHECKED_IN".equals(row.getStatus())
+                        ? ReservationEventType.CHECKED_IN : ReservationEventType.CREATED;
+                fresh.put(row.getId(), JournalRecord.of(-1, type, row));
+            }
+        }
+
+        synchronized (this) {
+            for (int index = fromSegment; index <= segmentIndex; index++) {
+                int offset = index == fromSegment ? fromOffset : 0;
+                readSegment(index, offset, record -> {
+                    if (!cancelled.contains(record.reservationId())) {
+                        apply(fresh, record, start);
+                    }
+                });
+            }
+            int diff = countDifferences(state, fresh);
+            state.clear();
+            state.putAll(fresh);
+            weekStart = start;
+            restored = true;
+            appendedSinceSnapshot++;
+            if (diff > 0) {
+                log.warn("Journal reconciled with DB: {} reservations differed", diff);
+            } else {
+                log.info("Journal reconciled with DB: {} active reservations, no differences", state.size());
+            }
+        }
+    }
+
+    private synchronized void append(JournalRecord record) {
+        if (!open) {
+            return;
+        }
+        try {
+            if (segment.remaining() < JournalRecord.SIZE) {
+                segment.force();
+                openSegment(segmentIndex + 1, 0);
+            }
+            record.writeTo(segment);
+            appendedSinceSnapshot++;
+            rollWeekIfNeeded();
+            apply(state, record, weekStart);
+        } catch (IOException e) {
+            throw new IllegalStateException("Journal append failed", e);
+        }
+    }
+
+    private void restore() throws IOException {
+        long started = System.nanoTime();
+        weekStart = currentWeekStart();
+        int fromSegment = 0;
+        int fromOffset = 0;
+        int snapshotCount = 0;
+        boolean sameWeek = false;
+
+        Path snapshotFile = dir.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshotFile)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+            if (buffer.getInt() == SNAPSHOT_MAGIC && buffer.getInt() == SNAPSHOT_VERSION) {
+                sameWeek = buffer.getInt() == weekStart.toEpochDay();
+                fromSegment = buffer.getInt();
+                fromOffset = buffer.getInt();
+                snapshotCount = buffer.getInt();
+                for (int i = 0; i < snapshotCount; i++) {
+                    JournalRecord record = JournalRecord.readFrom(buffer);
+                    if (record != null) {
+                        apply(state, record, weekStart);
+                    }
+                }
+            } else {
+                log.warn("Ignoring unrecognized journal snapshot {}", snapshotFile);
+            }
+        }
+
+        List<Integer> indexes = segmentIndexes();
+        int lastIndex = indexes.isEmpty() ? fromSegment : Math.max(fromSegment, indexes.get(indexes.size() - 1));
+        int tail = 0;
+        int endOffset = fromOffset;
+        for (int index = fromSegment; index <= lastIndex; index++) {
+            int[] counter = {0};
+            int offset = index == fromSegment ? fromOffset : 0;
+            int end = readSegment(index, offset, record -> {
+                apply(state, record, weekStart);
+                counter[0]++;
+            });
+            tail += counter[0];
+            endOffset = end;
+        }
+        openSegment(lastIndex, endOffset);
+        int cleared = clearTail(endOffset);
+        if (cleared > 0) {
+            log.warn("Journal segment {} had {} bytes after the last valid record at {}; cleared",
+                    lastIndex, cleared, endOffset);
+        }
+        appendedSinceSnapshot = tail;
+        // 지난 주 스냅샷이면 그 사이 미리 잡힌 이번 주 예약이 빠져 있을 수 있으므로 reconcile 전까지 쓰지 않는다.
+        restored = sameWeek;
+
+        log.info("Reservation journal restored in {} ms: snapshot {} + tail {} records, {} active this week",
+                Duration.ofNanos(System.nanoTime() - started).toMillis(), snapshotCount, tail, state.size());
+    }
+
+    /**
+     * 세그먼트의 offset 부터 유효한 레코드를 읽고, 마지막 유효 레코드 다음 위치를 반환
+     */
+    private int readSegment(int index, int offset, Consumer<JournalRecord> consumer) throws IOException {
+        Path path = segmentPath(index);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            buffer.position(offset);
+            while (buffer.remaining() >= JournalRecord.SIZE) {
+                int position = buffer.position();
+                JournalRecord record = JournalRecord.readFrom(buffer);
+                if (record == null) {
+                    return position;
+                }
+                consumer.accept(record);
+            }
+            return buffer.position();
+        }
+    }
+
+    /**
+     * 마지막 유효 레코드 뒤에 남은 바이트(끊긴 레코드, CRC 가 깨진 레코드 뒤의 옛 레코드)를 0 으로 지운다.
+     * 그대로 두면 그 자리부터 이어 쓴 뒤 다음 복원에서 옛 레코드가 새 레코드 뒤에 다시 적용된다.
+     *
+     * @return 지운 바이트 수
+     */
+    private int clearTail(int from) {
+        int dirtyEnd = from;
+        for (int position = from; position < segment.limit(); position++) {
+            if (segment.get(position) != 0) {
+                dirtyEnd = position + 1;
+            }
+        }
+        for (int position = from; position < dirtyEnd; position++) {
+            segment.put(position, (byte) 0);
+        }
+        return dirtyEnd - from;
+    }
+
+    private void openSegment(int index, int offset) throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        channel = FileChannel.open(segmentPath(index), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.position(offset);
+        segmentIndex = index;
+    }
+
+    private static void apply(Map<Integer, JournalRecord> target, JournalRecord record, LocalDate weekStart) {
+        switch (record.type()) {
+            case CREATED, CHECKED_IN -> {
+                if (!record.date().isBefore(weekStart) && record.date().isBefore(weekStart.plusDays(7))) {
+                    target.put(record.reservationId(), record);
+                }
+            }
+            case CANCELLED, NO_SHOW -> target.remove(record.reservationId());
+        }
+    }
+
+    /**
+     * 주가 바뀌면 지난 주 예약을 버린다. 새 주의 예약 중 미리 잡힌 것은 다음 reconcile 에서 채워진다.
+     */
+    private void rollWeekIfNeeded() {
+        LocalDate current = currentWeekStart();
+        if (!current.equals(weekStart)) {
+            state.values().removeIf(record -> record.date().isBefore(current));
+            weekStart = current;
+            restored = false;
+        }
+    }
+
+    private static int countDifferences(Map<Integer, JournalRecord> before, Map<Integer, JournalRecord> after) {
+        int diff = 0;
+        for (Map.Entry<Integer, JournalRecord> entry : after.entrySet()) {
+            JournalRecord previous = before.get(entry.getKey());
+            if (previous == null || previous.type() != entry.getValue().type()
+                    || previous.roomId() != entry.getValue().roomId()
+                    || !Objects.equals(previous.date(), entry.getValue().date())) {
+                diff++;
+            }
+        }
+        for (Integer id : before.keySet()) {
+            if (!after.containsKey(id)) {
+                diff++;
+            }
+        }
+        return diff;
+    }
+
+    private void deleteExpiredSegments() throws IOException {
+        Instant cutoff = slotClock.getClock().instant().minus(Duration.ofDays(retentionDays));
+        for (int index : segmentIndexes()) {
+            if (index >= segmentIndex) {
+                break;
+            }
+            Path path = segmentPath(index);
+            if (Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+                Files.deleteIfExists(path);
+                log.info("Deleted expired journal segment {}", path.getFileName());
+            }
+        }
+    }
+
+    private List<Integer> segmentIndexes() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("segment-") && name.endsWith(".journal"))
+                    .map(name -> Integer.parseInt(name.substring("segment-".length(), name.length() - ".journal".length())))
+                    .sorted(Comparator.naturalOrder())
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(int index) {
+        return dir.resolve(String.format("segment-%06d.journal", index));
+    }
+
+    private LocalDate currentWeekStart() {
+        return slotClock.today().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private void closeQuietly() {
+        try {
+            if (segment != null) {
+                segment.force();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("Closing reservation journal failed", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package kr.ac.hanyang.backend.mapper;
+
+import kr.ac.hanyang.backend.dto.OutboxConsumer;
+import kr.ac.hanyang.backend.dto.OutboxRecord;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface OutboxMapper {
+
+    void insert(OutboxRecord record);
+
+    /**
+     * 여러 이벤트를 한 문장으로 기록 (일괄 취소)
+     */
+    void insertAll(@Param("records") List<OutboxRecord> records);
+
+    /**
+     * 순번 리더 임대를 얻거나 연장 (비어 있거나 만료되었거나 이미 내 것일 때만)
+     *
+     * @return 1 이면 리더
+     */
+    int tryAcquireLease(@Param("owner") String owner, @Param("leaseMs") long leaseMs);
+
+    /**
+     * 마지막으로 붙인 순번을 잠그며 조회 (순번 배정을 직렬화)
+     */
+    long lockLastSeq();
+
+    /**
+     * 커밋되어 보이지만 아직 순번이 없는 이벤트 id (id 순으로 잠금)
+     */
+    List<Long> lockUnsequenced(@Param("limit") int limit);
+
+    /**
+     * ids 순서대로 afterSeq + 1 부터 순번을 붙인다
+     */
+    void assignSeq(@Param("ids") List<Long> ids, @Param("afterSeq") long afterSeq);
+
+    void updateLastSeq(@Param("lastSeq") long lastSeq);
+
+    /**
+     * 처음 보는 구독자의 전달 위치를 만든다 (현재 마지막 순번부터, 이미 있으면 그대로)
+     */
+    void ensureConsumer(@Param("consumer") String consumer);
+
+    OutboxConsumer findConsumer(@Param("consumer") String consumer);
+
+    /**
+     * afterSeq 다음부터 순번 순으로
+     */
+    List<OutboxRecord> findAfter(@Param("afterSeq") long afterSeq, @Param("limit") int limit);
+
+    /**
+     * 전달 위치를 옮기고 실패 기록을 지운다
+     */
+    void advanceConsumer(@Param("consumer") String consumer, @Param("lastSeq") long lastSeq);
+
+    /**
+     * 전달 실패 기록: 위치는 lastSeq 까지 옮기고, 시도 수를 올려 다음 재시도 시각을 지수 백오프로 미룬다
+     */
+    void recordConsumerFailure(@Param("consumer") String consumer, @Param("lastSeq") long lastSeq,
+                               @Param("baseBackoffMs") long baseBackoffMs, @Param("maxBackoffMs") long maxBackoffMs);
+
+    /**
+     * 순번을 붙인 지 오래된 이벤트 정리
+     */
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,14 +2,20 @@
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import kr.ac.hanyang.backend.dto.Reservation;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface ReservationMapper {
 
-    Integer isSlotBookedForUpdate(@Param("roomId") int roomId, @Param("date") LocalDate date, @Param("slot") int slot);
+    Integer isRangeBookedForUpdate(@Param("roomId") int roomId, @Param("date") LocalDate date,
+                                   @Param("startSlot") int startSlot, @Param("endSlot") int endSlot);
+
+    Integer isRangeBooked(@Param("roomId") int roomId, @Param("date") LocalDate date,
+                          @Param("startSlot") int startSlot, @Param("endSlot") int endSlot);
 
     void insertReservation(Reservation reservation);
 
@@ -21,7 +27,25 @@ public interface ReservationMapper {
 
     Reservation findById(@Param("id") int id);
 
-    void deleteById(@Param("id") int id);
+    /**
+     * 사용자/관리자 취소: 행을 지우지 않고 tombstone(CANCELLED + deleted_at)으로 남긴다 (델타 동기화에 삭제도 전달)
+     * @return 변경된 행 수 (0 이면 그 사이 취소/체크인/노쇼 처리된 예약)
+     */
+    int deleteById(@Param("id") int id);
+
+    /**
+     * 관리자 일괄 취소 대상: 방의 기간 내 슬롯 구간과 겹치는 RESERVED 예약을 id 순으로 잠그며 조회
+     */
+    List<Reservation> findActiveByRoomAndRangeForUpdate(@Param("roomId") int roomId, @Param("from") LocalDate from,
+                                                        @Param("to") LocalDate to, @Param("startSlot") int startSlot,
+                                                        @Param("endSlot") int endSlot);
+
+    /**
+     * 관리자 일괄 취소: 잠근 예약들을 한 문장으로 tombstone 처리
+     *
+     * @return 취소된 예약 수
+     */
+    int cancelByIds(@Param("ids") List<Integer> ids, @Param("deletedAt") LocalDateTime deletedAt);
 
     /**
      * 모든 예약 조회 (관리자용)
@@ -42,4 +66,61 @@ public interface ReservationMapper {
      * 예약 상태 업데이트
      */
     void updateStatus(@Param("id") int id, @Param("status") String status);
+
+    /**
+     * 체크인 처리 (RESERVED → CHECKED_IN, 체크인 시간 기록)
+     * @return 변경된 행 수 (0 이면 이미 체크인되었거나 취소된 예약)
+     */
+    int markCheckedIn(@Param("id") int id, @Param("checkinTime") LocalDateTime checkinTime);
+
+    /**
+     * 노쇼 자동 취소 (RESERVED → CANCELLED, 이력 보존을 위해 상태만 변경)
+     * @return 변경된 행 수 (0 이면 그 사이 체크인/취소되었거나 이미 노쇼 처리된 예약)
+     */
+    int markNoShow(@Param("id") int id);
+
+    /**
+     * 버전 미배정(version = 0) 예약 id 를 id 순으로 잠그며 조회 (다른 트랜잭션이 쓰는 중인 행은 건너뜀)
+     */
+    List<Integer> lockPendingVersions(@Param("limit") int limit);
+
+    /**
+     * 변경 버전 카운터 증가 (버전 배정 트랜잭션에서만, 예약 행을 잠근 뒤 마지막에)
+     */
+    void incrementVersion();
+
+    /**
+     * 변경 버전 카운터 현재 값 (같은 트랜잭션이면 방금 증가시킨 값)
+     */
+    long currentVersion();
+
+    void assignVersion(@Param("ids") List<Integer> ids, @Param("version") long version);
+
+    /**
+     * 날짜의 since 초과 upTo 이하 버전에서 만들어졌거나 바뀐 예약 (tombstone 포함)
+     * since 가 0 이면 전체 조회로 보고 버전과 무관하게 활성 예약만 (아직 버전이 없는 행 포함)
+     */
+    List<Reservation> findChangesByDate(@Param("date") LocalDate date, @Param("since") long since,
+                                        @Param("upTo") long upTo);
+
+    /**
+     * 기간 내 모든 상태의 예약 조회 (통계 백필, 정책 시뮬레이션용, tombstone 포함)
+     */
+    List<Reservation> findByDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 기간 내 모든 상태의 예약을 잠그고 조회 (통계 백필 구간, REPEATABLE READ 트랜잭션 안에서)
+     */
+    List<Reservation> findByDateRangeForUpdate(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 기간/상태/방 조건의 예약을 한 행씩 읽는 커서 (CSV 내보내기용)
+     * 열린 트랜잭션(연결) 안에서만 순회할 수 있다.
+     *
+     * @param statuses 비어 있으면 모든 상태
+     * @param roomIds 비어 있으면 모든 방
+     */
+    Cursor<Reservation> streamByDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                          @Param("statuses") List<String> statuses,
+                                          @Param("roomIds") List<Integer> roomIds);
 }
@@ -0,0 +1,62 @@
+package kr.ac.hanyang.backend.mapper;
+
+import kr.ac.hanyang.backend.dto.ReservationStats;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface ReservationStatsMapper {
+
+    /**
+     * 증분 반영 (없으면 insert, 있으면 더하기)
+     */
+    void upsertHourly(@Param("rows") List<ReservationStats> rows);
+
+    void upsertDaily(@Param("rows") List<ReservationStats> rows);
+
+    /**
+     * 이미 압축한 날짜의 늦은 변경만 누적에 더함 (예약마다 호출하지 않음)
+     */
+    void upsertTotal(@Param("rows") List<ReservationStats> rows);
+
+    /**
+     * 전체 기간 누적 (방 x 시간대): 압축한 누적 행 + 압축 이후 시간대 롤업 합계
+     */
+    List<ReservationStats> findTotals();
+
+    /**
+     * 기간별 일 단위 통계
+     */
+    List<ReservationStats> findDailyBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 백필: 기간 내 롤업 삭제 후 다시 채움
+     */
+    void deleteHourlyBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    void deleteDailyBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 압축 위치: 공유 잠금(늦은 변경)과 배타 잠금(압축/재계산)으로 압축과 증분 반영을 직렬화
+     */
+    LocalDate findCompactedThroughForShare();
+
+    LocalDate lockCompactedThrough();
+
+    void updateCompactedThrough(@Param("through") LocalDate through);
+
+    /**
+     * (after, through] 의 시간대 롤업을 누적에 더함
+     */
+    int compactTotals(@Param("after") LocalDate after, @Param("through") LocalDate through);
+
+    /**
+     * 백필 후 누적 테이블을 압축 위치까지의 시간대 롤업에서 다시 계산
+     */
+    void deleteTotals();
+
+    void insertTotalsFromHourly(@Param("through") LocalDate through);
+}
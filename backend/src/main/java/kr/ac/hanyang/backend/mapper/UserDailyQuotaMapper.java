@@ -0,0 +1,22 @@
+package kr.ac.hanyang.backend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+
+@Mapper
+public interface UserDailyQuotaMapper {
+
+    /**
+     * (사용자, 날짜) 잠금 행을 만들거나 이미 있으면 그대로 두고, 어느 쪽이든 트랜잭션이 끝날 때까지 배타 잠금
+     */
+    void lock(@Param("userId") int userId, @Param("date") LocalDate date);
+
+    /**
+     * 지난 날짜의 잠금 행 정리
+     *
+     * @return 삭제된 행 수
+     */
+    int deleteBefore(@Param("date") LocalDate date);
+}
@@ -3,6 +3,8 @@
 import kr.ac.hanyang.backend.dto.User;
 import org.apache.ibatis.annotations.*;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -22,6 +24,19 @@ public interface UserMapper {
     @Update("UPDATE users SET name = #{name}, department = #{department}, updated_at = NOW() WHERE id = #{id}")
     void update(User user);
     
+    /**
+     * 최근 예약 이력이 있는 사용자 (캐시 워밍업용)
+     */
+    @Select("SELECT * FROM users WHERE id IN (SELECT DISTINCT user_id FROM reservations WHERE date >= #{since})")
+    List<User> findActiveSince(LocalDate since);
+
+    /**
+     * 여러 사용자 한 번에 조회 (관리자 예약 목록의 예약자 정보, ids 는 비어 있으면 안 됨)
+     */
+    @Select("<script>SELECT id, email, name, department FROM users WHERE id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach></script>")
+    List<User> findByIds(@Param("ids") Collection<Long> ids);
+
     @Select("SELECT * FROM users ORDER BY created_at DESC")
     List<User> findAll();
     
@@ -0,0 +1,45 @@
+package kr.ac.hanyang.backend.mapper;
+
+import kr.ac.hanyang.backend.dto.WaitlistEntry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface WaitlistMapper {
+
+    void insert(WaitlistEntry entry);
+
+    WaitlistEntry findById(@Param("id") long id);
+
+    List<WaitlistEntry> findByUserId(@Param("userId") int userId);
+
+    /**
+     * 인덱스 적재용: 오늘 이후의 대기 중 요청
+     */
+    List<WaitlistEntry> findWaitingFrom(@Param("date") LocalDate date);
+
+    /**
+     * 재시작 시 다시 매칭할 임시 배정 중 요청 (resetOffers 전에 읽음)
+     */
+    List<WaitlistEntry> findOfferedFrom(@Param("date") LocalDate date);
+
+    void updateStatus(@Param("id") long id, @Param("status") String status);
+
+    void markOffered(@Param("id") long id, @Param("roomId") int roomId, @Param("holdExpiresAt") LocalDateTime holdExpiresAt);
+
+    void markBooked(@Param("id") long id, @Param("reservationId") int reservationId);
+
+    /**
+     * 재시작 시 메모리의 임시 배정은 사라지므로 대기 상태로 되돌림
+     */
+    void resetOffers();
+
+    /**
+     * 지난 날짜의 대기 요청 만료
+     */
+    void expireBefore(@Param("date") LocalDate date);
+}
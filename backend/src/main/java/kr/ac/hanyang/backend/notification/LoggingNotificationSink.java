@@ -0,0 +1,21 @@
+package kr.ac.hanyang.backend.notification;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.util.List;
+
+/**
+ * 발송 채널이 설정되지 않았을 때의 기본값: 로그로만 남긴다.
+ */
+@Log4j2
+public class LoggingNotificationSink implements NotificationSink {
+
+    @Override
+    public void deliver(List<Notification> batch) {
+        for (Notification notification : batch) {
+            log.info("Notification {}: reservation={}, user={}, room={}, date={}, slot={}",
+                    notification.type(), notification.reservationId(), notification.userId(),
+                    notification.roomId(), notification.date(), notification.startSlot());
+        }
+    }
+}
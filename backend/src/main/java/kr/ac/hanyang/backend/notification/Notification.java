@@ -0,0 +1,14 @@
+package kr.ac.hanyang.backend.notification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 알림
+ *
+ * @param dueAt 보낼 시각 (같은 시각의 알림은 한 배치로 묶어 보냄)
+ * @param expiresAt 이 시각이 지나면 의미가 없어 보내지 않음 (예약 시작, 체크인 마감)
+ */
+public record Notification(NotificationType type, int reservationId, int userId, int roomId, LocalDate date,
+                           int startSlot, int endSlot, LocalDateTime dueAt, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,12 @@
+package kr.ac.hanyang.backend.notification;
+
+import java.util.List;
+
+/**
+ * 알림 발송 채널 (메일, 웹훅 등)
+ * 배치 단위로 호출되며, 예외를 던지면 배치 전체가 다음 폴링에서 다시 전달된다(만료 전까지).
+ */
+public interface NotificationSink {
+
+    void deliver(List<Notification> batch);
+}
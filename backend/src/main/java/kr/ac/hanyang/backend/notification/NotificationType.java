@@ -0,0 +1,6 @@
+package kr.ac.hanyang.backend.notification;
+
+public enum NotificationType {
+    REMINDER,          // 예약 시작 N분 전 안내
+    CHECKIN_DEADLINE   // 체크인 마감 임박 (마감 M분 전, 아직 체크인하지 않은 예약)
+}
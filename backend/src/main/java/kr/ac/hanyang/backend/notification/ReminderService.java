@@ -0,0 +1,271 @@
+package kr.ac.hanyang.backend.notification;
+
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.ReservationEvent;
+import kr.ac.hanyang.backend.event.ReservationEventSubscriber;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약 시작 안내 / 체크인 마감 임박 알림
+ * - 오늘/내일 예약의 알림을 발송 시각 순 큐(TreeMap)에 넣어 두고, 폴링 때 맨 앞만 보고 시각이 된 것만 꺼낸다 (테이블 스캔 없음)
+ * - 발송 시각은 슬롯 경계 기준(시작 - N분, 마감 - M분)이라 같은 시각에 시작하는 예약의 알림이 한 배치로 묶인다.
+ * - 예약/체크인/취소는 outbox 이벤트로 반영하고, 슬롯 경계마다 DB(모든 샤드)로 다시 구성해 놓친 이벤트를 메운다.
+ *   재구성은 잠그지 않고 읽으므로, 읽기를 시작한 뒤 들어온 이벤트를 모아 두었다가 새 큐에 다시 적용한다.
+ * 체크인 마감 정책(시작 후 15분)은 ReservationScheduler 의 노쇼 처리와 같다.
+ */
+@Service
+@Log4j2
+public class ReminderService implements ReservationEventSubscriber {
+
+    static final int CHECKIN_WINDOW_MINUTES = 15;
+
+    private final ReservationMapper reservationMapper;
+    private final ShardRouter shardRouter;
+    private final NotificationSink sink;
+    private final SlotClock slotClock;
+
+    @Value("${app.notification.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notification.reminder-minutes:10}")
+    private int reminderMinutes;
+
+    @Value("${app.notification.deadline-warning-minutes:5}")
+    private int deadlineWarningMinutes;
+
+    @Value("${app.notification.batch-size:100}")
+    private int batchSize;
+
+    // 발송 시각 → (알림 키 → 알림)
+    private TreeMap<LocalDateTime, Map<Long, Notification>> queue = new TreeMap<>();
+    // 예약 id → 그 예약의 알림 발송 시각 (취소/체크인 시 제거용)
+    private Map<Integer, List<LocalDateTime>> byReservation = new HashMap<>();
+    // 재구성 중 DB 를 읽는 사이에 받은 이벤트 (재구성 중이 아니면 null)
+    private List<ReservationEvent> sinceRead;
+    private final Object rebuildLock = new Object();
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    public ReminderService(ReservationMapper reservationMapper, ShardRouter shardRouter, NotificationSink sink,
+                           SlotClock slotClock) {
+        this.reservationMapper = reservationMapper;
+        this.shardRouter = shardRouter;
+        this.sink = sink;
+        this.slotClock = slotClock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Reminder queue initial build failed; retrying at next slot boundary", e);
+        }
+    }
+
+    /**
+     * 오늘/내일 예약으로 큐를 새로 구성 (슬롯 경계마다)
+     * 날짜 캐시는 유지 시간만큼 늦을 수 있으므로 DB 에서 읽고, 읽는 동안 받은 이벤트는 새 큐에 다시 적용한다.
+     * (이벤트는 커밋 후 전달되므로 읽은 행보다 오래된 이벤트일 수 있지만, 그 뒤의 변경도 이벤트로 이어서 온다)
+     * 이미 발송 시각이 지난 알림은 넣지 않으므로 다시 보내지 않는다.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            LocalDate today = slotClock.today();
+            synchronized (this) {
+                sinceRead = new ArrayList<>();
+            }
+            try {
+                List<Reservation> reservations = new ArrayList<>(
+                        shardRouter.gather(() -> reservationMapper.getReservationsByDate(today)));
+                reservations.addAll(shardRouter.gather(() -> reservationMapper.getReservationsByDate(today.plusDays(1))));
+
+                LocalDateTime now = slotClock.now();
+                synchronized (this) {
+                    queue = new TreeMap<>();
+                    byReservation = new HashMap<>();
+                    for (Reservation reservation : reservations) {
+                        schedule(reservation, now);
+                    }
+                    sinceRead.forEach(this::apply);
+                }
+            } finally {
+                synchronized (this) {
+                    sinceRead = null;
+                }
+            }
+        }
+        log.debug("Reminder queue rebuilt: {} pending", pendingCount());
+    }
+
+    /**
+     * 발송 시각이 된 알림을 시각별 배치로 발송 (주기 작업)
+     *
+     * @return 발송한 알림 수
+     */
+    public int dispatchDue() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime now = slotClock.now();
+        Map<LocalDateTime, List<Notification>> due = new LinkedHashMap<>();
+        synchronized (this) {
+            while (!queue.isEmpty() && !queue.firstKey().isAfter(now)) {
+                Map.Entry<LocalDateTime, Map<Long, Notification>> entry = queue.pollFirstEntry();
+                due.put(entry.getKey(), new ArrayList<>(entry.getValue().values()));
+                for (Notification notification : entry.getValue().values()) {
+                    List<LocalDateTime> times = byReservation.get(notification.reservationId());
+                    if (times != null && times.remove(entry.getKey()) && times.isEmpty()) {
+                        byReservation.remove(notification.reservationId());
+                    }
+                }
+            }
+        }
+
+        int sent = 0;
+        for (List<Notification> boundary : due.values()) {
+            List<Notification> live = new ArrayList<>(boundary.size());
+            for (Notification notification : boundary) {
+                if (notification.expiresAt().isAfter(now)) {
+                    live.add(notification);
+                } else {
+                    expired.incrementAndGet();
+                }
+            }
+            for (int from = 0; from < live.size(); from += batchSize) {
+                List<Notification> batch = live.subList(from, Math.min(live.size(), from + batchSize));
+                try {
+                    sink.deliver(batch);
+                    delivered.addAndGet(batch.size());
+                    sent += batch.size();
+                } catch (RuntimeException e) {
+                    failed.addAndGet(batch.size());
+                    log.warn("Notification batch of {} failed, will retry until expiry: {}", batch.size(), e.getMessage());
+                    requeue(batch);
+                }
+            }
+        }
+        if (sent > 0) {
+            log.debug("Dispatched {} notifications in {} boundaries", sent, due.size());
+        }
+        return sent;
+    }
+
+    @Override
+    public synchronized void onReservationEvent(ReservationEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (sinceRead != null) {
+            sinceRead.add(event);
+        }
+        apply(event);
+    }
+
+    private void apply(ReservationEvent event) {
+        Reservation reservation = event.reservation();
+        unschedule(reservation.getId());
+        if (event.type() == ReservationEventType.CREATED) {
+            LocalDate today = slotClock.today();
+            if (!reservation.getDate().isBefore(today) && !reservation.getDate().isAfter(today.plusDays(1))) {
+                schedule(reservation, slotClock.now());
+            }
+        }
+    }
+
+    public synchronized int pendingCount() {
+        return queue.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", pendingCount());
+        stats.put("delivered", delivered.get());
+        stats.put("failed", failed.get());
+        stats.put("expired", expired.get());
+        return stats;
+    }
+
+    // 체크인 전(RESERVED) 예약만 대상. 발송 시각이 이미 지난 알림은 넣지 않는다.
+    private void schedule(Reservation reservation, LocalDateTime now) {
+        if (!"RESERVED".equals(reservation.getStatus())) {
+            return;
+        }
+        LocalDateTime start = SlotClock.slotStart(reservation.getDate(), reservation.getStartSlot());
+        add(notification(NotificationType.REMINDER, reservation, start.minusMinutes(reminderMinutes), start), now);
+        if (Boolean.TRUE.equals(reservation.getCheckinRequired())) {
+            LocalDateTime deadline = start.plusMinutes(CHECKIN_WINDOW_MINUTES);
+            add(notification(NotificationType.CHECKIN_DEADLINE, reservation,
+                    deadline.minusMinutes(deadlineWarningMinutes), deadline), now);
+        }
+    }
+
+    private void add(Notification notification, LocalDateTime now) {
+        if (!notification.dueAt().isAfter(now)) {
+            return;
+        }
+        queue.computeIfAbsent(notification.dueAt(), time -> new LinkedHashMap<>())
+                .put(key(notification), notification);
+        byReservation.computeIfAbsent(notification.reservationId(), id -> new ArrayList<>(2))
+                .add(notification.dueAt());
+    }
+
+    private void unschedule(int reservationId) {
+        List<LocalDateTime> times = byReservation.remove(reservationId);
+        if (times == null) {
+            return;
+        }
+        for (LocalDateTime time : times) {
+            Map<Long, Notification> boundary = queue.get(time);
+            if (boundary != null) {
+                boundary.values().removeIf(n -> n.reservationId() == reservationId);
+                if (boundary.isEmpty()) {
+                    queue.remove(time);
+                }
+            }
+        }
+    }
+
+    // 발송 실패분은 원래 발송 시각으로 되돌려 다음 폴링에서 다시 시도 (그 사이 취소/체크인되면 빠짐)
+    private synchronized void requeue(List<Notification> batch) {
+        for (Notification notification : batch) {
+            queue.computeIfAbsent(notification.dueAt(), time -> new LinkedHashMap<>())
+                    .putIfAbsent(key(notification), notification);
+            byReservation.computeIfAbsent(notification.reservationId(), id -> new ArrayList<>(2))
+                    .add(notification.dueAt());
+        }
+    }
+
+    private static Notification notification(NotificationType type, Reservation reservation,
+                                             LocalDateTime dueAt, LocalDateTime expiresAt) {
+        return new Notification(type, reservation.getId(), reservation.getUserId(), reservation.getRoomId(),
+                reservation.getDate(), reservation.getStartSlot(), reservation.getEndSlot(), dueAt, expiresAt);
+    }
+
+    private static long key(Notification notification) {
+        return ((long) notification.reservationId() << 1) | notification.type().ordinal();
+    }
+}
@@ -0,0 +1,60 @@
+package kr.ac.hanyang.backend.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 배치를 JSON 배열로 웹훅 URL 에 POST (메일/메신저 발송은 웹훅을 받는 쪽에서)
+ * 로컬 테스트에는 요청을 받아 출력만 하는 아무 HTTP 서버나 쓰면 된다.
+ */
+public class WebhookNotificationSink implements NotificationSink {
+
+    private final URI url;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+
+    public WebhookNotificationSink(String url, ObjectMapper objectMapper, Duration timeout) {
+        this.url = URI.create(url);
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void deliver(List<Notification> batch) {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(batch)))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("webhook responded " + response.statusCode());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("webhook call interrupted", e);
+        }
+    }
+
+    private byte[] toJson(List<Notification> batch) {
+        try {
+            return objectMapper.writeValueAsBytes(batch);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 직렬화 실패", e);
+        }
+    }
+}
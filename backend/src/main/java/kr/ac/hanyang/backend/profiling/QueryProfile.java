@@ -0,0 +1,110 @@
+package kr.ac.hanyang.backend.profiling;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP 요청 또는 스케줄 작업 하나가 실행한 SQL 통계
+ * 샤드/백필 작업 스레드에서도 함께 기록되므로 기록과 요약은 동기화한다.
+ */
+public class QueryProfile {
+
+    private final String name;
+    private final LocalDateTime startedAt;
+    private final long startedNanos;
+    private final Map<String, StatementStats> statements = new LinkedHashMap<>();
+    private int statementCount;
+    private int errorCount;
+    private long dbNanos;
+    private long elapsedNanos;
+
+    public QueryProfile(String name) {
+        this.name = name;
+        this.startedAt = LocalDateTime.now();
+        this.startedNanos = System.nanoTime();
+    }
+
+    /**
+     * @param failed 예외로 끝난 문장 (rows 는 -1)
+     */
+    synchronized void record(String statementId, long nanos, int rows, boolean failed) {
+        statementCount++;
+        dbNanos += nanos;
+        if (failed) {
+            errorCount++;
+        }
+        statements.computeIfAbsent(statementId, id -> new StatementStats()).add(nanos, rows, failed);
+    }
+
+    void finish() {
+        elapsedNanos = System.nanoTime() - startedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public synchronized int getStatementCount() {
+        return statementCount;
+    }
+
+    public synchronized int getErrorCount() {
+        return errorCount;
+    }
+
+    public synchronized long getDbMillis() {
+        return dbNanos / 1_000_000;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * 같은 문장이 threshold 번 이상 반복된 경우 (N+1 의심)
+     */
+    public synchronized List<String> repeatedStatements(int threshold) {
+        return statements.entrySet().stream()
+                .filter(e -> e.getValue().count >= threshold)
+                .map(e -> e.getKey() + " x" + e.getValue().count)
+                .toList();
+    }
+
+    public synchronized Map<String, Object> toSummary(int repeatThreshold) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("name", name);
+        summary.put("startedAt", startedAt);
+        summary.put("elapsedMs", getElapsedMillis());
+        summary.put("statements", statementCount);
+        summary.put("dbMs", getDbMillis());
+        summary.put("errors", errorCount);
+        Map<String, Object> byStatement = new LinkedHashMap<>();
+        statements.forEach((id, stats) -> byStatement.put(id, Map.of(
+                "count", stats.count, "dbMs", stats.nanos / 1_000_000, "rows", stats.rows, "errors", stats.errors)));
+        summary.put("byStatement", byStatement);
+        summary.put("repeated", repeatedStatements(repeatThreshold));
+        return summary;
+    }
+
+    private static class StatementStats {
+        private int count;
+        private long nanos;
+        private long rows;
+        private int errors;
+
+        void add(long nanos, int rows, boolean failed) {
+            this.count++;
+            this.nanos += nanos;
+            this.rows += Math.max(rows, 0);
+            if (failed) {
+                this.errors++;
+            }
+        }
+    }
+}
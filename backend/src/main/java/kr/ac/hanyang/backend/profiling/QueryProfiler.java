@@ -0,0 +1,109 @@
+package kr.ac.hanyang.backend.profiling;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 요청/작업 단위 SQL 프로파일 수집
+ * - 시작 시 현재 스레드에 프로파일을 걸고, 인터셉터가 실행된 문장을 기록
+ * - 끝나면 요약을 로그로 남기고, 같은 문장이 반복되면 N+1 의심으로 경고
+ * - 느린 요청은 최근 N건만 메모리 링에 보관 (관리자 조회용)
+ */
+@Component
+@Log4j2
+public class QueryProfiler {
+
+    private static final ThreadLocal<QueryProfile> CURRENT = new ThreadLocal<>();
+
+    @Value("${app.profiler.slow-request-ms:300}")
+    private long slowRequestMs;
+
+    @Value("${app.profiler.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Value("${app.profiler.slow-ring-size:100}")
+    private int slowRingSize;
+
+    private final Deque<Map<String, Object>> slowRequests = new ArrayDeque<>();
+
+    /**
+     * 현재 스레드에서 프로파일 시작. 이미 진행 중이면(중첩 호출) null 을 반환하고 바깥 프로파일에 합산한다.
+     */
+    public QueryProfile begin(String name) {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        QueryProfile profile = new QueryProfile(name);
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public void end(QueryProfile profile) {
+        if (profile == null) {
+            return;
+        }
+        CURRENT.remove();
+        profile.finish();
+        if (profile.getStatementCount() == 0) {
+            return;
+        }
+
+        List<String> repeated = profile.repeatedStatements(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("N+1 suspect in {}: {} statements, {} ms DB, repeated {}",
+                    profile.getName(), profile.getStatementCount(), profile.getDbMillis(), repeated);
+        } else {
+            log.debug("Query profile {}: {} statements, {} ms DB, {} ms total",
+                    profile.getName(), profile.getStatementCount(), profile.getDbMillis(), profile.getElapsedMillis());
+        }
+
+        if (profile.getElapsedMillis() >= slowRequestMs) {
+            synchronized (slowRequests) {
+                slowRequests.addFirst(profile.toSummary(repeatThreshold));
+                while (slowRequests.size() > slowRingSize) {
+                    slowRequests.removeLast();
+                }
+            }
+        }
+    }
+
+    /**
+     * 최근 느린 요청 (최신순)
+     */
+    public List<Map<String, Object>> getSlowRequests() {
+        synchronized (slowRequests) {
+            return new ArrayList<>(slowRequests);
+        }
+    }
+
+    /**
+     * 현재 스레드의 프로파일 (없으면 null). 작업을 다른 스레드로 넘길 때 잡아 두었다가 call 로 넘긴다.
+     */
+    public static QueryProfile current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 작업 스레드에서 실행한 문장도 넘겨받은 요청/작업 프로파일에 합산 (샤드 작업, 백필 작업)
+     * 호출한 쪽이 작업이 끝날 때까지 기다린 뒤 end 를 부르므로 끝난 프로파일에 기록되지 않는다.
+     */
+    public static <T> T call(QueryProfile profile, Supplier<T> work) {
+        if (profile == null || CURRENT.get() != null) {
+            return work.get();
+        }
+        CURRENT.set(profile);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package kr.ac.hanyang.backend.profiling;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 모든 MyBatis 문장의 실행 시간과 결과 행 수를 현재 요청/작업 프로파일에 기록
+ * 예외로 끝난 문장도 걸린 시간과 함께 기록한다. (타임아웃/락 대기로 실패한 문장이 빠지면 느린 원인이 안 보임)
+ * 프로파일이 없는 스레드(outbox 레인 등)에서는 아무것도 하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.profiler.enabled", havingValue = "true", matchIfMissing = true)
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class QueryProfilerInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        QueryProfile profile = QueryProfiler.current();
+        if (profile == null) {
+            return invocation.proceed();
+        }
+        long started = System.nanoTime();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+            profile.record(shortId(statement.getId()), System.nanoTime() - started, failed ? -1 : rows(result), failed);
+        }
+    }
+
+    private static int rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        return -1;
+    }
+
+    // kr.ac.hanyang.backend.mapper.ReservationMapper.findById → ReservationMapper.findById
+    private static String shortId(String id) {
+        int method = id.lastIndexOf('.');
+        int type = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return type >= 0 ? id.substring(type + 1) : id;
+    }
+}
@@ -0,0 +1,37 @@
+package kr.ac.hanyang.backend.profiling;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+
+/**
+ * @Scheduled 메서드 실행을 SQL 프로파일 단위로 묶는 관찰 핸들러
+ * 스케줄 작업은 실행 스레드에서 동기로 관찰되므로 시작/종료가 같은 스레드에서 호출된다.
+ */
+public class ScheduledJobProfilingHandler implements ObservationHandler<ScheduledTaskObservationContext> {
+
+    private final QueryProfiler queryProfiler;
+
+    public ScheduledJobProfilingHandler(QueryProfiler queryProfiler) {
+        this.queryProfiler = queryProfiler;
+    }
+
+    @Override
+    public void onStart(ScheduledTaskObservationContext context) {
+        QueryProfile profile = queryProfiler.begin(
+                "job " + context.getTargetClass().getSimpleName() + "." + context.getMethod().getName());
+        if (profile != null) {
+            context.put(QueryProfile.class, profile);
+        }
+    }
+
+    @Override
+    public void onStop(ScheduledTaskObservationContext context) {
+        queryProfiler.end(context.get(QueryProfile.class));
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ScheduledTaskObservationContext;
+    }
+}
@@ -0,0 +1,24 @@
+package kr.ac.hanyang.backend.scheduler;
+
+import kr.ac.hanyang.backend.datasource.ReplicaRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    /**
+     * replica 복제 지연 확인 후 라우팅 대상 갱신 (기본 5초마다)
+     * 지연이 허용치를 넘은 replica는 제외되고, 모두 제외되면 primary로 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        replicaRoutingDataSource.refreshReplicaHealth();
+    }
+}
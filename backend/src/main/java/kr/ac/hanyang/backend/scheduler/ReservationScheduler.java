@@ -1,16 +1,30 @@
 package kr.ac.hanyang.backend.scheduler;
 
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
 import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.OutboxDispatcher;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.event.ReservationOutbox;
+import kr.ac.hanyang.backend.journal.ReservationJournal;
 import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.notification.ReminderService;
+import kr.ac.hanyang.backend.service.CheckinIndex;
+import kr.ac.hanyang.backend.service.DailyQuotaLock;
+import kr.ac.hanyang.backend.service.ReservationDayCache;
+import kr.ac.hanyang.backend.service.ReservationStatsService;
+import kr.ac.hanyang.backend.service.ReservationSyncService;
+import kr.ac.hanyang.backend.service.RoomOccupancyService;
+import kr.ac.hanyang.backend.service.WaitlistService;
+import kr.ac.hanyang.backend.time.SlotClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneId;
 import java.util.List;
 
 @Slf4j
@@ -19,6 +33,21 @@
 public class ReservationScheduler {
 
     private final ReservationMapper reservationMapper;
+    private final RoomOccupancyService roomOccupancyService;
+    private final ReservationDayCache reservationDayCache;
+    private final CheckinIndex checkinIndex;
+    private final ReservationStatsService reservationStatsService;
+    private final WaitlistService waitlistService;
+    private final ReservationOutbox reservationOutbox;
+    private final ReservationSyncService reservationSyncService;
+    private final OutboxDispatcher outboxDispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationJournal reservationJournal;
+    private final DatabaseCircuitBreaker databaseCircuitBreaker;
+    private final ShardRouter shardRouter;
+    private final ReminderService reminderService;
+    private final DailyQuotaLock dailyQuotaLock;
+    private final SlotClock slotClock;
 
     /**
      * 매분마다 체크인하지 않은 예약을 확인하여 마감 시간 초과 시 자동 취소
@@ -27,43 +56,186 @@ public class ReservationScheduler {
     @Scheduled(fixedRate = 60000) // 1분마다 실행
     public void cancelNoShowReservations() {
         try {
-            LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-            LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-
-            // 오늘 날짜의 모든 예약 조회
-            List<Reservation> todayReservations = reservationMapper.getReservationsByDate(today);
-
-            for (Reservation reservation : todayReservations) {
-                // 체크인 필요하고, 체크인하지 않은 예약만 처리
-                if ("RESERVED".equals(reservation.getStatus()) 
-                    && Boolean.TRUE.equals(reservation.getCheckinRequired())
-                    && reservation.getCheckinTime() == null) {
-                    
-                    // 정책: 예약 시작 후 15분 내 미체크인은 노쇼 → 시작 + 15분
-                    LocalTime startTime = slotToTime(reservation.getStartSlot());
-                    LocalDateTime checkinDeadline = LocalDateTime.of(today, startTime).plusMinutes(15);
-
-                    // 현재 시간이 체크인 마감 시간을 초과했는지 확인
-                    if (now.isAfter(checkinDeadline)) {
-                        // 자동 취소: 이력 보존을 위해 상태만 변경 (유니크 인덱스는 활성 예약에만 적용됨)
-                        reservationMapper.updateStatus(reservation.getId(), "CANCELLED");
-                        log.info("노쇼 예약 자동 취소(상태 변경): reservationId={}, userId={}, roomId={}, checkinDeadline={}", 
-                                reservation.getId(), reservation.getUserId(), reservation.getRoomId(), checkinDeadline);
+            LocalDate today = slotClock.today();
+            LocalDateTime now = slotClock.now();
+            // 샤딩 시 캠퍼스(샤드)마다 그 샤드의 예약만 처리
+            shardRouter.runOnEachShard(() -> cancelNoShows(today, now));
+        } catch (Exception e) {
+            log.error("예약 자동 취소 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+
+    private void cancelNoShows(LocalDate today, LocalDateTime now) {
+        // 오늘 날짜의 모든 예약 조회
+        List<Reservation> todayReservations = reservationMapper.getReservationsByDate(today);
+
+        for (Reservation reservation : todayReservations) {
+            // 체크인 필요하고, 체크인하지 않은 예약만 처리
+            if ("RESERVED".equals(reservation.getStatus()) 
+                && Boolean.TRUE.equals(reservation.getCheckinRequired())
+                && reservation.getCheckinTime() == null) {
+                
+                // 정책: 예약 시작 후 15분 내 미체크인은 노쇼 → 시작 + 15분
+                LocalDateTime checkinDeadline = SlotClock.slotStart(today, reservation.getStartSlot()).plusMinutes(15);
+
+                // 현재 시간이 체크인 마감 시간을 초과했는지 확인
+                if (now.isAfter(checkinDeadline)) {
+                    // 자동 취소: 이력 보존을 위해 상태만 변경 (유니크 인덱스는 활성 예약에만 적용됨)
+                    // 조회 이후 체크인/취소/QR 노쇼 처리가 먼저 된 경우는 영향받은 행이 없으므로 건너뜀
+                    // 상태 변경, 통계, outbox 기록은 한 트랜잭션으로
+                    Boolean cancelled = transactionTemplate.execute(status -> {
+                        if (reservationMapper.markNoShow(reservation.getId()) == 0) {
+                            return false;
+                        }
+                        reservationSyncService.markChanged();
+                        reservationStatsService.recordNoShow(reservation);
+                        reservation.setStatus("CANCELLED");
+                        reservationOutbox.record(ReservationEventType.NO_SHOW, reservation);
+                        return true;
+                    });
+                    if (!Boolean.TRUE.equals(cancelled)) {
+                        continue;
                     }
+                    log.info("노쇼 예약 자동 취소(상태 변경): reservationId={}, userId={}, roomId={}, checkinDeadline={}", 
+                            reservation.getId(), reservation.getUserId(), reservation.getRoomId(), checkinDeadline);
                 }
             }
+        }
+    }
+
+    /**
+     * 슬롯 경계(:00, :30)마다 현재 사용 현황 뷰를 다음 슬롯으로 넘김
+     */
+    @Scheduled(cron = "0 0,30 * * * *", zone = "Asia/Seoul")
+    public void rollOverOccupancy() {
+        try {
+            roomOccupancyService.rollOver();
+            reservationDayCache.evictPast();
         } catch (Exception e) {
-            log.error("예약 자동 취소 스케줄러 실행 중 오류 발생", e);
+            log.error("사용 현황 뷰 갱신 중 오류 발생", e);
         }
     }
 
     /**
-     * 슬롯 인덱스를 시간으로 변환
+     * 슬롯 경계(:00, :30)마다 체크인 인덱스를 현재/다음 슬롯 기준으로 재구성
      */
-    private LocalTime slotToTime(int slot) {
-        int hour = slot / 2;
-        int minute = (slot % 2) * 30;
-        return LocalTime.of(hour, minute);
+    @Scheduled(cron = "0 0,30 * * * *", zone = "Asia/Seoul")
+    public void rebuildCheckinIndex() {
+        try {
+            checkinIndex.rebuild();
+        } catch (Exception e) {
+            log.error("체크인 인덱스 재구성 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 슬롯 경계(:00, :30)마다 알림 큐를 오늘/내일 예약 기준으로 재구성
+     */
+    @Scheduled(cron = "0 0,30 * * * *", zone = "Asia/Seoul")
+    public void rebuildReminderQueue() {
+        try {
+            reminderService.rebuild();
+        } catch (Exception e) {
+            log.error("알림 큐 재구성 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 발송 시각이 된 예약 안내/체크인 마감 알림 발송 (5초마다, 큐 맨 앞만 확인)
+     */
+    @Scheduled(fixedDelayString = "${app.notification.poll-interval-ms:5000}")
+    public void dispatchNotifications() {
+        try {
+            reminderService.dispatchDue();
+        } catch (Exception e) {
+            log.error("알림 발송 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * DB 차단기가 열려 있으면 대기 시간이 지난 뒤 연결 검사로 복구 확인 (5초마다)
+     */
+    @Scheduled(fixedDelayString = "${app.db-breaker.probe-interval-ms:5000}")
+    public void probeDatabase() {
+        databaseCircuitBreaker.probeIfDue();
+    }
+
+    /**
+     * 만료된 대기열 임시 배정 정리 (30초마다)
+     */
+    @Scheduled(fixedRate = 30000)
+    public void expireWaitlistHolds() {
+        try {
+            waitlistService.expireHolds();
+        } catch (Exception e) {
+            log.error("대기열 임시 배정 만료 처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 전달 완료 후 7일이 지난 outbox 이벤트 정리 (매일 04:10)
+     */
+    @Scheduled(cron = "0 10 4 * * *", zone = "Asia/Seoul")
+    public void purgeDispatchedOutbox() {
+        try {
+            LocalDateTime before = slotClock.now().minusDays(7);
+            shardRouter.runOnEachShard(() -> {
+                int purged = outboxDispatcher.purgeDispatched(before);
+                log.info("outbox 정리: {}건 삭제", purged);
+            });
+        } catch (Exception e) {
+            log.error("outbox 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 지난 날짜의 예약 한도 잠금 행 정리 (매일 04:20)
+     */
+    @Scheduled(cron = "0 20 4 * * *", zone = "Asia/Seoul")
+    public void purgeDailyQuotaLocks() {
+        try {
+            int purged = dailyQuotaLock.purgeBefore(slotClock.today());
+            log.info("예약 한도 잠금 행 정리: {}건 삭제", purged);
+        } catch (Exception e) {
+            log.error("예약 한도 잠금 행 정리 중 오류 발생", e);
+        }
     }
-}
 
+    /**
+     * 지난 날짜의 통계 시간대 롤업을 누적 테이블에 압축 (매일 04:30)
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void compactStats() {
+        try {
+            int rows = reservationStatsService.compact();
+            log.info("통계 누적 압축: {}행 갱신", rows);
+        } catch (Exception e) {
+            log.error("통계 누적 압축 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 예약 저널 스냅샷 (10분마다, 변경이 없으면 건너뜀)
+     */
+    @Scheduled(fixedRate = 600000)
+    public void snapshotJournal() {
+        try {
+            reservationJournal.snapshot();
+        } catch (Exception e) {
+            log.error("예약 저널 스냅샷 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 주가 바뀌면 새 주의 예약을 DB 에서 읽어 저널 상태를 다시 맞춤 (월요일 00:05)
+     */
+    @Scheduled(cron = "0 5 0 * * MON", zone = "Asia/Seoul")
+    public void reconcileJournal() {
+        try {
+            reservationJournal.reconcile();
+            reservationJournal.snapshot();
+        } catch (Exception e) {
+            log.error("예약 저널 대조 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.AdminReservationView;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.RoomsDTO;
+import kr.ac.hanyang.backend.dto.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관리자 예약 목록 (예약자/방 정보를 붙인 읽기 모델)
+ * users/rooms 는 홈 샤드에만 있어 샤드별 예약과 SQL 조인할 수 없으므로 애플리케이션에서 붙인다.
+ * - 예약: 기존 목록 조회 그대로 (샤딩 시 모든 샤드에서 gather)
+ * - 예약자: 목록에 나온 사용자만 IN 조회로 한 번에 (행마다 조회하지 않음)
+ * - 방: 메모리의 방 목록 스냅샷
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminReservationService {
+
+    private final ReservationService reservationService;
+    private final UserService userService;
+    private final RoomsService roomsService;
+    private final ShardRouter shardRouter;
+
+    public List<AdminReservationView> getCurrentReservations() {
+        return withDetails(reservationService.getCurrentReservations());
+    }
+
+    public List<AdminReservationView> getAllReservations() {
+        return withDetails(reservationService.getAllReservations());
+    }
+
+    /**
+     * 방 일괄 취소 (방 캠퍼스의 샤드에서) 후 예약자 연락처를 붙여 반환
+     */
+    public List<AdminReservationView> cancelRoomReservations(int roomId, LocalDate from, LocalDate to,
+                                                             int startSlot, int endSlot) {
+        return withDetails(shardRouter.forRoom(roomId,
+                () -> reservationService.cancelRoomReservationsByAdmin(roomId, from, to, startSlot, endSlot)));
+    }
+
+    private List<AdminReservationView> withDetails(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (Reservation reservation : reservations) {
+            userIds.add((long) reservation.getUserId());
+        }
+        Map<Long, User> users = userService.findByIds(userIds);
+
+        Map<Integer, RoomsDTO> rooms = new HashMap<>();
+        for (RoomsDTO room : roomsService.getRooms()) {
+            rooms.put(room.getId(), room);
+        }
+
+        List<AdminReservationView> views = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            views.add(AdminReservationView.of(reservation,
+                    users.get((long) reservation.getUserId()), rooms.get(reservation.getRoomId())));
+        }
+        return views;
+    }
+}
@@ -0,0 +1,94 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.exception.ErrorCode;
+import kr.ac.hanyang.backend.exception.ReservationException;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 정책 설정값 묶음과 검증 규칙
+ * ReservationService.createReservation 과 PolicySimulator 가 같은 규칙을 쓴다.
+ * 검증 메서드는 위반 시 ErrorCode, 통과 시 null 을 반환한다 (예외/할당 없음).
+ *
+ * @param dailyLimitHours 사용자당 하루 예약 한도 (시간)
+ * @param openingHour     운영 시작 시각 (시)
+ * @param closingHour     운영 종료 시각 (시)
+ */
+public record BookingPolicy(int dailyLimitHours, int openingHour, int closingHour) {
+
+    // 예약 가능 범위: 오늘 ~ 6일 뒤
+    public static final int HORIZON_DAYS = 6;
+
+    /**
+     * 현재 설정값 (settings 테이블 캐시)
+     */
+    public static BookingPolicy current(SettingService settingService) {
+        return new BookingPolicy(
+                settingService.getIntValue("DAILY_LIMIT_HOURS", 3),
+                settingService.getIntValue("OPENING_HOUR", 9),
+                settingService.getIntValue("CLOSING_HOUR", 21));
+    }
+
+    /**
+     * 날짜 범위 / 운영 시간 검증 (DB 조회 없이 먼저)
+     *
+     * @param today 예약 요청 시점의 날짜
+     */
+    public ErrorCode checkWindow(LocalDate today, LocalDate date, int startSlot, int endSlot) {
+        if (date.isAfter(today.plusDays(HORIZON_DAYS))) {
+            return ErrorCode.OUT_OF_RANGE;
+        }
+        int startHour = startSlot / 2;
+        int endHour = (endSlot + 1) / 2; // 종료 슬롯의 다음 시간
+        if (startHour < openingHour || endHour > closingHour) {
+            return ErrorCode.OUT_OF_HOURS;
+        }
+        return null;
+    }
+
+    /**
+     * 하루 예약 한도 검증 (30분 단위 슬롯이므로 시간 * 2)
+     *
+     * @param alreadyReservedSlots 같은 날 이미 예약한 슬롯 수 (모든 캠퍼스 합계)
+     */
+    public ErrorCode checkQuota(int alreadyReservedSlots, int requestedSlots) {
+        return alreadyReservedSlots + requestedSlots > dailyLimitHours * 2 ? ErrorCode.QUOTA_EXCEEDED : null;
+    }
+
+    /**
+     * checkWindow 위반의 거절 예외: 예약 가능한 마지막 날짜/운영 시간을 메시지에 담는다
+     */
+    public ReservationException windowRejection(ErrorCode violation, LocalDate today) {
+        return switch (violation) {
+            case OUT_OF_RANGE -> new ReservationException(violation,
+                    "예약은 최대 " + today.plusDays(HORIZON_DAYS) + "까지만 가능합니다.");
+            case OUT_OF_HOURS -> new ReservationException(violation,
+                    String.format("예약 가능 시간은 %02d:00 ~ %02d:00 입니다.", openingHour, closingHour));
+            default -> ReservationException.of(violation);
+        };
+    }
+
+    /**
+     * checkQuota 위반의 거절 예외: 하루 한도와 이미 예약한 시간을 메시지에 담는다
+     */
+    public ReservationException quotaRejection(int alreadyReservedSlots) {
+        return new ReservationException(ErrorCode.QUOTA_EXCEEDED, "하루에 최대 " + dailyLimitHours
+                + "시간까지 예약할 수 있습니다. (현재 " + (alreadyReservedSlots / 2.0) + "시간 예약됨)");
+    }
+
+    /**
+     * 방 하나의 하루 운영 슬롯 수 (이용률 분모)
+     */
+    public int openSlotsPerDay() {
+        return Math.max(0, (closingHour - openingHour) * 2);
+    }
+
+    /**
+     * @throws IllegalArgumentException 설정값 범위가 잘못된 경우
+     */
+    public void validate() {
+        if (dailyLimitHours < 0 || openingHour < 0 || closingHour > 24 || openingHour >= closingHour) {
+            throw new IllegalArgumentException("정책 값이 올바르지 않습니다: " + this);
+        }
+    }
+}
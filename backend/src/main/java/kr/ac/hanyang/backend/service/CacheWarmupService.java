@@ -0,0 +1,127 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 직후 캐시 워밍업
+ * - 앞으로 7일치 날짜별 예약, 방 목록, 설정, 최근 예약한 사용자를 병렬로 적재
+ * - 끝나거나 시간 예산이 다 될 때까지 readiness 는 준비 안 됨(/api/health/ready → 503)
+ * 재시작 직후 첫 그리드 폴링/체크인이 한꺼번에 DB 로 몰리지 않도록 하기 위함
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class CacheWarmupService {
+
+    private final ReservationDayCache reservationDayCache;
+    private final RoomsService roomsService;
+    private final SettingService settingService;
+    private final UserService userService;
+    private final SlotClock slotClock;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.budget-seconds:20}")
+    private long budgetSeconds;
+
+    @Value("${app.warmup.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.warmup.active-user-days:14}")
+    private int activeUserDays;
+
+    private volatile boolean completed;
+    private volatile Map<String, Object> report = Map.of("status", "PENDING");
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) {
+            completed = true;
+            report = Map.of("status", "DISABLED");
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "cache-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Map<String, Object> getReport() {
+        return report;
+    }
+
+    void warmUp() {
+        long started = System.nanoTime();
+        LocalDate today = slotClock.today();
+
+        Map<String, Callable<Integer>> tasks = new LinkedHashMap<>();
+        for (int i = 0; i < ReservationDayCache.WINDOW_DAYS; i++) {
+            LocalDate date = today.plusDays(i);
+            tasks.put("reservations:" + date, () -> reservationDayCache.load(date).size());
+        }
+        tasks.put("rooms", () -> roomsService.refreshCatalog().getRooms().size());
+        tasks.put("settings", settingService::refreshCache);
+        tasks.put("users", () -> userService.warmUp(today.minusDays(activeUserDays)));
+
+        Map<String, Object> loaded = new LinkedHashMap<>();
+        List<String> failed = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            List<String> names = new ArrayList<>(tasks.keySet());
+            List<Future<Integer>> futures = pool.invokeAll(tasks.values(), budgetSeconds, TimeUnit.SECONDS);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    loaded.put(names.get(i), futures.get(i).get());
+                } catch (CancellationException e) {
+                    failed.add(names.get(i) + " (timeout)");
+                } catch (Exception e) {
+                    failed.add(names.get(i));
+                    log.warn("Warm-up task {} failed", names.get(i), e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        int entries = loaded.values().stream().mapToInt(v -> (Integer) v).sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", failed.isEmpty() ? "COMPLETED" : "PARTIAL");
+        result.put("durationMs", elapsedMs);
+        result.put("entries", entries);
+        result.put("loaded", loaded);
+        result.put("failed", failed);
+        report = result;
+        completed = true;
+
+        if (failed.isEmpty()) {
+            log.info("Cache warm-up completed in {} ms: {} entries {}", elapsedMs, entries, loaded);
+        } else {
+            log.warn("Cache warm-up finished with failures in {} ms: {} entries, failed={}", elapsedMs, entries, failed);
+        }
+    }
+}
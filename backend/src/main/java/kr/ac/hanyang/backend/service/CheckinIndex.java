@@ -0,0 +1,116 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.ReservationEvent;
+import kr.ac.hanyang.backend.event.ReservationEventSubscriber;
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정각/30분 QR 스캔 몰림 대비 체크인 대상 인덱스
+ * - 현재 슬롯과 다음 슬롯에 걸친 오늘 예약을 (userId, roomId) 키로 보관 → 스캔 시 해시 조회 한 번
+ * - 슬롯 경계마다 다시 구성하고, 그 사이의 예약/체크인/취소는 outbox 이벤트로 반영
+ * 인덱스에 없는 스캔(다른 시간대 예약 안내, 예약 없음)은 CheckinService 가 DB 이력으로 처리한다.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class CheckinIndex implements ReservationEventSubscriber {
+
+    private final ReservationDayCache reservationDayCache;
+    private final SlotClock slotClock;
+
+    private volatile Window window = new Window(null, -1, new ConcurrentHashMap<>());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Check-in index initial build failed; scans fall back to DB until next slot boundary", e);
+        }
+    }
+
+    /**
+     * 슬롯 경계마다 호출: 현재/다음 슬롯의 예약으로 인덱스를 새로 구성
+     */
+    public synchronized void rebuild() {
+        LocalDate today = slotClock.today();
+        int slot = slotClock.currentSlot();
+        Map<Long, List<Reservation>> entries = new ConcurrentHashMap<>();
+        for (Reservation reservation : reservationDayCache.get(today)) {
+            if (covers(reservation, slot)) {
+                entries.computeIfAbsent(key(reservation.getUserId(), reservation.getRoomId()), k -> new ArrayList<>())
+                        .add(reservation);
+            }
+        }
+        entries.replaceAll((k, list) -> sorted(list));
+        window = new Window(today, slot, entries);
+        log.debug("Check-in index rebuilt: date={}, slot={}, keys={}", today, slot, entries.size());
+    }
+
+    /**
+     * 사용자의 해당 방 예약 중 현재/다음 슬롯에 걸친 것 (시작 슬롯 순)
+     * 인덱스가 현재 슬롯 기준으로 만들어지지 않았으면 null → 호출자는 DB 로 조회
+     */
+    public List<Reservation> lookup(int userId, int roomId) {
+        Window current = window;
+        if (!slotClock.today().equals(current.date()) || current.slot() != slotClock.currentSlot()) {
+            return null;
+        }
+        return current.entries().getOrDefault(key(userId, roomId), List.of());
+    }
+
+    @Override
+    public synchronized void onReservationEvent(ReservationEvent event) {
+        Window current = window;
+        Reservation reservation = event.reservation();
+        if (!reservation.getDate().equals(current.date())) {
+            return;
+        }
+        long key = key(reservation.getUserId(), reservation.getRoomId());
+        List<Reservation> updated = new ArrayList<>(current.entries().getOrDefault(key, List.of()));
+        updated.removeIf(r -> r.getId() == reservation.getId());
+        switch (event.type()) {
+            case CREATED, CHECKED_IN -> {
+                if (covers(reservation, current.slot())) {
+                    updated.add(reservation);
+                }
+            }
+            case CANCELLED, NO_SHOW -> {
+            }
+        }
+        if (updated.isEmpty()) {
+            current.entries().remove(key);
+        } else {
+            current.entries().put(key, sorted(updated));
+        }
+    }
+
+    // 현재 슬롯 진행 중이거나 다음 슬롯에 시작하는 예약
+    private static boolean covers(Reservation reservation, int slot) {
+        return reservation.getStartSlot() <= slot + 1 && reservation.getEndSlot() >= slot;
+    }
+
+    private static List<Reservation> sorted(List<Reservation> reservations) {
+        return reservations.stream().sorted(Comparator.comparingInt(Reservation::getStartSlot)).toList();
+    }
+
+    private static long key(int userId, int roomId) {
+        return ((long) userId << 32) | (roomId & 0xFFFFFFFFL);
+    }
+
+    private record Window(LocalDate date, int slot, Map<Long, List<Reservation>> entries) {
+    }
+}
@@ -2,8 +2,11 @@
 
 import kr.ac.hanyang.backend.dto.Reservation;
 import kr.ac.hanyang.backend.dto.User;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.event.ReservationOutbox;
+import kr.ac.hanyang.backend.exception.CheckinExpiredException;
 import kr.ac.hanyang.backend.mapper.ReservationMapper;
-import kr.ac.hanyang.backend.mapper.UserMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,7 +15,6 @@
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
 import java.util.List;
 
 @Slf4j
@@ -21,7 +23,12 @@
 public class CheckinService {
 
     private final ReservationMapper reservationMapper;
-    private final UserMapper userMapper;
+    private final UserService userService;
+    private final CheckinIndex checkinIndex;
+    private final ReservationStatsService reservationStatsService;
+    private final ReservationOutbox reservationOutbox;
+    private final ReservationSyncService reservationSyncService;
+    private final SlotClock slotClock;
 
     /**
      * QR 코드 스캔 후 체크인
@@ -29,19 +36,24 @@ public class CheckinService {
      * @param email 사용자 이메일
      * @param roomId 방 ID
      * @return 체크인된 예약
+     * @throws CheckinExpiredException 체크인 마감이 지나 노쇼로 취소된 경우 (취소는 커밋됨)
      */
-    @Transactional
+    @Transactional(noRollbackFor = CheckinExpiredException.class)
     public Reservation checkin(String email, Integer roomId) {
-        // 1. 사용자 조회
-        User user = userMapper.findByEmail(email);
+        // 1. 사용자 조회 (이메일 캐시)
+        User user = userService.findByEmail(email);
         if (user == null) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
 
         // 2. 오늘 날짜의 해당 방 예약 찾기 (현재 시간대 우선 매칭)
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        List<Reservation> myReservations = reservationMapper.findByUserId(user.getId().intValue());
-        int nowSlot = getCurrentSlot();
+        // 현재/다음 슬롯 예약은 체크인 인덱스에서 바로 찾고, 없을 때만 전체 이력을 조회
+        LocalDate today = slotClock.today();
+        int nowSlot = slotClock.currentSlot();
+        List<Reservation> myReservations = checkinIndex.lookup(user.getId().intValue(), roomId);
+        if (myReservations == null || myReservations.isEmpty()) {
+            myReservations = reservationMapper.findByUserId(user.getId().intValue());
+        }
 
         // 이미 체크인된 예약이 있는 경우 재스캔 시에도 성공으로 응답 (현재 시간대에 해당하는 것만)
         Reservation alreadyCheckedIn = myReservations.stream()
@@ -87,12 +99,12 @@ public Reservation checkin(String email, Integer roomId) {
         if (Boolean.FALSE.equals(targetReservation.getCheckinRequired())) {
             log.info("체크인 불필요 예약: reservationId={}, userId={}, roomId={}",
                     targetReservation.getId(), user.getId(), roomId);
-            return reservationMapper.findById(targetReservation.getId());
+            return targetReservation;
         }
 
         // 4. 예약 시간 확인 (예약 시작 시간부터 체크인 가능)
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-        LocalTime reservationStartTime = slotToTime(targetReservation.getStartSlot());
+        LocalDateTime now = slotClock.now();
+        LocalTime reservationStartTime = SlotClock.slotToTime(targetReservation.getStartSlot());
         LocalDateTime reservationStartDateTime = LocalDateTime.of(today, reservationStartTime);
         
         // 예약 시작 전에는 체크인 불가
@@ -101,53 +113,72 @@ public Reservation checkin(String email, Integer roomId) {
         }
 
         // 5. 체크인 마감 시간 확인 (정책: 시작 후 15분)
-        LocalTime reservationStartTimeForDeadline = slotToTime(targetReservation.getStartSlot());
-        LocalDateTime checkinDeadline = LocalDateTime.of(today, reservationStartTimeForDeadline).plusMinutes(15);
+        LocalDateTime checkinDeadline = reservationStartDateTime.plusMinutes(15);
 
         if (now.isAfter(checkinDeadline)) {
             // 체크인 마감 시간 초과 → 이력 보존을 위해 상태만 변경
-            reservationMapper.updateStatus(targetReservation.getId(), "CANCELLED");
+            // 인덱스/캐시와 공유하는 객체는 그대로 두고 복사본으로 기록 (인덱스는 NO_SHOW 이벤트로 갱신)
+            // 인덱스는 비동기로 갱신되므로 RESERVED 일 때만 바꾸고, 실제로 바뀐 경우에만 통계/이벤트 기록
+            Reservation noShow = copyOf(targetReservation);
+            noShow.setStatus("CANCELLED");
+            if (reservationMapper.markNoShow(noShow.getId()) == 0) {
+                Reservation current = reservationMapper.findById(noShow.getId());
+                if (current != null && "CHECKED_IN".equals(current.getStatus())) {
+                    log.info("이미 체크인된 예약 재스캔 처리: reservationId={}, userId={}, roomId={}",
+                            current.getId(), user.getId(), roomId);
+                    return current;
+                }
+                if (current == null || current.getDeletedAt() != null) {
+                    throw new IllegalArgumentException("오늘 이 방에 대한 예약이 없거나 이미 체크인했습니다.");
+                }
+                // 스케줄러가 먼저 노쇼 처리한 경우 (tombstone 이 아닌 CANCELLED)
+            } else {
+                reservationSyncService.markChanged();
+                reservationStatsService.recordNoShow(noShow);
+                reservationOutbox.record(ReservationEventType.NO_SHOW, noShow);
+            }
             log.info("예약 ID {}는 체크인 마감 시간({} KST)까지 체크인하지 않아 자동 취소되었습니다(상태 변경).", 
-                    targetReservation.getId(), checkinDeadline);
-            throw new IllegalArgumentException("체크인 마감 시간(" + checkinDeadline.toLocalTime() + " KST) 지나 예약이 자동 취소되었습니다.");
+                    noShow.getId(), checkinDeadline);
+            // 롤백하지 않는 예외: 취소를 커밋한 뒤 사용자에게 알림
+            throw new CheckinExpiredException("체크인 마감 시간(" + checkinDeadline.toLocalTime() + " KST) 지나 예약이 자동 취소되었습니다.");
         }
 
-        // 6. 체크인 처리
-        log.info("체크인 처리 시작: reservationId={}, 현재 상태={}", 
-                targetReservation.getId(), targetReservation.getStatus());
-        
-        reservationMapper.updateCheckinTime(targetReservation.getId());
-        reservationMapper.updateStatus(targetReservation.getId(), "CHECKED_IN");
-        
+        // 6. 체크인 처리 (상태 변경 한 번, RESERVED 일 때만 적용되므로 동시 재스캔에도 한 번만 체크인)
+        if (reservationMapper.markCheckedIn(targetReservation.getId(), now) == 0) {
+            Reservation current = reservationMapper.findById(targetReservation.getId());
+            if (current != null && "CHECKED_IN".equals(current.getStatus())) {
+                log.info("이미 체크인된 예약 재스캔 처리: reservationId={}, userId={}, roomId={}",
+                        current.getId(), user.getId(), roomId);
+                return current;
+            }
+            throw new IllegalArgumentException("오늘 이 방에 대한 예약이 없거나 이미 체크인했습니다.");
+        }
+        reservationStatsService.recordCheckedIn(targetReservation);
+        reservationSyncService.markChanged();
+
+        // 인덱스에 있는 예약은 공유 객체이므로 복사본에 체크인 결과를 반영해 반환
+        Reservation updatedReservation = copyOf(targetReservation);
+        updatedReservation.setStatus("CHECKED_IN");
+        updatedReservation.setCheckinTime(now);
+        reservationOutbox.record(ReservationEventType.CHECKED_IN, updatedReservation);
         log.info("체크인 완료: reservationId={}, userId={}, roomId={}", 
-                targetReservation.getId(), user.getId(), roomId);
-
-        // 업데이트된 예약 정보 반환
-        Reservation updatedReservation = reservationMapper.findById(targetReservation.getId());
-        log.info("체크인 후 조회 결과: reservationId={}, status={}, checkinTime={}", 
-                updatedReservation.getId(), updatedReservation.getStatus(), updatedReservation.getCheckinTime());
+                updatedReservation.getId(), user.getId(), roomId);
         
         return updatedReservation;
     }
 
-
-    /**
-     * 현재 시간을 슬롯 인덱스로 변환
-     */
-    private int getCurrentSlot() {
-        LocalTime now = LocalTime.now();
-        int hour = now.getHour();
-        int minute = now.getMinute();
-        return hour * 2 + (minute >= 30 ? 1 : 0);
-    }
-
-    /**
-     * 슬롯 인덱스를 시간으로 변환
-     */
-    private LocalTime slotToTime(int slot) {
-        int hour = slot / 2;
-        int minute = (slot % 2) * 30;
-        return LocalTime.of(hour, minute);
+    private static Reservation copyOf(Reservation source) {
+        Reservation copy = new Reservation();
+        copy.setId(source.getId());
+        copy.setUserId(source.getUserId());
+        copy.setRoomId(source.getRoomId());
+        copy.setDate(source.getDate());
+        copy.setStartSlot(source.getStartSlot());
+        copy.setEndSlot(source.getEndSlot());
+        copy.setStatus(source.getStatus());
+        copy.setCheckinTime(source.getCheckinTime());
+        copy.setCheckinRequired(source.getCheckinRequired());
+        copy.setCreatedAt(source.getCreatedAt());
+        return copy;
     }
 }
-
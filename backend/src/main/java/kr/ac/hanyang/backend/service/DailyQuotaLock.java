@@ -0,0 +1,123 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.mapper.UserDailyQuotaMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자·날짜별 예약 직렬화 (하루 예약 한도 검사용)
+ * 한도는 모든 샤드의 활성 예약 합계로 계산하므로, 같은 사용자의 같은 날짜 예약이 동시에 들어오면 서로의 예약을
+ * 보지 못하고 둘 다 통과할 수 있다. 홈 샤드의 user_daily_quota 행을 잠근 뒤 합계를 읽고, 잠금은 현재 예약
+ * 트랜잭션이 끝날 때(커밋/롤백) 함께 푼다.
+ * - 예약 트랜잭션이 홈 샤드면 같은 트랜잭션에서 잠근다.
+ * - 다른 샤드면 그 연결로는 홈 샤드를 잠글 수 없으므로, 별도 스레드가 홈 샤드 트랜잭션을 열어 잠금을 쥐고
+ *   예약 트랜잭션이 끝날 때까지 기다렸다가 커밋한다. 예약 트랜잭션 하나가 홈 연결 하나를 더 쓴다.
+ * 잠금 순서는 항상 한도 잠금 → 방 슬롯 잠금이다.
+ */
+@Component
+@Log4j2
+public class DailyQuotaLock {
+
+    /**
+     * 예약 트랜잭션이 끝났다는 신호를 받지 못해도 홈 잠금을 쥐고 있는 최대 시간
+     */
+    private static final long MAX_HOLD_SECONDS = 60;
+
+    private final UserDailyQuotaMapper userDailyQuotaMapper;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    public DailyQuotaLock(UserDailyQuotaMapper userDailyQuotaMapper, ShardRouter shardRouter,
+                          PlatformTransactionManager transactionManager) {
+        this.userDailyQuotaMapper = userDailyQuotaMapper;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = shardRouter.isSharded() ? Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "daily-quota-lock");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 (사용자, 날짜)의 다른 예약을 기다리게 한다. 트랜잭션 안에서 호출해야 한다.
+     */
+    public void lock(int userId, LocalDate date) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("예약 한도 잠금은 트랜잭션 안에서만 잡을 수 있습니다.");
+        }
+        if (executor == null || shardRouter.isOnHome()) {
+            userDailyQuotaMapper.lock(userId, date);
+            return;
+        }
+
+        CompletableFuture<Void> locked = new CompletableFuture<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        // 잠금을 기다리다 실패해도 롤백 시점에 보유 스레드가 끝나도록 먼저 등록
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                completed.countDown();
+            }
+        });
+        // 격벽 연결 몫은 쓰지 않는다 (예약 요청들이 서로의 보유 스레드 몫을 기다리는 일이 없도록)
+        executor.submit(() -> shardRouter.onHome(() -> transactionTemplate.execute(status -> {
+            try {
+                userDailyQuotaMapper.lock(userId, date);
+            } catch (RuntimeException e) {
+                locked.completeExceptionally(e);
+                throw e;
+            }
+            locked.complete(null);
+            awaitCompletion(completed, userId, date);
+            return null;
+        })));
+        try {
+            locked.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 지난 날짜의 잠금 행 정리 (홈 샤드)
+     */
+    public int purgeBefore(LocalDate date) {
+        return shardRouter.onHome(() -> userDailyQuotaMapper.deleteBefore(date));
+    }
+
+    private static void awaitCompletion(CountDownLatch completed, int userId, LocalDate date) {
+        try {
+            if (!completed.await(MAX_HOLD_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("예약 트랜잭션 종료 신호 없이 한도 잠금 해제: userId={}, date={}", userId, date);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
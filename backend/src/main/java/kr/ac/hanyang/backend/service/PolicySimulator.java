@@ -0,0 +1,342 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.bulkhead.Bulkhead;
+import kr.ac.hanyang.backend.bulkhead.BulkheadContext;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.RoomsDTO;
+import kr.ac.hanyang.backend.exception.ErrorCode;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 정책 what-if 시뮬레이터
+ * 기간 내 예약 이력을 요청 시각(created_at) 순으로 다시 넣어 보며, 후보 설정(하루 한도/운영 시간)마다
+ * 예상 이용률, 거절 수(코드별), 방별 경합을 계산한다. 검증 규칙은 BookingPolicy 로 예약 API 와 같다.
+ * - 날짜마다 독립(한도는 사용자·날짜별, 충돌은 방·날짜별)이므로 날짜 단위 작업으로 ForkJoinPool 에서 병렬 재생
+ * - 이력은 chunk-days 단위로 모든 샤드에서 읽어 흘려 보낸다 (캠퍼스를 넘는 한도도 그대로 반영, 메모리는 구간 크기만큼)
+ * - 노쇼로 취소된 예약(CANCELLED)은 체크인 마감(시작 + 15분)에, 사용자/관리자 취소(tombstone)는 취소 시각에 자리를 반납한 것으로 본다.
+ * 한계: 거절된 요청은 이력에 없으므로, 정책을 완화했을 때 늘어날 수요는 추정하지 않는다.
+ * 대기자 임시 배정(SLOT_HELD)은 재현하지 않는다.
+ */
+@Service
+@Log4j2
+public class PolicySimulator {
+
+    static final int CHECKIN_WINDOW_MINUTES = 15;
+
+    private final ReservationMapper reservationMapper;
+    private final ShardRouter shardRouter;
+    private final RoomsService roomsService;
+    private final SettingService settingService;
+
+    @Value("${app.policy-simulation.parallelism:0}")
+    private int parallelism;
+
+    @Value("${app.policy-simulation.chunk-days:7}")
+    private int chunkDays;
+
+    @Value("${app.policy-simulation.max-days:200}")
+    private int maxDays;
+
+    public PolicySimulator(ReservationMapper reservationMapper, ShardRouter shardRouter,
+                           RoomsService roomsService, SettingService settingService) {
+        this.reservationMapper = reservationMapper;
+        this.shardRouter = shardRouter;
+        this.roomsService = roomsService;
+        this.settingService = settingService;
+    }
+
+    /**
+     * 후보 설정 하나
+     */
+    public record Scenario(String name, BookingPolicy policy) {
+    }
+
+    public record RoomProjection(int roomId, String roomName, long requests, long rejected, long slotTaken,
+                                 long usedSlots, double utilization) {
+    }
+
+    public record Projection(String name, BookingPolicy policy, long requests, long accepted, long rejected,
+                             double rejectionRate, Map<ErrorCode, Long> rejectionsByCode, long usedSlots,
+                             double utilization, List<RoomProjection> rooms) {
+    }
+
+    public record SimulationResult(LocalDate from, LocalDate to, int days, long reservations, long elapsedMs,
+                                   List<Projection> projections) {
+    }
+
+    /**
+     * 현재 설정(첫 번째, 이름 "current")과 후보 설정들로 기간 내 이력을 재생
+     */
+    public SimulationResult simulate(LocalDate from, LocalDate to, List<Scenario> candidates) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 이후일 수 없습니다.");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxDays) {
+            throw new IllegalArgumentException("시뮬레이션 기간은 최대 " + maxDays + "일입니다.");
+        }
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(new Scenario("current", BookingPolicy.current(settingService)));
+        if (candidates != null) {
+            for (int i = 0; i < candidates.size(); i++) {
+                Scenario candidate = candidates.get(i);
+                if (candidate.policy() == null) {
+                    throw new IllegalArgumentException("후보 " + (i + 1) + "의 policy가 없습니다.");
+                }
+                candidate.policy().validate();
+                scenarios.add(new Scenario(candidate.name() != null ? candidate.name() : "candidate-" + (i + 1),
+                        candidate.policy()));
+            }
+        }
+        BookingPolicy[] policies = scenarios.stream().map(Scenario::policy).toArray(BookingPolicy[]::new);
+
+        long started = System.currentTimeMillis();
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        // 재생은 메모리 연산뿐이지만, 작업 스레드에서 DB 를 타더라도 요청의 격벽 몫을 따르도록 넘겨 둔다.
+        Bulkhead bulkhead = BulkheadContext.current();
+        Tally[] totals = newTallies(policies.length);
+        long reservations = 0;
+        try {
+            // 끝난 날짜 작업은 바로 합쳐서, 아직 읽지 않은 구간까지 결과/이력을 쌓아 두지 않는다.
+            ArrayDeque<ForkJoinTask<Tally[]>> inFlight = new ArrayDeque<>();
+            for (LocalDate chunkFrom = from; !chunkFrom.isAfter(to); chunkFrom = chunkFrom.plusDays(chunkDays)) {
+                LocalDate chunkTo = chunkFrom.plusDays(chunkDays - 1L).isAfter(to) ? to : chunkFrom.plusDays(chunkDays - 1L);
+                LocalDate start = chunkFrom;
+                List<Reservation> chunk = shardRouter.gather(() -> reservationMapper.findByDateRange(start, chunkTo));
+                reservations += chunk.size();
+
+                Map<LocalDate, List<Reservation>> byDate = new TreeMap<>();
+                for (Reservation reservation : chunk) {
+                    byDate.computeIfAbsent(reservation.getDate(), date -> new ArrayList<>()).add(reservation);
+                }
+                for (List<Reservation> day : byDate.values()) {
+                    inFlight.add(pool.submit(() -> BulkheadContext.call(bulkhead, () -> replayDay(day, policies))));
+                }
+                while (inFlight.size() > threads * 4) {
+                    merge(totals, inFlight.poll().join());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                merge(totals, inFlight.poll().join());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<RoomsDTO> rooms = roomsService.getRooms();
+        List<Projection> projections = new ArrayList<>(scenarios.size());
+        for (int p = 0; p < scenarios.size(); p++) {
+            projections.add(project(scenarios.get(p), totals[p], rooms, days));
+        }
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("Policy simulation {} ~ {}: {} reservations, {} scenarios in {} ms",
+                from, to, reservations, scenarios.size(), elapsed);
+        return new SimulationResult(from, to, days, reservations, elapsed, projections);
+    }
+
+    /**
+     * 하루치 이력을 요청 시각 순으로 정책마다 재생
+     */
+    static Tally[] replayDay(List<Reservation> day, BookingPolicy[] policies) {
+        int n = day.size();
+        // 이벤트: 예약 요청(짝수) / 취소·노쇼 반납(홀수), 같은 시각이면 반납 먼저
+        long[] times = new long[n * 2];
+        int events = 0;
+        long[] order = new long[n * 2];
+        for (int i = 0; i < n; i++) {
+            Reservation r = day.get(i);
+            LocalDateTime start = SlotClock.slotStart(r.getDate(), r.getStartSlot());
+            LocalDateTime requestedAt = r.getCreatedAt() != null ? r.getCreatedAt() : start.toLocalDate().atStartOfDay();
+            times[events] = epochMinute(requestedAt);
+            order[events] = ((long) i << 1);
+            events++;
+            if ("CANCELLED".equals(r.getStatus())) {
+                // 사용자/관리자 취소(tombstone)는 취소 시각, 노쇼는 체크인 마감에 반납
+                times[events] = epochMinute(r.getDeletedAt() != null
+                        ? r.getDeletedAt() : start.plusMinutes(CHECKIN_WINDOW_MINUTES));
+                order[events] = ((long) i << 1) | 1;
+                events++;
+            }
+        }
+        Integer[] sorted = new Integer[events];
+        for (int e = 0; e < events; e++) {
+            sorted[e] = e;
+        }
+        Arrays.sort(sorted, Comparator.<Integer>comparingLong(e -> times[e])
+                .thenComparingLong(e -> (order[e] & 1) == 1 ? 0 : 1)
+                .thenComparingLong(e -> order[e]));
+
+        Tally[] tallies = newTallies(policies.length);
+        Map<Integer, Long> busy = new HashMap<>();
+        Map<Integer, Integer> userSlots = new HashMap<>();
+        boolean[] accepted = new boolean[n];
+        for (int p = 0; p < policies.length; p++) {
+            BookingPolicy policy = policies[p];
+            Tally tally = tallies[p];
+            busy.clear();
+            userSlots.clear();
+            Arrays.fill(accepted, false);
+            for (Integer e : sorted) {
+                int i = (int) (order[e] >>> 1);
+                Reservation r = day.get(i);
+                int slots = r.getEndSlot() - r.getStartSlot() + 1;
+                long mask = slotMask(r.getStartSlot(), r.getEndSlot());
+                if ((order[e] & 1) == 1) {
+                    if (accepted[i]) {
+                        busy.merge(r.getRoomId(), mask, (a, b) -> a & ~b);
+                        userSlots.merge(r.getUserId(), -slots, Integer::sum);
+                    }
+                    continue;
+                }
+
+                long[] room = tally.room(r.getRoomId());
+                tally.requests++;
+                room[0]++;
+                LocalDate requestedOn = LocalDate.ofEpochDay(Math.floorDiv(times[e], 24 * 60));
+                ErrorCode violation = policy.checkWindow(requestedOn, r.getDate(), r.getStartSlot(), r.getEndSlot());
+                if (violation == null) {
+                    violation = policy.checkQuota(userSlots.getOrDefault(r.getUserId(), 0), slots);
+                }
+                if (violation == null && (busy.getOrDefault(r.getRoomId(), 0L) & mask) != 0) {
+                    violation = ErrorCode.SLOT_TAKEN;
+                    room[2]++;
+                }
+                if (violation != null) {
+                    tally.rejections[violation.ordinal()]++;
+                    room[1]++;
+                    continue;
+                }
+                accepted[i] = true;
+                tally.accepted++;
+                busy.merge(r.getRoomId(), mask, (a, b) -> a | b);
+                userSlots.merge(r.getUserId(), slots, Integer::sum);
+                if (!"CANCELLED".equals(r.getStatus())) {
+                    tally.usedSlots += slots;
+                    room[3] += slots;
+                }
+            }
+        }
+        return tallies;
+    }
+
+    private static Projection project(Scenario scenario, Tally tally, List<RoomsDTO> rooms, int days) {
+        long capacityPerRoom = (long) scenario.policy().openSlotsPerDay() * days;
+        Map<Integer, RoomsDTO> roomById = new HashMap<>();
+        for (RoomsDTO room : rooms) {
+            roomById.put(room.getId(), room);
+        }
+        List<RoomProjection> roomProjections = new ArrayList<>();
+        for (RoomsDTO room : rooms) {
+            long[] counts = tally.rooms.getOrDefault(room.getId(), new long[4]);
+            roomProjections.add(roomProjection(room.getId(), room.getName(), counts, capacityPerRoom));
+        }
+        // 목록에 없는(삭제된) 방의 이력도 빠뜨리지 않음
+        tally.rooms.forEach((roomId, counts) -> {
+            if (!roomById.containsKey(roomId)) {
+                roomProjections.add(roomProjection(roomId, null, counts, capacityPerRoom));
+            }
+        });
+        // 경합이 심한 방부터: 충돌 거절, 이용률 순
+        roomProjections.sort(Comparator.comparingLong(RoomProjection::slotTaken).reversed()
+                .thenComparing(Comparator.comparingDouble(RoomProjection::utilization).reversed()));
+
+        Map<ErrorCode, Long> byCode = new EnumMap<>(ErrorCode.class);
+        long rejected = 0;
+        for (ErrorCode code : ErrorCode.values()) {
+            long count = tally.rejections[code.ordinal()];
+            if (count > 0) {
+                byCode.put(code, count);
+                rejected += count;
+            }
+        }
+        long capacity = capacityPerRoom * rooms.size();
+        return new Projection(scenario.name(), scenario.policy(), tally.requests, tally.accepted, rejected,
+                ratio(rejected, tally.requests), byCode, tally.usedSlots, ratio(tally.usedSlots, capacity),
+                roomProjections);
+    }
+
+    private static RoomProjection roomProjection(int roomId, String name, long[] counts, long capacity) {
+        return new RoomProjection(roomId, name, counts[0], counts[1], counts[2], counts[3], ratio(counts[3], capacity));
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole > 0 ? Math.round(part * 10000.0 / whole) / 10000.0 : 0.0;
+    }
+
+    private static long slotMask(int startSlot, int endSlot) {
+        int from = Math.max(0, startSlot);
+        int to = Math.min(SlotClock.SLOTS_PER_DAY - 1, endSlot);
+        return from > to ? 0L : (-1L >>> (63 - to)) & (-1L << from);
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return time.toLocalDate().toEpochDay() * 24 * 60 + time.getHour() * 60L + time.getMinute();
+    }
+
+    private static Tally[] newTallies(int count) {
+        Tally[] tallies = new Tally[count];
+        for (int i = 0; i < count; i++) {
+            tallies[i] = new Tally();
+        }
+        return tallies;
+    }
+
+    private static void merge(Tally[] totals, Tally[] day) {
+        for (int p = 0; p < totals.length; p++) {
+            totals[p].add(day[p]);
+        }
+    }
+
+    /**
+     * 정책 하나의 누적 결과 (날짜 작업마다 따로 만들고 마지막에 합침)
+     */
+    static final class Tally {
+        long requests;
+        long accepted;
+        long usedSlots;
+        final long[] rejections = new long[ErrorCode.values().length];
+        // 방 id → {요청, 거절, 충돌 거절, 사용 슬롯}
+        final Map<Integer, long[]> rooms = new LinkedHashMap<>();
+
+        long[] room(int roomId) {
+            return rooms.computeIfAbsent(roomId, id -> new long[4]);
+        }
+
+        void add(Tally other) {
+            requests += other.requests;
+            accepted += other.accepted;
+            usedSlots += other.usedSlots;
+            for (int i = 0; i < rejections.length; i++) {
+                rejections[i] += other.rejections[i];
+            }
+            other.rooms.forEach((roomId, counts) -> {
+                long[] mine = room(roomId);
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] += counts[i];
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.ReservationEvent;
+import kr.ac.hanyang.backend.event.ReservationEventSubscriber;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날짜별 활성 예약 캐시 (예약 현황 그리드 폴링용)
+ * - 오늘부터 7일치만 보관하고, 그 밖의 날짜는 DB 를 바로 조회
+ * - outbox 이벤트로 해당 날짜를 무효화하고 다음 조회에서 다시 읽는다.
+ *   이벤트를 놓치거나(전달 포기, 다른 경로의 변경) 늦게 받아도 틀린 날짜가 오래 남지 않도록
+ *   캐시한 지 ttl-seconds 가 지난 날짜도 다시 읽는다.
+ * - 7일치는 마지막으로 성공한 조회 결과를 따로 남겨 두고, DB 차단기가 열렸거나 조회가 실패하면
+ *   그 결과를 stale 로 표시해 돌려준다 (stale-while-revalidate)
+ */
+@Service
+@Log4j2
+public class ReservationDayCache implements ReservationEventSubscriber {
+
+    public static final int WINDOW_DAYS = 7;
+
+    private final ReservationMapper reservationMapper;
+    private final SlotClock slotClock;
+    private final DatabaseCircuitBreaker circuitBreaker;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${app.reservation-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Map<LocalDate, Snapshot> days = new ConcurrentHashMap<>();
+    // 무효화와 무관하게 날짜별 마지막 정상 조회 결과 (DB 장애 시 대체용)
+    private final Map<LocalDate, Snapshot> lastGood = new ConcurrentHashMap<>();
+    // 무효화될 때마다 증가: 조회 도중 무효화된 결과는 캐시에 넣지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public ReservationDayCache(ReservationMapper reservationMapper, SlotClock slotClock,
+                               DatabaseCircuitBreaker circuitBreaker, ShardRouter shardRouter,
+                               PlatformTransactionManager transactionManager) {
+        this.reservationMapper = reservationMapper;
+        this.slotClock = slotClock;
+        this.circuitBreaker = circuitBreaker;
+        this.shardRouter = shardRouter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 조회 결과와 신선도: stale 이면 loadedAt 시점의 데이터
+     */
+    public record DayView(List<Reservation> reservations, long loadedAt, boolean stale) {
+    }
+
+    private record Snapshot(List<Reservation> reservations, long loadedAt) {
+    }
+
+    public List<Reservation> get(LocalDate date) {
+        return read(date).reservations();
+    }
+
+    public DayView read(LocalDate date) {
+        Snapshot cached = days.get(date);
+        if (cached != null && slotClock.getClock().millis() - cached.loadedAt() < ttlSeconds * 1000) {
+            return new DayView(cached.reservations(), cached.loadedAt(), false);
+        }
+        try {
+            Snapshot loaded = fetch(date);
+            return new DayView(loaded.reservations(), loaded.loadedAt(), false);
+        } catch (RuntimeException e) {
+            Snapshot last = lastGood.get(date);
+            if (last == null || !DatabaseCircuitBreaker.isDatabaseFailure(e)) {
+                throw e;
+            }
+            log.debug("Serving stale reservations for {} loaded at {}: {}", date, last.loadedAt(), e.getMessage());
+            return new DayView(last.reservations(), last.loadedAt(), true);
+        }
+    }
+
+    /**
+     * DB 에서 읽어 캐시에 넣는다 (워밍업에서도 사용)
+     */
+    public List<Reservation> load(LocalDate date) {
+        return fetch(date).reservations();
+    }
+
+    private Snapshot fetch(LocalDate date) {
+        long before = generation.get();
+        List<Reservation> reservations = List.copyOf(circuitBreaker.call(() ->
+                shardRouter.gather(() -> readOnlyTransaction.execute(status -> reservationMapper.getReservationsByDate(date)))));
+        Snapshot snapshot = new Snapshot(reservations, slotClock.getClock().millis());
+        if (inWindow(date)) {
+            lastGood.put(date, snapshot);
+            if (generation.get() == before) {
+                days.put(date, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void onReservationEvent(ReservationEvent event) {
+        generation.incrementAndGet();
+        days.remove(event.reservation().getDate());
+    }
+
+    /**
+     * 지난 날짜 정리 (날짜가 바뀐 뒤 호출)
+     */
+    public void evictPast() {
+        LocalDate today = slotClock.today();
+        days.keySet().removeIf(date -> date.isBefore(today));
+        lastGood.keySet().removeIf(date -> date.isBefore(today));
+    }
+
+    public int size() {
+        return days.values().stream().mapToInt(snapshot -> snapshot.reservations().size()).sum();
+    }
+
+    private boolean inWindow(LocalDate date) {
+        LocalDate today = slotClock.today();
+        return !date.isBefore(today) && date.isBefore(today.plusDays(WINDOW_DAYS));
+    }
+}
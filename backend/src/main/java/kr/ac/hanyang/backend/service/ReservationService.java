@@ -1,9 +1,14 @@
 package kr.ac.hanyang.backend.service;
 
+import kr.ac.hanyang.backend.datasource.ShardRouter;
 import kr.ac.hanyang.backend.dto.Reservation;
 import kr.ac.hanyang.backend.dto.ReservationRequestDTO;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.event.ReservationOutbox;
+import kr.ac.hanyang.backend.exception.ErrorCode;
 import kr.ac.hanyang.backend.exception.ReservationException;
 import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
@@ -12,8 +17,8 @@
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -22,44 +27,57 @@
 public class ReservationService {
     private final ReservationMapper reservationMapper;
     private final SettingService settingService;
+    private final RoomOccupancyService roomOccupancyService;
+    private final ReservationDayCache reservationDayCache;
+    private final ReservationStatsService reservationStatsService;
+    private final WaitlistHoldRegistry waitlistHoldRegistry;
+    private final DailyQuotaLock dailyQuotaLock;
+    private final ReservationOutbox reservationOutbox;
+    private final ReservationSyncService reservationSyncService;
+    private final ShardRouter shardRouter;
+    private final SlotClock slotClock;
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public Reservation createReservation(ReservationRequestDTO request) {
 
         // --- 설정값 가져오기 ---
-        int dailyLimitHours = settingService.getIntValue("DAILY_LIMIT_HOURS", 3); // 기본값 3시간
-        int maxSlotsPerDay = dailyLimitHours * 2; // 30분 단위 슬롯이므로 시간 * 2
-        int openingHour = settingService.getIntValue("OPENING_HOUR", 9); // 기본값 09:00
-        int closingHour = settingService.getIntValue("CLOSING_HOUR", 21); // 기본값 21:00
-        
-        // --- 정책 검증 로직 ---
-        // 0. 예약 가능한 날짜 범위 검증 (오늘 ~ 6일 뒤)
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        LocalDate maxReservationDate = today.plusDays(6);
-        if (request.getDate().isAfter(maxReservationDate)) {
-            throw new ReservationException("예약은 최대 " + maxReservationDate + "까지만 가능합니다.");
-        }
+        // 기본값: 하루 3시간, 09:00 ~ 21:00 (규칙은 PolicySimulator 와 공유)
+        BookingPolicy policy = BookingPolicy.current(settingService);
 
-        // 1. 운영 시간 검증 (OPENING_HOUR ~ CLOSING_HOUR)
-        int requestStartHour = request.getStartSlot() / 2;
-        int requestEndHour = (request.getEndSlot() + 1) / 2; // 종료 슬롯의 다음 시간
-        
-        if (requestStartHour < openingHour || requestEndHour > closingHour) {
-            throw new ReservationException(String.format("예약 가능 시간은 %02d:00 ~ %02d:00 입니다.", openingHour, closingHour));
+        // --- 정책 검증 로직 ---
+        // 몰리는 시간대에 가장 흔한 거절(SLOT_TAKEN/SLOT_HELD)은 미리 만든 예외를 던진다 (메시지 포맷/스택 트레이스 없음)
+        // 날짜/운영 시간/한도 거절은 사용자가 요청을 고칠 수 있도록 설정값을 담은 메시지로 (스택 트레이스는 없음)
+        // 0~1. 예약 가능한 날짜 범위 (오늘 ~ 6일 뒤), 운영 시간 (OPENING_HOUR ~ CLOSING_HOUR)
+        LocalDate today = slotClock.today();
+        ErrorCode violation = policy.checkWindow(today, request.getDate(), request.getStartSlot(), request.getEndSlot());
+        if (violation != null) {
+            throw policy.windowRejection(violation, today);
         }
 
         // 2. 하루에 예약 가능한 총 시간 검증 (DAILY_LIMIT_HOURS 사용)
         int requestedSlots = request.getEndSlot() - request.getStartSlot() + 1;
-        Integer alreadyReservedSlots = reservationMapper.getTotalReservedSlotsByUserIdAndDate(request.getUserId(), request.getDate());
-        if (alreadyReservedSlots + requestedSlots > maxSlotsPerDay) {
-            throw new ReservationException("하루에 최대 " + dailyLimitHours + "시간까지 예약할 수 있습니다. (현재 " + (alreadyReservedSlots/2.0) + "시간 예약됨)");
+        // 같은 사용자의 같은 날짜 예약은 이 트랜잭션이 끝날 때까지 기다리게 한 뒤 합계를 읽는다 (동시 예약으로 한도 초과 방지)
+        dailyQuotaLock.lock(request.getUserId(), request.getDate());
+        // 다른 캠퍼스 예약도 한도에 포함 (샤딩 시 모든 샤드 합계)
+        int alreadyReservedSlots = shardRouter.gather(() -> List.of(
+                reservationMapper.getTotalReservedSlotsByUserIdAndDate(request.getUserId(), request.getDate())))
+                .stream().mapToInt(Integer::intValue).sum();
+        if (policy.checkQuota(alreadyReservedSlots, requestedSlots) != null) {
+            throw policy.quotaRejection(alreadyReservedSlots);
         }
         
+        // 3. 대기자에게 임시 배정된 구간인지 확인
+        if (waitlistHoldRegistry.isHeldByOther(request.getRoomId(), request.getDate(), request.getStartSlot(),
+                request.getEndSlot(), request.getUserId(), slotClock.now())) {
+            throw ReservationException.of(ErrorCode.SLOT_HELD);
+        }
+
         // --- 동시성 제어 로직 ---
-        for (int slot = request.getStartSlot(); slot <= request.getEndSlot(); slot++) {
-            if (reservationMapper.isSlotBookedForUpdate(request.getRoomId(), request.getDate(), slot) != null) {
-                throw new ReservationException("선택하신 시간 [" + formatSlot(slot) + "]는 이미 다른 사용자가 예약했습니다.");
-            }
+        // 요청 구간과 겹치는 예약을 한 문장으로 잠그고 확인 (슬롯마다 조회하지 않음)
+        // 슬롯별 조회를 반복할 때와 같은 행(구간과 겹치는 활성 예약)을 잠그고, 쓰는 중인 겹치는 예약이 있으면 그 커밋을 기다린다.
+        if (reservationMapper.isRangeBookedForUpdate(request.getRoomId(), request.getDate(),
+                request.getStartSlot(), request.getEndSlot()) != null) {
+            throw ReservationException.of(ErrorCode.SLOT_TAKEN);
         }
 
         // 2. 모든 슬롯이 예약 가능하므로, 이제 실제 예약을 진행
@@ -74,64 +92,80 @@ public Reservation createReservation(ReservationRequestDTO request) {
         // 체크인 필요 여부 판단
         // 정책: 예약 시작 후 15분 내 체크인
         // 체크인 마감 시간 = startSlot의 시작 시각 + 15분
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-        LocalTime startTime = slotToTime(request.getStartSlot());
-        LocalDateTime checkinDeadline = LocalDateTime.of(request.getDate(), startTime).plusMinutes(15);
+        LocalDateTime now = slotClock.now();
+        LocalDateTime checkinDeadline = SlotClock.slotStart(request.getDate(), request.getStartSlot()).plusMinutes(15);
         reservation.setCheckinRequired(!now.isAfter(checkinDeadline));
 
         reservationMapper.insertReservation(reservation);
+        reservationSyncService.markChanged();
+        reservationStatsService.recordBooked(reservation);
+        reservationOutbox.record(ReservationEventType.CREATED, reservation);
 
         log.info("Reservation created successfully: {}", reservation.getId());
 
         return reservation;
     }
 
-    @Transactional(readOnly = true)
+    // 트랜잭션 없이 캐시부터 확인 (캐시 미스일 때만 캐시가 읽기 전용 트랜잭션으로 조회)
     public List<Reservation> getReservationsByDate(LocalDate date) {
-        return reservationMapper.getReservationsByDate(date);
+        return reservationDayCache.get(date);
+    }
+
+    /**
+     * 방의 구간에 지금 커밋된 활성 예약이 있는지 (캐시를 거치지 않고 방의 샤드 primary 에서 잠금 없이 조회)
+     */
+    public boolean isRangeBooked(int roomId, LocalDate date, int startSlot, int endSlot) {
+        return shardRouter.forRoom(roomId,
+                () -> reservationMapper.isRangeBooked(roomId, date, startSlot, endSlot) != null);
+    }
+
+    /**
+     * 예약 현황 그리드 조회: DB 장애 시 마지막 정상 데이터를 stale 표시와 함께 반환
+     */
+    public ReservationDayCache.DayView getReservationDay(LocalDate date) {
+        return reservationDayCache.read(date);
     }
 
     @Transactional(readOnly = true)
     public List<Reservation> getReservationsByUserId(int userId) {
-        return reservationMapper.findByUserId(userId);
+        List<Reservation> reservations = shardRouter.gather(() -> reservationMapper.findByUserId(userId));
+        if (shardRouter.isSharded()) {
+            reservations.sort(Comparator.comparing(Reservation::getDate).thenComparingInt(Reservation::getStartSlot));
+        }
+        return reservations;
     }
 
     @Transactional
     public void cancelReservation(int reservationId, int userId) {
         Reservation reservation = reservationMapper.findById(reservationId);
         if (reservation == null) {
-            throw new ReservationException("Reservation not found with id: " + reservationId);
+            throw ReservationException.of(ErrorCode.RESERVATION_NOT_FOUND);
         }
         // TODO: 추후 관리자 권한 체크 로직 추가
         if (reservation.getUserId() != userId) {
-            throw new ReservationException("You are not authorized to cancel this reservation.");
+            throw ReservationException.of(ErrorCode.NOT_OWNER);
         }
         if (!"RESERVED".equals(reservation.getStatus())) {
-            throw new ReservationException("This reservation cannot be cancelled as it is not in 'RESERVED' status.");
+            throw ReservationException.of(ErrorCode.NOT_CANCELLABLE);
         }
 
-        reservationMapper.deleteById(reservationId);
+        // 조회는 잠그지 않으므로 RESERVED 일 때만 바꾸고, 실제로 바뀐 경우에만 통계/이벤트 기록
+        if (reservationMapper.deleteById(reservationId) == 0) {
+            throw ReservationException.of(ErrorCode.NOT_CANCELLABLE);
+        }
+        reservationSyncService.markChanged();
+        reservationStatsService.recordCancelled(reservation);
+        reservation.setStatus("CANCELLED");
+        reservationOutbox.record(ReservationEventType.CANCELLED, reservation);
         log.info("Reservation with id {} has been deleted by user {}.", reservationId, userId);
     }
 
-    private String formatSlot(int slot) {
-        int hour = slot / 2;
-        String minute = (slot % 2 == 0) ? "00" : "30";
-        return String.format("%02d:%s", hour, minute);
-    }
-    
-    private LocalTime slotToTime(int slot) {
-        int hour = slot / 2;
-        int minute = (slot % 2) * 30;
-        return LocalTime.of(hour, minute);
-    }
-
     /**
      * 현재 진행 중인 예약 조회 (관리자용)
+     * 메모리의 사용 현황 뷰에서 바로 반환 (DB 조회 없음)
      */
-    @Transactional(readOnly = true)
     public List<Reservation> getCurrentReservations() {
-        return reservationMapper.getCurrentReservations();
+        return roomOccupancyService.getCurrentReservations();
     }
 
     /**
@@ -139,7 +173,12 @@ public List<Reservation> getCurrentReservations() {
      */
     @Transactional(readOnly = true)
     public List<Reservation> getAllReservations() {
-        return reservationMapper.findAll();
+        List<Reservation> reservations = shardRouter.gather(reservationMapper::findAll);
+        if (shardRouter.isSharded()) {
+            reservations.sort(Comparator.comparing(Reservation::getDate).reversed()
+                    .thenComparingInt(Reservation::getStartSlot));
+        }
+        return reservations;
     }
 
     /**
@@ -149,13 +188,60 @@ public List<Reservation> getAllReservations() {
     public void cancelReservationByAdmin(Long reservationId) {
         Reservation reservation = reservationMapper.findById(reservationId.intValue());
         if (reservation == null) {
-            throw new ReservationException("예약을 찾을 수 없습니다: " + reservationId);
+            throw ReservationException.of(ErrorCode.RESERVATION_NOT_FOUND);
         }
         if (!"RESERVED".equals(reservation.getStatus())) {
-            throw new ReservationException("이미 취소되었거나 완료된 예약입니다.");
+            throw ReservationException.of(ErrorCode.NOT_CANCELLABLE);
         }
 
-        reservationMapper.deleteById(reservationId.intValue());
+        // 조회는 잠그지 않으므로 RESERVED 일 때만 바꾸고, 실제로 바뀐 경우에만 통계/이벤트 기록
+        if (reservationMapper.deleteById(reservationId.intValue()) == 0) {
+            throw ReservationException.of(ErrorCode.NOT_CANCELLABLE);
+        }
+        reservationSyncService.markChanged();
+        reservationStatsService.recordCancelled(reservation);
+        reservation.setStatus("CANCELLED");
+        reservationOutbox.record(ReservationEventType.CANCELLED, reservation);
         log.info("관리자가 예약 ID {}를 취소했습니다.", reservationId);
     }
+
+    /**
+     * 관리자 일괄 취소 (방 폐쇄/점검): 방의 기간 내 [startSlot, endSlot] 과 겹치는 RESERVED 예약을 한 번에 취소
+     * 대상을 id 순으로 잠근 뒤(건별 취소와 같은 잠금 순서) 상태 변경은 한 문장, 통계/outbox 도 묶어서 같은 트랜잭션에 기록한다.
+     * 한도는 활성 예약에서 계산하므로 커밋과 함께 풀리고, 사용 현황/현황 캐시/대기열은 건별 취소와 같은 CANCELLED 이벤트로 갱신된다.
+     * 호출 전에 방의 샤드를 지정해야 한다.
+     *
+     * @return 취소된 예약 (알림용)
+     * @throws IllegalArgumentException 기간/슬롯 범위가 잘못된 경우
+     */
+    @Transactional
+    public List<Reservation> cancelRoomReservationsByAdmin(int roomId, LocalDate from, LocalDate to,
+                                                           int startSlot, int endSlot) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 이후일 수 없습니다.");
+        }
+        if (startSlot < 0 || endSlot >= SlotClock.SLOTS_PER_DAY || startSlot > endSlot) {
+            throw new IllegalArgumentException("슬롯 범위가 올바르지 않습니다: " + startSlot + " ~ " + endSlot);
+        }
+
+        List<Reservation> cancelled = reservationMapper.findActiveByRoomAndRangeForUpdate(
+                roomId, from, to, startSlot, endSlot);
+        if (cancelled.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = slotClock.now();
+        List<Integer> ids = new ArrayList<>(cancelled.size());
+        for (Reservation reservation : cancelled) {
+            ids.add(reservation.getId());
+            reservation.setStatus("CANCELLED");
+            reservation.setDeletedAt(now);
+        }
+        reservationMapper.cancelByIds(ids, now);
+        reservationSyncService.markChanged();
+        reservationStatsService.recordCancelled(cancelled);
+        reservationOutbox.recordAll(ReservationEventType.CANCELLED, cancelled);
+        log.info("관리자가 방 {}의 예약 {}건을 일괄 취소했습니다: {} ~ {}, 슬롯 {} ~ {}",
+                roomId, cancelled.size(), from, to, startSlot, endSlot);
+        return cancelled;
+    }
 }
@@ -0,0 +1,397 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.bulkhead.Bulkhead;
+import kr.ac.hanyang.backend.bulkhead.BulkheadContext;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.ReservationStats;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.mapper.ReservationStatsMapper;
+import kr.ac.hanyang.backend.profiling.QueryProfile;
+import kr.ac.hanyang.backend.profiling.QueryProfiler;
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 이용률 / 노쇼 통계 롤업 관리
+ * - 예약 상태 변화 시 시간대·일 롤업에 증분 반영 (호출한 트랜잭션 안에서 함께 커밋)
+ * - 누적 테이블(방 x 24시간)은 예약마다 갱신하지 않는다. 모든 예약이 같은 방·시간대 행을 잠그지 않도록
+ *   매일 지난 날짜(오늘 - compaction-lag-days 까지)의 시간대 롤업을 접어 넣고, 압축 위치를 함께 옮긴다.
+ *   이미 압축한 날짜가 늦게 바뀌면(지난 예약 취소 등) 그때만 누적에도 더한다.
+ * - 전체 기간 조회는 누적 행 + 압축 이후의 시간대 롤업(예약 가능 기간만큼)만 읽으므로 이력 크기와 무관
+ * - 과거 데이터는 날짜 구간을 나눠 병렬로 백필
+ * - 샤딩 시 롤업 행은 방 캠퍼스의 샤드에 있으므로(방 키가 겹치지 않음) 조회는 모든 샤드 결과를 이어 붙이면 된다.
+ *   조회는 샤드마다 한 문장이므로 트랜잭션 없이 각 샤드의 primary 에서 읽는다.
+ *   (gather 작업 스레드에는 호출자의 readOnly 트랜잭션이 이어지지 않아, readOnly 를 붙이면 비샤딩일 때만 replica 를 읽게 된다)
+ */
+@Service
+@Log4j2
+public class ReservationStatsService {
+
+    private static final int UPSERT_BATCH_SIZE = 500;
+
+    private final ReservationStatsMapper statsMapper;
+    private final ReservationMapper reservationMapper;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate backfillTransactionTemplate;
+    private final SlotClock slotClock;
+
+    @Value("${app.stats.backfill-parallelism:4}")
+    private int backfillParallelism;
+
+    @Value("${app.stats.backfill-chunk-days:7}")
+    private int backfillChunkDays;
+
+    @Value("${app.stats.compaction-lag-days:2}")
+    private int compactionLagDays;
+
+    public ReservationStatsService(ReservationStatsMapper statsMapper,
+                                   ReservationMapper reservationMapper,
+                                   ShardRouter shardRouter,
+                                   PlatformTransactionManager transactionManager,
+                                   SlotClock slotClock) {
+        this.statsMapper = statsMapper;
+        this.reservationMapper = reservationMapper;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 예약 날짜 범위의 갭 잠금으로 구간 중 예약 추가를 막아야 하므로 READ COMMITTED(갭 잠금 없음)로 돌리지 않는다
+        this.backfillTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.slotClock = slotClock;
+    }
+
+    private enum Kind { BOOKED, CHECKED_IN, NO_SHOW, CANCELLED }
+
+    public void recordBooked(Reservation reservation) {
+        record(reservation, Kind.BOOKED);
+    }
+
+    public void recordCheckedIn(Reservation reservation) {
+        record(reservation, Kind.CHECKED_IN);
+    }
+
+    public void recordNoShow(Reservation reservation) {
+        record(reservation, Kind.NO_SHOW);
+    }
+
+    public void recordCancelled(Reservation reservation) {
+        record(reservation, Kind.CANCELLED);
+    }
+
+    /**
+     * 일괄 취소분을 시간대/일 단위로 합쳐 한 번에 반영 (예약마다 upsert 하지 않음)
+     */
+    public void recordCancelled(List<Reservation> reservations) {
+        Map<String, ReservationStats> hourly = new LinkedHashMap<>();
+        Map<String, ReservationStats> daily = new LinkedHashMap<>();
+        Map<String, ReservationStats> totals = new LinkedHashMap<>();
+        Map<LocalDate, Boolean> compactedDates = new HashMap<>();
+        List<ReservationStats> deltas = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            deltas.clear();
+            addDeltas(deltas, reservation, Kind.CANCELLED);
+            boolean compacted = compactedDates.computeIfAbsent(reservation.getDate(), this::isCompacted);
+            for (ReservationStats delta : deltas) {
+                accumulate(hourly.computeIfAbsent(delta.getStatDate() + "|" + delta.getRoomId() + "|" + delta.getHourOfDay(),
+                        key -> emptyRow(delta.getStatDate(), delta.getRoomId(), delta.getHourOfDay())), delta);
+                accumulate(daily.computeIfAbsent(delta.getStatDate() + "|" + delta.getRoomId(),
+                        key -> emptyRow(delta.getStatDate(), delta.getRoomId(), null)), delta);
+                if (compacted) {
+                    accumulate(totals.computeIfAbsent(delta.getRoomId() + "|" + delta.getHourOfDay(),
+                            key -> emptyRow(null, delta.getRoomId(), delta.getHourOfDay())), delta);
+                }
+            }
+        }
+        if (hourly.isEmpty()) {
+            return;
+        }
+        upsertInBatches(new ArrayList<>(hourly.values()), true);
+        upsertInBatches(new ArrayList<>(daily.values()), false);
+        if (!totals.isEmpty()) {
+            statsMapper.upsertTotal(new ArrayList<>(totals.values()));
+        }
+    }
+
+    private void record(Reservation reservation, Kind kind) {
+        List<ReservationStats> hourly = new ArrayList<>();
+        addDeltas(hourly, reservation, kind);
+        if (hourly.isEmpty()) {
+            return;
+        }
+        // 압축 위치를 롤업보다 먼저 잠근다 (압축과 같은 잠금 순서)
+        boolean compacted = isCompacted(reservation.getDate());
+        statsMapper.upsertHourly(hourly);
+        statsMapper.upsertDaily(List.of(toDaily(hourly)));
+        if (compacted) {
+            statsMapper.upsertTotal(hourly);
+        }
+    }
+
+    /**
+     * 이미 누적에 접어 넣은 날짜인지
+     * 압축은 오늘 - lag 를 넘지 않으므로(자정 전후 시계 차이로 하루 여유) 그 이후 날짜는 잠금 없이 false.
+     * 예약/체크인/노쇼는 모두 오늘 이후라 여기서 끝나고, 지난 날짜의 늦은 변경만 압축 위치를 공유 잠금으로 읽는다.
+     * 압축 트랜잭션이 끝날 때까지 기다리므로, 압축이 이 변경을 시간대 롤업에서 세거나 여기서 누적에 더하거나 둘 중 하나만 일어난다.
+     */
+    private boolean isCompacted(LocalDate date) {
+        if (date.isAfter(slotClock.today().minusDays(lagDays() - 1L))) {
+            return false;
+        }
+        LocalDate compactedThrough = statsMapper.findCompactedThroughForShare();
+        return compactedThrough != null && !date.isAfter(compactedThrough);
+    }
+
+    /**
+     * 지난 날짜(오늘 - compaction-lag-days 까지)의 시간대 롤업을 누적 테이블에 접어 넣음 (샤드마다)
+     *
+     * @return 갱신한 누적 행 수
+     */
+    public int compact() {
+        LocalDate through = slotClock.today().minusDays(lagDays());
+        int rows = 0;
+        for (String shard : shardRouter.shards()) {
+            Integer compacted = shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> {
+                LocalDate compactedThrough = statsMapper.lockCompactedThrough();
+                if (compactedThrough == null) {
+                    throw new IllegalStateException("reservation_stats_compaction 행이 없습니다. add_reservation_stats_compaction.sql 을 실행하세요.");
+                }
+                if (!through.isAfter(compactedThrough)) {
+                    return 0;
+                }
+                int updated = statsMapper.compactTotals(compactedThrough, through);
+                statsMapper.updateCompactedThrough(through);
+                log.info("Stats compaction on {}: {} ~ {}, {} rows", shard, compactedThrough.plusDays(1), through, updated);
+                return updated;
+            }));
+            rows += compacted != null ? compacted : 0;
+        }
+        return rows;
+    }
+
+    private int lagDays() {
+        return Math.max(1, compactionLagDays);
+    }
+
+    /**
+     * 전체 기간 통계 (방별, 시간대별)
+     */
+    public Map<String, Object> getStats() {
+        List<ReservationStats> totals = shardRouter.gather(statsMapper::findTotals);
+
+        Map<Integer, ReservationStats> byRoom = new TreeMap<>();
+        Map<Integer, ReservationStats> byHour = new TreeMap<>();
+        ReservationStats overall = new ReservationStats();
+        for (ReservationStats row : totals) {
+            accumulate(byRoom.computeIfAbsent(row.getRoomId(), id -> {
+                ReservationStats s = new ReservationStats();
+                s.setRoomId(id);
+                return s;
+            }), row);
+            accumulate(byHour.computeIfAbsent(row.getHourOfDay(), hour -> {
+                ReservationStats s = new ReservationStats();
+                s.setHourOfDay(hour);
+                return s;
+            }), row);
+            accumulate(overall, row);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("total", overall);
+        response.put("noShowRate", rate(overall.getNoShowSlots(), overall.getBookedSlots()));
+        response.put("checkinRate", rate(overall.getCheckedInSlots(), overall.getBookedSlots()));
+        response.put("byRoom", new ArrayList<>(byRoom.values()));
+        response.put("byHourOfDay", new ArrayList<>(byHour.values()));
+        return response;
+    }
+
+    /**
+     * 기간별 일 단위 통계
+     */
+    public List<ReservationStats> getDailyStats(LocalDate from, LocalDate to) {
+        List<ReservationStats> daily = shardRouter.gather(() -> statsMapper.findDailyBetween(from, to));
+        if (shardRouter.isSharded()) {
+            daily.sort(Comparator.comparing(ReservationStats::getStatDate).thenComparingInt(ReservationStats::getRoomId));
+        }
+        return daily;
+    }
+
+    /**
+     * 기간 내 롤업을 reservations 테이블로부터 다시 계산
+     * 구간(기본 7일)별로 병렬 처리한 뒤 누적 테이블을 압축 위치까지의 시간대 롤업에서 재계산한다.
+     * 증분 반영은 항상 예약 행을 바꾼 뒤(추가/상태 변경) 같은 트랜잭션에서 롤업에 더하므로, 구간 트랜잭션은 REPEATABLE READ 로
+     * 그 기간의 예약을 날짜 인덱스 범위(갭 포함)째 잠가 읽은 뒤 구간 롤업을 지우고 다시 채운다.
+     * 쓰는 중이던 예약은 커밋을 기다려 조회에 들어가고(그 증분은 삭제됨), 이후의 예약 추가/변경은 구간이 커밋된 뒤 증분으로 들어가
+     * 예약마다 한 번씩만 센다. 롤업 삭제만으로 막으면 빈 날짜의 갭 잠금과 증분 upsert 가 서로 교착되므로 예약 쪽을 잠근다.
+     * 구간이 도는 동안 그 기간의 예약/취소는 기다리므로 운영 중에는 지난 기간 위주로 백필한다.
+     * 사용자/관리자 취소는 tombstone 행(deleted_at)으로 남으므로 cancelled_slots 도 복원된다 (tombstone 도입 이전 취소분은 제외).
+     * 샤딩 시 샤드마다 차례로 백필한다.
+     *
+     * @return 처리한 예약 수
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 이후일 수 없습니다.");
+        }
+        int processed = 0;
+        for (String shard : shardRouter.shards()) {
+            processed += backfillShard(shard, from, to);
+        }
+        return processed;
+    }
+
+    private int backfillShard(String shard, LocalDate from, LocalDate to) {
+        long started = System.currentTimeMillis();
+        // 작업 스레드도 요청의 격벽(관리자) 연결 몫 안에서 돌린다. 몫보다 많이 띄우면 연결 대기만 하다 실패하므로 몫에 맞춘다.
+        Bulkhead bulkhead = BulkheadContext.current();
+        QueryProfile profile = QueryProfiler.current();
+        int threads = Math.max(1, backfillParallelism);
+        if (bulkhead != null && bulkhead.getMaxConnections() > 0) {
+            threads = Math.min(threads, bulkhead.getMaxConnections());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (LocalDate chunkFrom = from; !chunkFrom.isAfter(to); chunkFrom = chunkFrom.plusDays(backfillChunkDays)) {
+                LocalDate start = chunkFrom;
+                LocalDate end = chunkFrom.plusDays(backfillChunkDays - 1L).isAfter(to)
+                        ? to : chunkFrom.plusDays(backfillChunkDays - 1L);
+                futures.add(executor.submit(() -> BulkheadContext.call(bulkhead, () -> QueryProfiler.call(profile,
+                        () -> shardRouter.onShard(shard, () -> backfillTransactionTemplate.execute(status -> backfillChunk(start, end)))))));
+            }
+
+            int processed = 0;
+            for (Future<Integer> future : futures) {
+                processed += future.get();
+            }
+
+            shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> {
+                LocalDate compactedThrough = statsMapper.lockCompactedThrough();
+                statsMapper.deleteTotals();
+                if (compactedThrough != null) {
+                    statsMapper.insertTotalsFromHourly(compactedThrough);
+                }
+                return null;
+            }));
+            log.info("Stats backfill finished on {}: {} ~ {}, {} reservations in {} chunks, {} ms",
+                    shard, from, to, processed, futures.size(), System.currentTimeMillis() - started);
+            return processed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("통계 백필이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("통계 백필 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int backfillChunk(LocalDate from, LocalDate to) {
+        // 예약을 먼저 잠그고 읽은 뒤 롤업을 지운다 (증분 반영과 같은 잠금 순서: 예약 → 롤업)
+        List<Reservation> reservations = reservationMapper.findByDateRangeForUpdate(from, to);
+        statsMapper.deleteHourlyBetween(from, to);
+        statsMapper.deleteDailyBetween(from, to);
+
+        Map<String, ReservationStats> hourly = new LinkedHashMap<>();
+        Map<String, ReservationStats> daily = new LinkedHashMap<>();
+        List<ReservationStats> deltas = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            deltas.clear();
+            // 모든 행은 예약된 적이 있음. 취소는 tombstone(deleted_at), 그 외 CANCELLED 는 노쇼
+            addDeltas(deltas, reservation, Kind.BOOKED);
+            if ("CHECKED_IN".equals(reservation.getStatus())) {
+                addDeltas(deltas, reservation, Kind.CHECKED_IN);
+            } else if (reservation.getDeletedAt() != null) {
+                addDeltas(deltas, reservation, Kind.CANCELLED);
+            } else if ("CANCELLED".equals(reservation.getStatus())) {
+                addDeltas(deltas, reservation, Kind.NO_SHOW);
+            }
+            for (ReservationStats delta : deltas) {
+                accumulate(hourly.computeIfAbsent(delta.getStatDate() + "|" + delta.getRoomId() + "|" + delta.getHourOfDay(),
+                        key -> emptyRow(delta.getStatDate(), delta.getRoomId(), delta.getHourOfDay())), delta);
+                accumulate(daily.computeIfAbsent(delta.getStatDate() + "|" + delta.getRoomId(),
+                        key -> emptyRow(delta.getStatDate(), delta.getRoomId(), null)), delta);
+            }
+        }
+
+        upsertInBatches(new ArrayList<>(hourly.values()), true);
+        upsertInBatches(new ArrayList<>(daily.values()), false);
+        return reservations.size();
+    }
+
+    private void upsertInBatches(List<ReservationStats> rows, boolean hourly) {
+        for (int i = 0; i < rows.size(); i += UPSERT_BATCH_SIZE) {
+            List<ReservationStats> batch = rows.subList(i, Math.min(i + UPSERT_BATCH_SIZE, rows.size()));
+            if (hourly) {
+                statsMapper.upsertHourly(batch);
+            } else {
+                statsMapper.upsertDaily(batch);
+            }
+        }
+    }
+
+    /**
+     * 예약이 걸친 시간대별 슬롯 수만큼 delta 생성 (시간대 오름차순 → upsert 잠금 순서 일정)
+     */
+    private void addDeltas(List<ReservationStats> out, Reservation reservation, Kind kind) {
+        Map<Integer, Integer> slotsPerHour = new TreeMap<>();
+        for (int slot = reservation.getStartSlot(); slot <= reservation.getEndSlot(); slot++) {
+            slotsPerHour.merge(slot / 2, 1, Integer::sum);
+        }
+        for (Map.Entry<Integer, Integer> entry : slotsPerHour.entrySet()) {
+            ReservationStats row = emptyRow(reservation.getDate(), reservation.getRoomId(), entry.getKey());
+            int slots = entry.getValue();
+            switch (kind) {
+                case BOOKED -> row.setBookedSlots(slots);
+                case CHECKED_IN -> row.setCheckedInSlots(slots);
+                case NO_SHOW -> row.setNoShowSlots(slots);
+                case CANCELLED -> row.setCancelledSlots(slots);
+            }
+            out.add(row);
+        }
+    }
+
+    private ReservationStats toDaily(List<ReservationStats> hourly) {
+        ReservationStats first = hourly.get(0);
+        ReservationStats daily = emptyRow(first.getStatDate(), first.getRoomId(), null);
+        hourly.forEach(row -> accumulate(daily, row));
+        return daily;
+    }
+
+    private static ReservationStats emptyRow(LocalDate date, int roomId, Integer hourOfDay) {
+        ReservationStats row = new ReservationStats();
+        row.setStatDate(date);
+        row.setRoomId(roomId);
+        row.setHourOfDay(hourOfDay);
+        return row;
+    }
+
+    private static void accumulate(ReservationStats target, ReservationStats delta) {
+        target.setBookedSlots(target.getBookedSlots() + delta.getBookedSlots());
+        target.setCheckedInSlots(target.getCheckedInSlots() + delta.getCheckedInSlots());
+        target.setNoShowSlots(target.getNoShowSlots() + delta.getNoShowSlots());
+        target.setCancelledSlots(target.getCancelledSlots() + delta.getCancelledSlots());
+    }
+
+    private static double rate(long part, long whole) {
+        return whole == 0 ? 0.0 : (double) part / whole;
+    }
+}
@@ -0,0 +1,213 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 현황 그리드 델타 동기화
+ * - 예약 쓰기(생성/상태 변경/체크인/취소)는 행의 version 을 0(미배정)으로만 바꾸고 카운터는 건드리지 않는다.
+ *   쓰기 트랜잭션끼리 카운터 잠금으로 줄 서지 않고, 잠금 순서도 기존 쓰기 그대로다.
+ * - 커밋 후 배정 스레드가 미배정 행에 버전을 붙인다: 짧은 별도 트랜잭션에서
+ *   미배정 행을 id 순으로 잠그고(쓰는 중인 행은 SKIP LOCKED 로 건너뜀) 마지막에 카운터를 올린다.
+ *   카운터를 잡는 곳은 여기 한 곳이고 잠금 순서는 항상 "예약 행(id 순) → 카운터",
+ *   카운터 잠금이 배정 커밋까지 유지되므로 버전 순서 = 배정 커밋 순서 (작은 버전이 나중에 보이는 일이 없음).
+ * - 조회는 카운터를 먼저 읽고(C) since < version <= C 인 행만 돌려준 뒤 C 를 새 버전으로 준다.
+ *   아무것도 바뀌지 않았으면 빈 목록 (카운터 한 행만 읽음). 미배정 행은 버전이 붙은 뒤 다음 조회에 나온다.
+ * - 버전은 샤드(캠퍼스)마다 따로 증가하므로, 샤딩 시 버전 토큰은 "샤드:버전,샤드:버전" 형태 (클라이언트는 그대로 되돌려 주기만 함)
+ */
+@Service
+@Log4j2
+public class ReservationSyncService {
+
+    private final ReservationMapper reservationMapper;
+    private final ShardRouter shardRouter;
+    private final DatabaseCircuitBreaker circuitBreaker;
+    private final TransactionTemplate assignTransaction;
+    private final Semaphore pending = new Semaphore(0);
+
+    @Value("${app.reservation-sync.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.reservation-sync.sweep-interval-ms:1000}")
+    private long sweepIntervalMs;
+
+    private Thread assignerThread;
+    private volatile boolean running;
+
+    public ReservationSyncService(ReservationMapper reservationMapper, ShardRouter shardRouter,
+                                  DatabaseCircuitBreaker circuitBreaker, PlatformTransactionManager transactionManager) {
+        this.reservationMapper = reservationMapper;
+        this.shardRouter = shardRouter;
+        this.circuitBreaker = circuitBreaker;
+        this.assignTransaction = new TransactionTemplate(transactionManager);
+        this.assignTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @param version 다음 요청의 since 로 그대로 보낼 토큰
+     * @param full    since 없이 요청해 활성 예약 전체를 담은 경우 (클라이언트는 목록을 교체)
+     * @param changes 바뀐 예약. 상태가 RESERVED/CHECKED_IN 이 아니면(취소, 노쇼, tombstone) 목록에서 제거
+     */
+    public record Changes(LocalDate date, String version, boolean full, List<Reservation> changes) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        assignerThread = new Thread(this::runLoop, "reservation-version-assigner");
+        assignerThread.setDaemon(true);
+        assignerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (assignerThread != null) {
+            assignerThread.interrupt();
+        }
+    }
+
+    /**
+     * 예약 쓰기 후 호출: 커밋되면 배정 스레드를 깨운다 (롤백되면 아무 일도 없음)
+     * 놓치더라도 sweep-interval-ms 마다 미배정 행을 다시 찾는다.
+     */
+    public void markChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    private void wakeUp() {
+        if (pending.availablePermits() == 0) {
+            pending.release();
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                int assigned = 0;
+                for (String shard : shardRouter.shards()) {
+                    assigned += shardRouter.onShard(shard, this::assignPending);
+                }
+                // 한 배치를 꽉 채웠으면 남은 게 있을 수 있으므로 바로 다시
+                if (assigned < batchSize && pending.tryAcquire(sweepIntervalMs, TimeUnit.MILLISECONDS)) {
+                    pending.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Reservation version assignment failed: {}", e.getMessage());
+                try {
+                    Thread.sleep(sweepIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 샤드의 미배정 예약에 한 버전을 붙인다
+     *
+     * @return 버전을 붙인 예약 수
+     */
+    int assignPending() {
+        Integer assigned = assignTransaction.execute(status -> {
+            List<Integer> ids = reservationMapper.lockPendingVersions(batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            reservationMapper.incrementVersion();
+            reservationMapper.assignVersion(ids, reservationMapper.currentVersion());
+            return ids.size();
+        });
+        return assigned != null ? assigned : 0;
+    }
+
+    /**
+     * 날짜의 since 이후 변경 (since 가 비어 있으면 활성 예약 전체)
+     *
+     * @throws IllegalArgumentException 버전 토큰 형식이 잘못된 경우
+     */
+    public Changes getChanges(LocalDate date, String since) {
+        Map<String, Long> sinceByShard = parse(since);
+        boolean full = true;
+        List<Reservation> changes = new ArrayList<>();
+        Map<String, Long> versions = new LinkedHashMap<>();
+        for (String shard : shardRouter.shards()) {
+            long from = sinceByShard.getOrDefault(shard, 0L);
+            full &= from == 0;
+            long upTo = circuitBreaker.call(() -> shardRouter.onShard(shard, () -> {
+                // 카운터를 먼저 읽어야 그 사이에 커밋된 행을 놓치지 않는다.
+                long current = reservationMapper.currentVersion();
+                if (from == 0 || current > from) {
+                    changes.addAll(reservationMapper.findChangesByDate(date, from, current));
+                }
+                return current;
+            }));
+            versions.put(shard, Math.max(from, upTo));
+        }
+        return new Changes(date, format(versions), full, changes);
+    }
+
+    private Map<String, Long> parse(String token) {
+        Map<String, Long> versions = new LinkedHashMap<>();
+        if (token == null || token.isBlank()) {
+            return versions;
+        }
+        try {
+            if (!shardRouter.isSharded()) {
+                versions.put(shardRouter.shards().get(0), Long.parseLong(token.trim()));
+                return versions;
+            }
+            for (String part : token.split(",")) {
+                int colon = part.lastIndexOf(':');
+                versions.put(part.substring(0, colon).trim(), Long.parseLong(part.substring(colon + 1).trim()));
+            }
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("since 형식이 올바르지 않습니다: " + token);
+        }
+        return versions;
+    }
+
+    private String format(Map<String, Long> versions) {
+        if (!shardRouter.isSharded()) {
+            return String.valueOf(versions.values().iterator().next());
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        versions.forEach((shard, version) -> joiner.add(shard + ":" + version));
+        return joiner.toString();
+    }
+}
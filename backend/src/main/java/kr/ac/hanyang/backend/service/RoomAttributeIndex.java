@@ -0,0 +1,150 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.RoomsDTO;
+import kr.ac.hanyang.backend.time.SlotClock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 방 속성별 비트셋 인덱스 (불변, 방 목록 스냅샷마다 새로 만든다)
+ * 비트 i 는 스냅샷의 i 번째 방. 조건마다 비트셋을 골라 AND 하면 검색 결과가 된다.
+ * - 수용 인원: 서로 다른 인원 값마다 "그 이상"인 방의 비트셋 → 최소 인원 조건은 이진 탐색 한 번
+ * - 비품/유형/캠퍼스: 값별 비트셋, 접근성: 비트셋 하나
+ */
+final class RoomAttributeIndex {
+
+    private final List<RoomsDTO> rooms;
+    private final Map<Integer, Integer> positionById = new HashMap<>();
+    private final BitSet all = new BitSet();
+    private final BitSet accessible = new BitSet();
+    private final Map<String, BitSet> byEquipment = new HashMap<>();
+    private final Map<String, BitSet> byType = new HashMap<>();
+    private final Map<String, BitSet> byCampus = new HashMap<>();
+    // 오름차순 수용 인원 값과, 각 값 이상인 방들
+    private final int[] capacities;
+    private final BitSet[] atLeast;
+
+    RoomAttributeIndex(List<RoomsDTO> rooms) {
+        this.rooms = rooms;
+        TreeSet<Integer> distinct = new TreeSet<>();
+        for (int i = 0; i < rooms.size(); i++) {
+            RoomsDTO room = rooms.get(i);
+            positionById.put(room.getId(), i);
+            all.set(i);
+            if (room.isAccessible()) {
+                accessible.set(i);
+            }
+            for (String tag : tags(room.getEquipment())) {
+                byEquipment.computeIfAbsent(tag, key -> new BitSet()).set(i);
+            }
+            if (room.getType() != null) {
+                byType.computeIfAbsent(normalize(room.getType()), key -> new BitSet()).set(i);
+            }
+            if (room.getCampus() != null) {
+                byCampus.computeIfAbsent(normalize(room.getCampus()), key -> new BitSet()).set(i);
+            }
+            distinct.add(room.getCapacity());
+        }
+
+        capacities = distinct.stream().mapToInt(Integer::intValue).toArray();
+        atLeast = new BitSet[capacities.length];
+        for (int c = 0; c < capacities.length; c++) {
+            atLeast[c] = new BitSet();
+        }
+        for (int i = 0; i < rooms.size(); i++) {
+            int upTo = Arrays.binarySearch(capacities, rooms.get(i).getCapacity());
+            for (int c = 0; c <= upTo; c++) {
+                atLeast[c].set(i);
+            }
+        }
+    }
+
+    /**
+     * 속성 조건에 맞는 방 (null 조건은 무시). 반환값은 호출자가 수정해도 되는 복사본
+     */
+    BitSet match(Integer minCapacity, List<String> equipment, Boolean accessibleOnly, String type, String campus) {
+        BitSet result = (BitSet) all.clone();
+        if (minCapacity != null) {
+            int c = Arrays.binarySearch(capacities, minCapacity);
+            if (c < 0) {
+                c = -c - 1;
+            }
+            if (c >= capacities.length) {
+                return new BitSet();
+            }
+            result.and(atLeast[c]);
+        }
+        if (equipment != null) {
+            for (String tag : equipment) {
+                if (!tag.isBlank()) {
+                    result.and(byEquipment.getOrDefault(normalize(tag), new BitSet()));
+                }
+            }
+        }
+        if (Boolean.TRUE.equals(accessibleOnly)) {
+            result.and(accessible);
+        }
+        if (type != null && !type.isBlank()) {
+            result.and(byType.getOrDefault(normalize(type), new BitSet()));
+        }
+        if (campus != null && !campus.isBlank()) {
+            result.and(byCampus.getOrDefault(normalize(campus), new BitSet()));
+        }
+        return result;
+    }
+
+    /**
+     * 날짜 하나의 슬롯별 사용 중인 방 (슬롯 s 의 비트셋 = 그 슬롯에 활성 예약이 있는 방)
+     */
+    BitSet[] occupancy(List<Reservation> reservations) {
+        BitSet[] busy = new BitSet[SlotClock.SLOTS_PER_DAY];
+        for (int s = 0; s < busy.length; s++) {
+            busy[s] = new BitSet(rooms.size());
+        }
+        for (Reservation reservation : reservations) {
+            Integer position = positionById.get(reservation.getRoomId());
+            if (position == null) {
+                continue;
+            }
+            int from = Math.max(0, reservation.getStartSlot());
+            int to = Math.min(SlotClock.SLOTS_PER_DAY - 1, reservation.getEndSlot());
+            for (int s = from; s <= to; s++) {
+                busy[s].set(position);
+            }
+        }
+        return busy;
+    }
+
+    List<RoomsDTO> roomsOf(BitSet bits) {
+        List<RoomsDTO> result = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            result.add(rooms.get(i));
+        }
+        return result;
+    }
+
+    private static List<String> tags(String equipment) {
+        if (equipment == null || equipment.isBlank()) {
+            return List.of();
+        }
+        List<String> tags = new ArrayList<>();
+        for (String tag : equipment.split(",")) {
+            if (!tag.isBlank()) {
+                tags.add(normalize(tag));
+            }
+        }
+        return tags;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,146 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.RoomStatusDTO;
+import kr.ac.hanyang.backend.event.ReservationEvent;
+import kr.ac.hanyang.backend.event.ReservationEventSubscriber;
+import kr.ac.hanyang.backend.journal.ReservationJournal;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방별 "지금" 사용 현황을 메모리에 유지하는 뷰
+ * - outbox 로 전달되는 예약/체크인/취소/노쇼 이벤트로 갱신되고, 슬롯 경계(:00, :30)마다 오늘 예약으로 다시 구성된다.
+ * - 조회는 미리 만들어 둔 스냅샷을 그대로 반환하므로 DB 접근 없이 O(1)
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class RoomOccupancyService implements ReservationEventSubscriber {
+
+    private final ReservationMapper reservationMapper;
+    private final ShardRouter shardRouter;
+    private final ReservationJournal reservationJournal;
+    private final SlotClock slotClock;
+
+    // 오늘 날짜의 활성 예약 (RESERVED, CHECKED_IN), key: reservationId
+    private final Map<Integer, Reservation> todayReservations = new ConcurrentHashMap<>();
+    private volatile LocalDate loadedDate;
+    private volatile Snapshot snapshot = new Snapshot(null, -1, List.of(), Map.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            // 저널에서 복원된 상태가 있으면 DB 조회 없이 시작 (다음 슬롯 경계의 rollOver 에서 DB 기준으로 다시 구성)
+            LocalDate today = slotClock.today();
+            List<Reservation> restored = reservationJournal.activeOn(today);
+            if (restored != null) {
+                load(today, restored);
+                log.info("Occupancy view seeded from journal: {} reservations today", restored.size());
+                return;
+            }
+            rollOver();
+        } catch (Exception e) {
+            log.error("Occupancy view initial load failed; will retry at next slot boundary", e);
+        }
+    }
+
+    /**
+     * 슬롯 경계마다 호출: 오늘 예약을 다시 읽어 현재 슬롯 기준 스냅샷 재구성
+     */
+    public synchronized void rollOver() {
+        LocalDate today = slotClock.today();
+        load(today, shardRouter.gather(() -> reservationMapper.getReservationsByDate(today)));
+        log.debug("Occupancy view rolled over: date={}, slot={}, active={}",
+                today, snapshot.slot(), snapshot.current().size());
+    }
+
+    private synchronized void load(LocalDate today, List<Reservation> reservations) {
+        todayReservations.clear();
+        for (Reservation reservation : reservations) {
+            todayReservations.put(reservation.getId(), reservation);
+        }
+        loadedDate = today;
+        rebuildSnapshot();
+    }
+
+    /**
+     * 현재 진행 중인 예약 목록 (관리자용)
+     */
+    public List<Reservation> getCurrentReservations() {
+        return snapshot.current();
+    }
+
+    /**
+     * 방 하나의 현재 상태 (태블릿 폴링용)
+     */
+    public RoomStatusDTO getRoomStatus(int roomId) {
+        Snapshot current = snapshot;
+        RoomStatusDTO status = current.statuses().get(roomId);
+        return status != null ? status : RoomStatusDTO.available(roomId, current.date(), current.slot());
+    }
+
+    /**
+     * outbox 디스패처가 커밋된 이벤트만 전달하므로 별도의 afterCommit 처리가 필요 없다.
+     * 같은 이벤트가 다시 와도 결과가 같도록 put/remove 로만 반영한다.
+     */
+    @Override
+    public void onReservationEvent(ReservationEvent event) {
+        Reservation reservation = event.reservation();
+        if (!reservation.getDate().equals(loadedDate)) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED, CHECKED_IN -> todayReservations.put(reservation.getId(), copyOf(reservation));
+            case CANCELLED, NO_SHOW -> todayReservations.remove(reservation.getId());
+        }
+        rebuildSnapshot();
+    }
+
+    private synchronized void rebuildSnapshot() {
+        LocalDate date = loadedDate;
+        int slot = slotClock.currentSlot();
+        List<Reservation> current = todayReservations.values().stream()
+                .filter(r -> r.getStartSlot() <= slot && slot <= r.getEndSlot())
+                .sorted(Comparator.comparingInt(Reservation::getStartSlot))
+                .toList();
+
+        Map<Integer, RoomStatusDTO> statuses = new HashMap<>();
+        for (Reservation r : current) {
+            statuses.put(r.getRoomId(), new RoomStatusDTO(r.getRoomId(), date, slot, r.getStatus(),
+                    r.getId(), r.getStartSlot(), r.getEndSlot()));
+        }
+        snapshot = new Snapshot(date, slot, current, Map.copyOf(statuses));
+    }
+
+    private static Reservation copyOf(Reservation source) {
+        Reservation copy = new Reservation();
+        copy.setId(source.getId());
+        copy.setUserId(source.getUserId());
+        copy.setRoomId(source.getRoomId());
+        copy.setDate(source.getDate());
+        copy.setStartSlot(source.getStartSlot());
+        copy.setEndSlot(source.getEndSlot());
+        copy.setStatus(source.getStatus());
+        copy.setCheckinTime(source.getCheckinTime());
+        copy.setCheckinRequired(source.getCheckinRequired());
+        copy.setCreatedAt(source.getCreatedAt());
+        return copy;
+    }
+
+    private record Snapshot(LocalDate date, int slot, List<Reservation> current, Map<Integer, RoomStatusDTO> statuses) {
+    }
+}
@@ -1,12 +1,29 @@
 package kr.ac.hanyang.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.RoomsCatalog;
 import kr.ac.hanyang.backend.dto.RoomsDTO;
 import kr.ac.hanyang.backend.mapper.RoomsMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
 
 @Service
 @RequiredArgsConstructor
@@ -14,8 +31,137 @@
 public class RoomsService {
 
     private final RoomsMapper roomsMapper;
+    private final ObjectMapper objectMapper;
+    private final DatabaseCircuitBreaker circuitBreaker;
+    private final ShardRouter shardRouter;
+    private final ReservationDayCache reservationDayCache;
+    private final SlotClock slotClock;
+
+    private volatile RoomsCatalog catalog;
+    // 마지막으로 DB 와 대조한 시각 (DB 장애 중 스냅샷의 나이 표시용)
+    private volatile long verifiedAt;
+    // 스냅샷과 함께 교체되는 속성 인덱스
+    private volatile RoomAttributeIndex attributeIndex;
+    // 날짜별 슬롯 점유 비트셋: 날짜 캐시의 예약 목록(참조)과 인덱스가 그대로일 때만 재사용
+    private final Map<LocalDate, DayOccupancy> occupancyByDate = new ConcurrentHashMap<>();
+
+    private record DayOccupancy(List<Reservation> source, RoomAttributeIndex index, BitSet[] busy) {
+    }
+
+    /**
+     * 조건 검색 결과: 빈 시간 조건이 있고 DB 장애로 마지막 정상 예약 데이터를 썼으면 stale
+     */
+    public record RoomSearch(List<RoomsDTO> rooms, boolean stale, long loadedAt) {
+    }
 
     public List<RoomsDTO> getRooms(){
-        return roomsMapper.getRooms();
+        return getCatalog().getRooms();
+    }
+
+    /**
+     * 미리 직렬화된 방 목록 스냅샷
+     * 기동 시(빈 초기화) DB 를 읽지 않는다. DB 가 내려가 있어도 애플리케이션이 뜰 수 있도록, 스냅샷은 기동 후
+     * 캐시 워밍업(ApplicationReady)이나 첫 사용 시 만들고, 실패하면 다음 사용 때 다시 시도한다.
+     */
+    public RoomsCatalog getCatalog() {
+        RoomsCatalog current = catalog;
+        return current != null ? current : loadCatalog();
+    }
+
+    private synchronized RoomsCatalog loadCatalog() {
+        // 동시에 처음 들어온 요청들이 한 번만 읽도록 잠근 뒤 다시 확인
+        return catalog != null ? catalog : refreshCatalog();
+    }
+
+    /**
+     * rooms 테이블을 다시 읽어 스냅샷 재구성
+     * 내용이 바뀌지 않았으면 기존 스냅샷(버전, ETag)을 그대로 유지한다.
+     */
+    public synchronized RoomsCatalog refreshCatalog() {
+        List<RoomsDTO> rooms = List.copyOf(circuitBreaker.call(() -> shardRouter.onHome(roomsMapper::getRooms)));
+        byte[] json = toJson(rooms);
+        verifiedAt = slotClock.getClock().millis();
+
+        RoomsCatalog current = catalog;
+        if (current != null && Arrays.equals(current.getJson(), json)) {
+            return current;
+        }
+
+        long version = current != null ? current.getVersion() + 1 : 1;
+        String etag = "\"rooms-" + version + "-" + DigestUtils.md5DigestAsHex(json) + "\"";
+        attributeIndex = new RoomAttributeIndex(rooms);
+        catalog = new RoomsCatalog(version, rooms, json, gzip(json), etag);
+        log.info("Rooms catalog rebuilt: version={}, rooms={}, bytes={}", version, rooms.size(), json.length);
+        return catalog;
+    }
+
+    /**
+     * 속성과 빈 시간으로 방 검색 (쿼리마다 SQL 없음)
+     * 속성 조건은 비트셋 인덱스의 AND, 빈 시간은 날짜 캐시의 예약으로 만든 슬롯별 점유 비트셋을 OR 해서 제외한다.
+     * 대기자 임시 배정(HOLD) 구간은 반영하지 않는다 (예약 시점에 다시 검사됨)
+     *
+     * @param date 빈 시간 조건 날짜 (null 이면 속성만)
+     */
+    public RoomSearch search(Integer minCapacity, List<String> equipment, Boolean accessible, String type,
+                             String campus, LocalDate date, Integer startSlot, Integer endSlot) {
+        getCatalog();
+        RoomAttributeIndex index = attributeIndex;
+        BitSet matched = index.match(minCapacity, equipment, accessible, type, campus);
+        if (date == null) {
+            return new RoomSearch(index.roomsOf(matched), false, slotClock.getClock().millis());
+        }
+        if (startSlot == null || endSlot == null || startSlot < 0 || endSlot >= SlotClock.SLOTS_PER_DAY
+                || startSlot > endSlot) {
+            throw new IllegalArgumentException("시간 조건은 0~" + (SlotClock.SLOTS_PER_DAY - 1) + " 범위의 시작/종료 슬롯이 필요합니다.");
+        }
+
+        ReservationDayCache.DayView day = reservationDayCache.read(date);
+        BitSet[] busy = occupancy(date, day.reservations(), index);
+        BitSet taken = new BitSet();
+        for (int slot = startSlot; slot <= endSlot; slot++) {
+            taken.or(busy[slot]);
+        }
+        matched.andNot(taken);
+        return new RoomSearch(index.roomsOf(matched), day.stale(), day.loadedAt());
+    }
+
+    private BitSet[] occupancy(LocalDate date, List<Reservation> reservations, RoomAttributeIndex index) {
+        DayOccupancy cached = occupancyByDate.get(date);
+        if (cached != null && cached.source() == reservations && cached.index() == index) {
+            return cached.busy();
+        }
+        BitSet[] busy = index.occupancy(reservations);
+        LocalDate today = slotClock.today();
+        // 날짜 캐시가 보관하는 기간만 재사용 가치가 있다 (그 밖은 조회마다 새 목록)
+        if (!date.isBefore(today) && date.isBefore(today.plusDays(ReservationDayCache.WINDOW_DAYS))) {
+            occupancyByDate.keySet().removeIf(day -> day.isBefore(today));
+            occupancyByDate.put(date, new DayOccupancy(reservations, index, busy));
+        }
+        return busy;
+    }
+
+    /**
+     * 스냅샷이 DB 와 마지막으로 대조된 뒤 지난 초
+     */
+    public long getCatalogAgeSeconds() {
+        return Math.max(0, (slotClock.getClock().millis() - verifiedAt) / 1000);
+    }
+
+    private byte[] toJson(List<RoomsDTO> rooms) {
+        try {
+            return objectMapper.writeValueAsBytes(rooms);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 목록 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
     }
 }
@@ -5,6 +5,7 @@
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.annotation.PostConstruct;
 import java.util.List;
@@ -26,12 +27,12 @@ public void init() {
         loadSettingsIntoCache();
     }
 
-    public void refreshCache() {
+    public int refreshCache() {
         log.info("Refreshing settings cache...");
-        loadSettingsIntoCache();
+        return loadSettingsIntoCache();
     }
 
-    private void loadSettingsIntoCache() {
+    private int loadSettingsIntoCache() {
         List<Setting> settings = settingMapper.findAll();
         Map<String, String> newCache = settings.stream()
                 .collect(Collectors.toMap(Setting::getKeyName, Setting::getValue));
@@ -39,6 +40,7 @@ private void loadSettingsIntoCache() {
         settingsCache.clear();
         settingsCache.putAll(newCache);
         log.info("Loaded {} settings into cache.", settingsCache.size());
+        return settingsCache.size();
     }
 
     public String getValue(String key, String defaultValue) {
@@ -57,6 +59,7 @@ public int getIntValue(String key, int defaultValue) {
     /**
      * 모든 설정 조회
      */
+    @Transactional(readOnly = true)
     public List<Setting> getAllSettings() {
         return settingMapper.findAll();
     }
@@ -1,31 +1,90 @@
 package kr.ac.hanyang.backend.service;
 
+import kr.ac.hanyang.backend.datasource.ShardRouter;
 import kr.ac.hanyang.backend.dto.User;
 import kr.ac.hanyang.backend.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     
     private final UserMapper userMapper;
-    
+    private final ShardRouter shardRouter;
+
+    // findByIds 의 IN 목록 크기
+    private static final int ID_BATCH_SIZE = 1000;
+
+    // 이메일 → 사용자 캐시 (로그인 확인/체크인마다 users 조회를 피하기 위함)
+    // 다른 인스턴스의 role 변경도 반영되도록 TTL 을 둔다.
+    private final Map<String, CachedUser> usersByEmail = new ConcurrentHashMap<>();
+
+    @Value("${app.users.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
     /**
      * 이메일로 사용자 조회
+     * OAuth 로그인에서 createOrUpdateUser 직후 불리므로 readOnly 로 replica 에 보내지 않는다 (복제 지연 시 방금 만든 사용자가 없음)
      */
     public User findByEmail(String email) {
-        return userMapper.findByEmail(email);
+        CachedUser cached = usersByEmail.get(email);
+        if (cached != null && !cached.isExpired(cacheTtlSeconds)) {
+            return cached.user();
+        }
+        // 샤드 트랜잭션(체크인 등) 안에서 불려도 users 는 홈 샤드에서 읽는다.
+        User user = shardRouter.onHome(() -> userMapper.findByEmail(email));
+        if (user != null) {
+            cache(user);
+        } else {
+            usersByEmail.remove(email);
+        }
+        return user;
+    }
+
+    /**
+     * 최근 예약한 사용자를 캐시에 미리 적재 (기동 시 워밍업)
+     * 샤딩 시에는 홈 캠퍼스 예약 기준 (다른 캠퍼스 사용자는 첫 조회 때 적재)
+     */
+    @Transactional(readOnly = true)
+    public int warmUp(LocalDate since) {
+        List<User> users = userMapper.findActiveSince(since);
+        users.forEach(this::cache);
+        return users.size();
     }
     
     /**
-     * ID로 사용자 조회
+     * ID로 사용자 조회 (findByEmail 과 같은 이유로 primary 에서 읽음)
      */
     public User findById(Long id) {
-        return userMapper.findById(id);
+        return shardRouter.onHome(() -> userMapper.findById(id));
+    }
+    
+    /**
+     * 여러 사용자를 IN 조회로 묶어서 조회 (id → 사용자, 없는 id 는 빠짐)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, User> findByIds(Collection<Long> ids) {
+        Map<Long, User> users = new HashMap<>();
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += ID_BATCH_SIZE) {
+            List<Long> batch = pending.subList(from, Math.min(pending.size(), from + ID_BATCH_SIZE));
+            for (User user : shardRouter.onHome(() -> userMapper.findByIds(batch))) {
+                users.put(user.getId(), user);
+            }
+        }
+        return users;
     }
     
     /**
@@ -50,6 +109,7 @@ public User createOrUpdateUser(String email, String fullName, String provider, S
             existingUser.setName(name);
             existingUser.setDepartment(department);
             userMapper.update(existingUser);
+            cache(existingUser);
             return existingUser;
         } else {
             // 새 사용자 생성 (기본 role: 0 = 일반 사용자)
@@ -62,6 +122,7 @@ public User createOrUpdateUser(String email, String fullName, String provider, S
                     .role(0)  // 기본값: 일반 사용자
                     .build();
             userMapper.insert(newUser);
+            cache(newUser);
             return newUser;
         }
     }
@@ -87,6 +148,7 @@ private String[] parseHanyangName(String fullName) {
     /**
      * 모든 사용자 조회 (슈퍼관리자용)
      */
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userMapper.findAll();
     }
@@ -101,6 +163,17 @@ public void updateUserRole(Long userId, Integer newRole) {
         }
         
         userMapper.updateRole(userId, newRole);
+        usersByEmail.remove(user.getEmail());
+    }
+
+    private void cache(User user) {
+        usersByEmail.put(user.getEmail(), new CachedUser(user, System.currentTimeMillis()));
+    }
+
+    private record CachedUser(User user, long loadedAt) {
+        boolean isExpired(long ttlSeconds) {
+            return System.currentTimeMillis() - loadedAt > ttlSeconds * 1000;
+        }
     }
 }
 
@@ -0,0 +1,93 @@
+package kr.ac.hanyang.backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기자에게 임시 배정(HOLD)된 슬롯 구간
+ * 배정 기간 동안 다른 사용자의 같은 구간 예약을 막는다.
+ * - 예약 생성마다 조회하므로 대기열 구간 인덱스처럼 방-날짜별로 나눠 두고, 해당 방-날짜의 배정만 본다.
+ * - 메모리에만 보관하므로 재시작하면 사라진다. WaitlistService 가 시작 시 OFFERED 요청을 대기로 되돌리고
+ *   배정되어 있던 구간을 다시 매칭해 새로 배정한다. (배정 기간은 처음부터 다시 시작)
+ */
+@Component
+public class WaitlistHoldRegistry {
+
+    public record Hold(long entryId, int userId, int roomId, LocalDate date, int startSlot, int endSlot,
+                       LocalDateTime expiresAt) {
+    }
+
+    private record RoomDate(int roomId, LocalDate date) {
+    }
+
+    private final Map<Long, Hold> holds = new ConcurrentHashMap<>();
+    private final Map<RoomDate, Map<Long, Hold>> byRoomDate = new ConcurrentHashMap<>();
+
+    public void hold(Hold hold) {
+        Hold previous = holds.put(hold.entryId(), hold);
+        if (previous != null) {
+            unindex(previous);
+        }
+        byRoomDate.compute(new RoomDate(hold.roomId(), hold.date()), (key, roomHolds) -> {
+            Map<Long, Hold> updated = roomHolds != null ? roomHolds : new ConcurrentHashMap<>();
+            updated.put(hold.entryId(), hold);
+            return updated;
+        });
+    }
+
+    public Hold release(long entryId) {
+        Hold hold = holds.remove(entryId);
+        if (hold != null) {
+            unindex(hold);
+        }
+        return hold;
+    }
+
+    public Hold get(long entryId) {
+        return holds.get(entryId);
+    }
+
+    /**
+     * 다른 사용자에게 배정된 구간과 겹치는지
+     */
+    public boolean isHeldByOther(int roomId, LocalDate date, int startSlot, int endSlot, int userId, LocalDateTime now) {
+        Map<Long, Hold> roomHolds = byRoomDate.get(new RoomDate(roomId, date));
+        if (roomHolds == null) {
+            return false;
+        }
+        for (Hold hold : roomHolds.values()) {
+            if (hold.userId() != userId && hold.expiresAt().isAfter(now)
+                    && hold.startSlot() <= endSlot && startSlot <= hold.endSlot()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 만료된 배정을 꺼내서 반환
+     */
+    public List<Hold> removeExpired(LocalDateTime now) {
+        List<Hold> expired = new ArrayList<>();
+        for (Hold hold : holds.values()) {
+            if (!hold.expiresAt().isAfter(now) && holds.remove(hold.entryId(), hold)) {
+                unindex(hold);
+                expired.add(hold);
+            }
+        }
+        return expired;
+    }
+
+    private void unindex(Hold hold) {
+        byRoomDate.computeIfPresent(new RoomDate(hold.roomId(), hold.date()), (key, roomHolds) -> {
+            roomHolds.remove(hold.entryId(), hold);
+            return roomHolds.isEmpty() ? null : roomHolds;
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.dto.WaitlistEntry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 방(또는 방 유형)-날짜별 대기 요청 구간 인덱스
+ * 시작 슬롯 기준 TreeMap 에 담고 가장 긴 요청 길이를 함께 기록해 두어,
+ * 비워진 구간 [start, end] 와 겹치는 요청을 O(log n + k) 로 찾는다.
+ */
+class WaitlistIntervalIndex {
+
+    private final Map<String, TreeMap<Integer, List<WaitlistEntry>>> index = new HashMap<>();
+    private int maxLength = 1;
+
+    static String roomKey(int roomId, LocalDate date) {
+        return "R:" + roomId + "|" + date;
+    }
+
+    static String typeKey(String roomType, LocalDate date) {
+        return "T:" + roomType + "|" + date;
+    }
+
+    static String keyOf(WaitlistEntry entry) {
+        return entry.getRoomId() != null
+                ? roomKey(entry.getRoomId(), entry.getDate())
+                : typeKey(entry.getRoomType(), entry.getDate());
+    }
+
+    synchronized void add(WaitlistEntry entry) {
+        index.computeIfAbsent(keyOf(entry), key -> new TreeMap<>())
+                .computeIfAbsent(entry.getStartSlot(), start -> new ArrayList<>())
+                .add(entry);
+        maxLength = Math.max(maxLength, entry.getEndSlot() - entry.getStartSlot() + 1);
+    }
+
+    synchronized void remove(WaitlistEntry entry) {
+        TreeMap<Integer, List<WaitlistEntry>> byStart = index.get(keyOf(entry));
+        if (byStart == null) {
+            return;
+        }
+        List<WaitlistEntry> entries = byStart.get(entry.getStartSlot());
+        if (entries != null) {
+            entries.removeIf(e -> e.getId() == entry.getId());
+            if (entries.isEmpty()) {
+                byStart.remove(entry.getStartSlot());
+            }
+        }
+        if (byStart.isEmpty()) {
+            index.remove(keyOf(entry));
+        }
+    }
+
+    /**
+     * [start, end] 와 겹치는 요청 (먼저 들어온 순)
+     * 겹치는 요청의 시작 슬롯은 (start - maxLength, end] 범위에만 있을 수 있다.
+     */
+    synchronized List<WaitlistEntry> findOverlapping(String key, int start, int end) {
+        TreeMap<Integer, List<WaitlistEntry>> byStart = index.get(key);
+        if (byStart == null) {
+            return List.of();
+        }
+        List<WaitlistEntry> result = new ArrayList<>();
+        for (List<WaitlistEntry> entries : byStart.subMap(start - maxLength + 1, true, end, true).values()) {
+            for (WaitlistEntry entry : entries) {
+                if (entry.getEndSlot() >= start) {
+                    result.add(entry);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(WaitlistEntry::getId));
+        return result;
+    }
+
+    /**
+     * 지난 날짜의 요청 제거
+     */
+    synchronized void removeBefore(LocalDate date) {
+        index.values().forEach(byStart -> byStart.values()
+                .forEach(entries -> entries.removeIf(e -> e.getDate().isBefore(date))));
+        index.values().forEach(byStart -> byStart.values().removeIf(List::isEmpty));
+        index.values().removeIf(TreeMap::isEmpty);
+    }
+
+    synchronized void clear() {
+        index.clear();
+        maxLength = 1;
+    }
+}
@@ -0,0 +1,292 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.ReservationRequestDTO;
+import kr.ac.hanyang.backend.dto.RoomsDTO;
+import kr.ac.hanyang.backend.dto.WaitlistEntry;
+import kr.ac.hanyang.backend.dto.WaitlistRequestDTO;
+import kr.ac.hanyang.backend.event.ReservationEvent;
+import kr.ac.hanyang.backend.event.ReservationEventSubscriber;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.event.SlotsFreedEvent;
+import kr.ac.hanyang.backend.exception.ErrorCode;
+import kr.ac.hanyang.backend.exception.ReservationException;
+import kr.ac.hanyang.backend.mapper.WaitlistMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 예약 대기열
+ * - 대기 요청은 방(또는 방 유형)-날짜별 구간 인덱스에 보관
+ * - 취소/노쇼로 슬롯이 비면(outbox 의 CANCELLED/NO_SHOW 이벤트) 겹치는 요청을 먼저 들어온 순으로 매칭하여
+ *   ReservationService 로 자동 예약하거나, 일정 시간 임시 배정(HOLD)한다.
+ * - 임시 배정은 메모리(WaitlistHoldRegistry)에만 있으므로, 시작 시 OFFERED 요청을 대기로 되돌린 뒤
+ *   배정되어 있던 방-구간을 다시 매칭한다.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class WaitlistService implements ReservationEventSubscriber {
+
+    private final WaitlistMapper waitlistMapper;
+    private final ReservationService reservationService;
+    private final RoomsService roomsService;
+    private final WaitlistHoldRegistry holdRegistry;
+    private final ShardRouter shardRouter;
+    private final SlotClock slotClock;
+
+    private final WaitlistIntervalIndex index = new WaitlistIntervalIndex();
+    private final ExecutorService matcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "waitlist-matcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile LocalDate purgedUntil;
+
+    @Value("${app.waitlist.hold-minutes:5}")
+    private int holdMinutes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            LocalDate today = slotClock.today();
+            List<WaitlistEntry> offered = waitlistMapper.findOfferedFrom(today);
+            waitlistMapper.resetOffers();
+            waitlistMapper.expireBefore(today);
+            index.clear();
+            List<WaitlistEntry> waiting = waitlistMapper.findWaitingFrom(today);
+            waiting.forEach(index::add);
+            purgedUntil = today;
+            log.info("Loaded {} waitlist entries into interval index.", waiting.size());
+
+            // 재시작으로 사라진 임시 배정: 그 구간을 다시 매칭해 (대개 같은 요청에) 새로 배정
+            for (WaitlistEntry entry : offered) {
+                if (entry.getOfferedRoomId() != null) {
+                    submitMatch(new SlotsFreedEvent(entry.getOfferedRoomId(), entry.getDate(),
+                            entry.getStartSlot(), entry.getEndSlot()));
+                }
+            }
+            if (!offered.isEmpty()) {
+                log.info("Re-matching {} waitlist offers lost on restart.", offered.size());
+            }
+        } catch (Exception e) {
+            log.error("Waitlist index load failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matcher.shutdownNow();
+    }
+
+    /**
+     * 대기 등록
+     */
+    public WaitlistEntry join(WaitlistRequestDTO request) {
+        LocalDate today = slotClock.today();
+        if ((request.getRoomId() == null) == (request.getRoomType() == null)) {
+            throw new ReservationException(ErrorCode.INVALID_REQUEST, "roomId 또는 roomType 중 하나만 지정해야 합니다.");
+        }
+        if (request.getDate() == null || request.getDate().isBefore(today) || request.getDate().isAfter(today.plusDays(6))) {
+            throw new ReservationException(ErrorCode.OUT_OF_RANGE, "대기 등록은 오늘부터 " + today.plusDays(6) + "까지만 가능합니다.");
+        }
+        if (request.getStartSlot() < 0 || request.getEndSlot() >= SlotClock.SLOTS_PER_DAY || request.getStartSlot() > request.getEndSlot()) {
+            throw new ReservationException(ErrorCode.INVALID_REQUEST, "잘못된 시간 범위입니다.");
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setUserId(request.getUserId());
+        entry.setRoomId(request.getRoomId());
+        entry.setRoomType(request.getRoomType());
+        entry.setDate(request.getDate());
+        entry.setStartSlot(request.getStartSlot());
+        entry.setEndSlot(request.getEndSlot());
+        entry.setAutoBook(request.isAutoBook());
+        entry.setStatus("WAITING");
+        waitlistMapper.insert(entry);
+        index.add(entry);
+
+        log.info("Waitlist entry {} registered by user {}", entry.getId(), entry.getUserId());
+        return entry;
+    }
+
+    public List<WaitlistEntry> getMyWaitlist(int userId) {
+        return waitlistMapper.findByUserId(userId);
+    }
+
+    /**
+     * 대기 취소 (임시 배정 중이었다면 구간을 다음 대기자에게 넘김)
+     */
+    public void cancel(long entryId, int userId) {
+        WaitlistEntry entry = getOwnedEntry(entryId, userId);
+        if (!"WAITING".equals(entry.getStatus()) && !"OFFERED".equals(entry.getStatus())) {
+            throw ReservationException.of(ErrorCode.WAITLIST_CLOSED);
+        }
+        waitlistMapper.updateStatus(entryId, "CANCELLED");
+        index.remove(entry);
+        WaitlistHoldRegistry.Hold hold = holdRegistry.release(entryId);
+        if (hold != null) {
+            submitMatch(new SlotsFreedEvent(hold.roomId(), hold.date(), hold.startSlot(), hold.endSlot()));
+        }
+    }
+
+    /**
+     * 임시 배정 수락 → 실제 예약
+     */
+    public Reservation accept(long entryId, int userId) {
+        WaitlistEntry entry = getOwnedEntry(entryId, userId);
+        WaitlistHoldRegistry.Hold hold = holdRegistry.get(entryId);
+        if (!"OFFERED".equals(entry.getStatus()) || hold == null || !hold.expiresAt().isAfter(slotClock.now())) {
+            throw ReservationException.of(ErrorCode.HOLD_EXPIRED);
+        }
+
+        // 대기열은 홈 샤드, 예약은 방 캠퍼스의 샤드
+        Reservation reservation = shardRouter.forRoom(hold.roomId(), () -> reservationService.createReservation(
+                toRequest(userId, hold.roomId(), hold.date(), hold.startSlot(), hold.endSlot())));
+        holdRegistry.release(entryId);
+        waitlistMapper.markBooked(entryId, reservation.getId());
+        return reservation;
+    }
+
+    /**
+     * 취소/노쇼로 슬롯이 비면 매칭을 예약 (outbox 디스패처가 커밋된 이벤트만 전달)
+     * 같은 이벤트가 재전달되어도 이미 매칭된 요청은 WAITING 이 아니므로 중복 예약되지 않는다.
+     */
+    @Override
+    public void onReservationEvent(ReservationEvent event) {
+        if (event.type() != ReservationEventType.CANCELLED && event.type() != ReservationEventType.NO_SHOW) {
+            return;
+        }
+        Reservation reservation = event.reservation();
+        submitMatch(new SlotsFreedEvent(reservation.getRoomId(), reservation.getDate(),
+                reservation.getStartSlot(), reservation.getEndSlot()));
+    }
+
+    /**
+     * 자동 예약/임시 배정은 클러스터에서 한 번만 (리더 인스턴스가 전달받음)
+     */
+    @Override
+    public Scope scope() {
+        return Scope.CLUSTER;
+    }
+
+    /**
+     * 만료된 임시 배정 정리 후 해당 구간 재매칭, 날짜가 바뀌면 지난 요청 만료
+     */
+    public void expireHolds() {
+        LocalDateTime now = slotClock.now();
+        for (WaitlistHoldRegistry.Hold hold : holdRegistry.removeExpired(now)) {
+            waitlistMapper.updateStatus(hold.entryId(), "EXPIRED");
+            log.info("Waitlist hold expired: entryId={}, userId={}", hold.entryId(), hold.userId());
+            submitMatch(new SlotsFreedEvent(hold.roomId(), hold.date(), hold.startSlot(), hold.endSlot()));
+        }
+
+        LocalDate today = now.toLocalDate();
+        if (!today.equals(purgedUntil)) {
+            waitlistMapper.expireBefore(today);
+            index.removeBefore(today);
+            purgedUntil = today;
+        }
+    }
+
+    private void submitMatch(SlotsFreedEvent event) {
+        matcher.submit(() -> {
+            try {
+                match(event);
+            } catch (Exception e) {
+                log.error("Waitlist matching failed for {}", event, e);
+            }
+        });
+    }
+
+    private void match(SlotsFreedEvent event) {
+        String roomType = roomsService.getRooms().stream()
+                .filter(room -> room.getId() == event.roomId())
+                .map(RoomsDTO::getType)
+                .findFirst()
+                .orElse(null);
+
+        List<WaitlistEntry> candidates = new ArrayList<>(index.findOverlapping(
+                WaitlistIntervalIndex.roomKey(event.roomId(), event.date()), event.startSlot(), event.endSlot()));
+        if (roomType != null) {
+            candidates.addAll(index.findOverlapping(
+                    WaitlistIntervalIndex.typeKey(roomType, event.date()), event.startSlot(), event.endSlot()));
+            candidates.sort(Comparator.comparingLong(WaitlistEntry::getId));
+        }
+
+        for (WaitlistEntry entry : candidates) {
+            if (entry.isAutoBook()) {
+                tryAutoBook(entry, event.roomId());
+            } else {
+                tryHold(entry, event.roomId());
+            }
+        }
+    }
+
+    private void tryAutoBook(WaitlistEntry entry, int roomId) {
+        try {
+            Reservation reservation = shardRouter.forRoom(roomId, () -> reservationService.createReservation(
+                    toRequest(entry.getUserId(), roomId, entry.getDate(), entry.getStartSlot(), entry.getEndSlot())));
+            waitlistMapper.markBooked(entry.getId(), reservation.getId());
+            index.remove(entry);
+            log.info("Waitlist entry {} auto-booked as reservation {}", entry.getId(), reservation.getId());
+        } catch (ReservationException e) {
+            // 구간 일부가 아직 차 있거나 한도 초과 → 계속 대기
+            log.debug("Waitlist entry {} not bookable yet: {}", entry.getId(), e.getCode());
+        }
+    }
+
+    private void tryHold(WaitlistEntry entry, int roomId) {
+        LocalDateTime now = slotClock.now();
+        if (holdRegistry.isHeldByOther(roomId, entry.getDate(), entry.getStartSlot(), entry.getEndSlot(), entry.getUserId(), now)) {
+            return;
+        }
+        // 같은 CANCELLED 이벤트를 예약 캐시가 아직 반영하지 못했을 수 있으므로 DB 에서 직접 확인
+        if (reservationService.isRangeBooked(roomId, entry.getDate(), entry.getStartSlot(), entry.getEndSlot())) {
+            return;
+        }
+
+        LocalDateTime expiresAt = now.plusMinutes(holdMinutes);
+        holdRegistry.hold(new WaitlistHoldRegistry.Hold(entry.getId(), entry.getUserId(), roomId, entry.getDate(),
+                entry.getStartSlot(), entry.getEndSlot(), expiresAt));
+        waitlistMapper.markOffered(entry.getId(), roomId, expiresAt);
+        index.remove(entry);
+        log.info("Waitlist entry {} offered room {} until {}", entry.getId(), roomId, expiresAt);
+    }
+
+    private WaitlistEntry getOwnedEntry(long entryId, int userId) {
+        WaitlistEntry entry = waitlistMapper.findById(entryId);
+        if (entry == null) {
+            throw ReservationException.of(ErrorCode.WAITLIST_NOT_FOUND);
+        }
+        if (entry.getUserId() != userId) {
+            throw ReservationException.of(ErrorCode.NOT_OWNER);
+        }
+        return entry;
+    }
+
+    private static ReservationRequestDTO toRequest(int userId, int roomId, LocalDate date, int startSlot, int endSlot) {
+        ReservationRequestDTO request = new ReservationRequestDTO();
+        request.setUserId(userId);
+        request.setRoomId(roomId);
+        request.setDate(date);
+        request.setStartSlot(startSlot);
+        request.setEndSlot(endSlot);
+        return request;
+    }
+}
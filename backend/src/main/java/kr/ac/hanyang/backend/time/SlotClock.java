@@ -0,0 +1,59 @@
+package kr.ac.hanyang.backend.time;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * 예약 시간 계산의 기준 시계 (Asia/Seoul, 30분 슬롯)
+ * 현재 시각은 모두 여기서 가져오므로 테스트/시뮬레이션에서는 Clock 빈을 바꿔 시간을 조작할 수 있다.
+ * 슬롯 인덱스: hour * 2 + (minute >= 30 ? 1 : 0), 하루 48슬롯
+ */
+@Component
+public class SlotClock {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 48;
+
+    private final Clock clock;
+
+    public SlotClock(Clock clock) {
+        this.clock = clock.withZone(ZONE);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    public int currentSlot() {
+        return slotOf(LocalTime.now(clock));
+    }
+
+    public static int slotOf(LocalTime time) {
+        return time.getHour() * 2 + (time.getMinute() >= SLOT_MINUTES ? 1 : 0);
+    }
+
+    /**
+     * 슬롯 인덱스를 시작 시각으로 변환
+     */
+    public static LocalTime slotToTime(int slot) {
+        return LocalTime.of(slot / 2, (slot % 2) * SLOT_MINUTES);
+    }
+
+    public static LocalDateTime slotStart(LocalDate date, int slot) {
+        return LocalDateTime.of(date, slotToTime(slot));
+    }
+}
@@ -0,0 +1,14 @@
+-- 통계 누적 테이블 압축 위치
+-- reservation_stats_total 은 예약마다 갱신하지 않고, 지난 날짜(compacted_through 까지)의 시간대 롤업을 매일 한 번 접어 넣는다.
+-- 전체 기간 통계 = 누적 테이블 + compacted_through 이후의 시간대 롤업
+CREATE TABLE IF NOT EXISTS reservation_stats_compaction (
+    id TINYINT NOT NULL,
+    compacted_through DATE NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT IGNORE INTO reservation_stats_compaction (id, compacted_through) VALUES (1, '1970-01-01');
+
+-- 이전 방식의 누적 행은 모든 날짜를 담고 있으므로 아직 압축한 적이 없을 때만 비운다 (다음 압축에서 다시 채움)
+DELETE FROM reservation_stats_total
+WHERE (SELECT compacted_through FROM reservation_stats_compaction WHERE id = 1) = '1970-01-01';
@@ -0,0 +1,18 @@
+-- 예약 변경 버전 + 삭제 표시(tombstone) (GET /api/reservation/changes 델타 동기화용)
+-- version: 0 이면 미배정. 예약 쓰기는 0 으로 두고, 커밋 후 ReservationSyncService 가 reservation_version 카운터에서 받은 값을 붙인다 (샤드마다 단조 증가)
+-- deleted_at: 사용자/관리자 취소 시각. 행을 지우지 않고 status = 'CANCELLED' 와 함께 남겨 삭제도 동기화되게 한다.
+-- 버전 배정은 FOR UPDATE SKIP LOCKED 를 쓰므로 MariaDB 10.6 이상 필요
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS deleted_at DATETIME NULL;
+ALTER TABLE reservations ADD INDEX IF NOT EXISTS idx_reservations_date_version (date, version);
+ALTER TABLE reservations ADD INDEX IF NOT EXISTS idx_reservations_version (version);
+
+-- 카운터 한 행: 버전 배정 트랜잭션만 잠그고(예약 쓰기 경로에는 없음) 커밋까지 유지하므로 버전 순서 = 배정 커밋 순서
+CREATE TABLE IF NOT EXISTS reservation_version (
+    id TINYINT PRIMARY KEY,
+    version BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT IGNORE INTO reservation_version (id, version) VALUES (1, 1);
+
+-- 기존 행은 버전 1 (since=0 전체 조회에 포함)
+UPDATE reservations SET version = 1 WHERE version = 0;
@@ -0,0 +1,5 @@
+-- 방 속성 (조건 검색 GET /api/rooms/search 용)
+-- capacity: 수용 인원, equipment: 비품 태그(쉼표 구분, 예: projector,whiteboard), accessible: 휠체어 접근 가능 (예약어라 `accessible` 로 감싸서 쓴다)
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS capacity INT NOT NULL DEFAULT 0;
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS equipment VARCHAR(255) NOT NULL DEFAULT '';
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS `accessible` TINYINT(1) NOT NULL DEFAULT 0;
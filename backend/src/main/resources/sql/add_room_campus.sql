@@ -0,0 +1,5 @@
+-- 방의 캠퍼스(건물) 구분
+-- 다중 캠퍼스 샤딩(app.sharding.enabled=true) 시 예약 관련 테이블이 이 값으로 샤드를 나눈다.
+-- 기본값은 홈 캠퍼스(app.sharding.home-campus, 기본 main)
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS campus VARCHAR(20) NOT NULL DEFAULT 'main';
+ALTER TABLE rooms ADD INDEX IF NOT EXISTS idx_rooms_campus (campus);
@@ -0,0 +1,42 @@
+-- 예약 상태 변경 outbox
+-- 상태 변경과 같은 트랜잭션에서 기록되고, OutboxDispatcher 가 읽어 구독자에게 전달한다.
+-- event_type: CREATED, CANCELLED, CHECKED_IN, NO_SHOW
+-- payload: 변경 시점의 예약(JSON)
+-- seq: 커밋된 이벤트에 리더 디스패처가 붙이는 전달 순번 (빈 번호 없이 증가, NULL 이면 아직 순번 전)
+-- dispatched_at: 순번을 붙인 시각 (보관 기간 계산용)
+
+CREATE TABLE IF NOT EXISTS reservation_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    reservation_id INT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    seq BIGINT NULL,
+    dispatched_at DATETIME NULL,
+    UNIQUE INDEX uk_outbox_seq (seq),
+    INDEX idx_outbox_dispatched (dispatched_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 순번을 붙이는 리더 임대 (인스턴스 중 하나만 순번을 붙이고 클러스터 구독자에게 전달)
+-- last_seq: 마지막으로 붙인 순번 (outbox 행을 정리해도 이어서 증가)
+
+CREATE TABLE IF NOT EXISTS reservation_outbox_lease (
+    name VARCHAR(50) NOT NULL PRIMARY KEY,
+    owner VARCHAR(100) NULL,
+    expires_at DATETIME(3) NULL,
+    last_seq BIGINT NOT NULL DEFAULT 0
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT IGNORE INTO reservation_outbox_lease (name, last_seq) VALUES ('dispatcher', 0);
+
+-- 구독자별 전달 위치
+-- consumer: 클러스터 구독자는 구독자 이름, 인스턴스 구독자(메모리 읽기 모델)는 "인스턴스 id/구독자 이름"
+-- last_seq 까지 전달 완료. 전달이 실패하면 attempts 를 올리고 next_attempt_at 까지 그 구독자만 멈춘다 (지수 백오프)
+
+CREATE TABLE IF NOT EXISTS reservation_outbox_consumer (
+    consumer VARCHAR(150) NOT NULL PRIMARY KEY,
+    last_seq BIGINT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(3) NULL,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
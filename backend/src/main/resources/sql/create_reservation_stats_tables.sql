@@ -0,0 +1,41 @@
+-- 이용률 / 노쇼 통계 롤업 테이블
+-- 예약 상태가 바뀔 때마다 증분(upsert)으로 갱신되며, 과거 데이터는 /api/admin/stats/backfill 로 채운다.
+-- 단위: 30분 슬롯 수
+
+-- 1. 날짜 x 방 x 시간대
+CREATE TABLE IF NOT EXISTS reservation_stats_hourly (
+    stat_date DATE NOT NULL,
+    room_id INT NOT NULL,
+    hour_of_day TINYINT NOT NULL,
+    booked_slots INT NOT NULL DEFAULT 0,
+    checked_in_slots INT NOT NULL DEFAULT 0,
+    no_show_slots INT NOT NULL DEFAULT 0,
+    cancelled_slots INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_date, room_id, hour_of_day)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 2. 날짜 x 방
+CREATE TABLE IF NOT EXISTS reservation_stats_daily (
+    stat_date DATE NOT NULL,
+    room_id INT NOT NULL,
+    booked_slots INT NOT NULL DEFAULT 0,
+    checked_in_slots INT NOT NULL DEFAULT 0,
+    no_show_slots INT NOT NULL DEFAULT 0,
+    cancelled_slots INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_date, room_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 3. 지난 날짜 누적: 방 x 시간대 (이력 크기와 무관하게 최대 방 수 x 24 행)
+--    예약마다 갱신하지 않고 매일 압축한다 (add_reservation_stats_compaction.sql)
+CREATE TABLE IF NOT EXISTS reservation_stats_total (
+    room_id INT NOT NULL,
+    hour_of_day TINYINT NOT NULL,
+    booked_slots BIGINT NOT NULL DEFAULT 0,
+    checked_in_slots BIGINT NOT NULL DEFAULT 0,
+    no_show_slots BIGINT NOT NULL DEFAULT 0,
+    cancelled_slots BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (room_id, hour_of_day)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 백필용 날짜 범위 조회 인덱스
+ALTER TABLE reservations ADD INDEX IF NOT EXISTS idx_reservations_date (date);
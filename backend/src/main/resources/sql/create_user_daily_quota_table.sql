@@ -0,0 +1,10 @@
+-- 사용자·날짜별 예약 한도 잠금 행 (홈 캠퍼스 DB)
+-- 같은 사용자의 같은 날짜 예약을 이 행의 행 잠금으로 직렬화한 뒤 한도를 계산한다.
+-- 예약 시간 합계는 reservations 에서 계산하므로 이 테이블은 잠금용 키만 가진다 (지난 날짜는 매일 정리).
+
+CREATE TABLE IF NOT EXISTS user_daily_quota (
+    user_id INT NOT NULL,
+    date DATE NOT NULL,
+    PRIMARY KEY (user_id, date),
+    INDEX idx_user_daily_quota_date (date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,22 @@
+-- 예약 대기열
+-- 취소/노쇼로 빈 슬롯이 생기면 겹치는 대기 요청을 먼저 들어온 순서대로 자동 예약(AUTO_BOOK)하거나
+-- 잠시 임시 배정(HOLD)한다.
+-- status: WAITING, OFFERED(임시 배정), BOOKED, EXPIRED, CANCELLED
+
+CREATE TABLE IF NOT EXISTS waitlist (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id INT NOT NULL,
+    room_id INT NULL COMMENT '특정 방 대기 (room_type 과 둘 중 하나)',
+    room_type VARCHAR(50) NULL COMMENT '같은 유형의 아무 방이나 대기',
+    date DATE NOT NULL,
+    start_slot INT NOT NULL,
+    end_slot INT NOT NULL,
+    auto_book BOOLEAN NOT NULL DEFAULT TRUE,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    offered_room_id INT NULL,
+    hold_expires_at DATETIME NULL,
+    reservation_id INT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_waitlist_status_date (status, date),
+    INDEX idx_waitlist_user (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
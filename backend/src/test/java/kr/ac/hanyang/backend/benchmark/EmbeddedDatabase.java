@@ -0,0 +1,115 @@
+package kr.ac.hanyang.backend.benchmark;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import kr.ac.hanyang.backend.mapper.UserMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 벤치마크/시뮬레이션용 임베디드 MariaDB (MariaDB4j)
+ * 운영과 같은 매퍼 XML 로 MyBatis 를 직접 구성한다. (Spring 컨텍스트/OAuth 설정 불필요)
+ */
+public class EmbeddedDatabase implements AutoCloseable {
+
+    private static final String[] MAPPER_XMLS = {
+            "mapper/ReservationMapper.xml", "mapper/RoomsMapper.xml",
+            "mapper/SettingMapper.xml", "mapper/ReservationStatsMapper.xml", "mapper/WaitlistMapper.xml",
+            "mapper/OutboxMapper.xml", "mapper/UserDailyQuotaMapper.xml"
+    };
+
+    private final DB db;
+    private final HikariDataSource dataSource;
+    private final SqlSessionFactory sqlSessionFactory;
+
+    public EmbeddedDatabase(String databaseName) throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB(databaseName);
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(config.getURL(databaseName));
+        dataSource.setUsername("root");
+        dataSource.setMaximumPoolSize(8);
+
+        runScript("benchmark/schema.sql");
+        runScript("sql/create_reservation_stats_tables.sql");
+        runScript("sql/create_waitlist_table.sql");
+        runScript("sql/create_reservation_outbox_table.sql");
+        runScript("sql/add_room_campus.sql");
+        runScript("sql/add_room_attributes.sql");
+        runScript("sql/add_reservation_version.sql");
+        runScript("sql/create_user_daily_quota_table.sql");
+        runScript("sql/add_reservation_stats_compaction.sql");
+        sqlSessionFactory = buildSqlSessionFactory();
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public SqlSessionFactory getSqlSessionFactory() {
+        return sqlSessionFactory;
+    }
+
+    /**
+     * 세미콜론 단위로 나눠 실행 (주석 줄은 제외)
+     */
+    public void runScript(String classpathLocation) throws IOException, SQLException {
+        String script;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(classpathLocation)) {
+            if (in == null) {
+                throw new IOException("script not found: " + classpathLocation);
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                withoutComments.append(line).append('\n');
+            }
+        }
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : withoutComments.toString().split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    private SqlSessionFactory buildSqlSessionFactory() throws IOException {
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.setDefaultFetchSize(100);
+        configuration.setDefaultStatementTimeout(30);
+        for (String location : MAPPER_XMLS) {
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream(location)) {
+                new XMLMapperBuilder(in, configuration, location, configuration.getSqlFragments()).parse();
+            }
+        }
+        configuration.addMapper(UserMapper.class);
+        return new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @Override
+    public void close() throws Exception {
+        dataSource.close();
+        db.stop();
+    }
+}
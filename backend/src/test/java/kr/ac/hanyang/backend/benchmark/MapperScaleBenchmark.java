@@ -0,0 +1,248 @@
+package kr.ac.hanyang.backend.benchmark;
+
+import kr.ac.hanyang.backend.dto.Reservation;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 매퍼 구문 규모별 벤치마크
+ * 이력 일수(benchmark.scales, 기본 30,180,730일)를 늘려가며 모든 매퍼 구문의 지연시간(p50/p95)과
+ * EXPLAIN 결과를 기록하고, 큰 테이블(reservations, users)을 전체 스캔하는 구문을 표시한다.
+ * 실행: ./gradlew mapperBenchmark [-Dbenchmark.scales=30,365 -Dbenchmark.failOnFullScan=true]
+ * 결과: build/reports/mapper-benchmark.md
+ */
+@Tag("benchmark")
+class MapperScaleBenchmark {
+
+    private static final String RESERVATION = "kr.ac.hanyang.backend.mapper.ReservationMapper.";
+    private static final String ROOMS = "kr.ac.hanyang.backend.mapper.RoomsMapper.";
+    private static final String SETTING = "kr.ac.hanyang.backend.mapper.SettingMapper.";
+    private static final String USER = "kr.ac.hanyang.backend.mapper.UserMapper.";
+    private static final Set<String> LARGE_TABLES = Set.of("reservations", "users");
+
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 5);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 50);
+
+    private final Random random = new Random(7);
+    private LocalDate today;
+    private int userCount;
+    private int roomCount;
+    private int reservationCount;
+
+    private record StatementCase(String id, Function<Random, Object> parameter) {
+    }
+
+    @Test
+    void benchmarkEveryMapperStatement() throws Exception {
+        int[] scales = Arrays.stream(System.getProperty("benchmark.scales", "30,180,730").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).sorted().toArray();
+        boolean failOnFullScan = Boolean.getBoolean("benchmark.failOnFullScan");
+        today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        StringBuilder report = new StringBuilder("# Mapper scale benchmark\n\n");
+        List<String> flagged = new ArrayList<>();
+
+        try (EmbeddedDatabase db = new EmbeddedDatabase("mapper_bench")) {
+            SyntheticDataGenerator generator = new SyntheticDataGenerator();
+            generator.generateUsers(db.getDataSource());
+            generator.generateRooms(db.getDataSource());
+            userCount = generator.getUsers();
+            roomCount = generator.getRooms();
+            // 오늘 ~ 6일 뒤 예약 (예약 가능 범위)
+            reservationCount = generator.generateReservations(db.getDataSource(), today, today.plusDays(6), today);
+
+            int generatedDays = 0;
+            for (int days : scales) {
+                reservationCount += generator.generateReservations(db.getDataSource(),
+                        today.minusDays(days), today.minusDays(generatedDays + 1L), today);
+                generatedDays = days;
+                analyze(db);
+
+                report.append("## ").append(days).append(" days of history, ")
+                        .append(reservationCount).append(" reservations, ").append(userCount).append(" users\n\n")
+                        .append("| statement | p50 (us) | p95 (us) | rows | plan | full scan |\n")
+                        .append("|---|---:|---:|---:|---|---|\n");
+                for (StatementCase statementCase : cases()) {
+                    String line = run(db, statementCase, flagged, days);
+                    report.append(line).append('\n');
+                }
+                report.append('\n');
+            }
+        }
+
+        if (!flagged.isEmpty()) {
+            report.append("## Flagged full scans\n\n");
+            flagged.forEach(f -> report.append("- ").append(f).append('\n'));
+        }
+        Path output = Path.of("build", "reports", "mapper-benchmark.md");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report, StandardCharsets.UTF_8);
+        System.out.println(report);
+
+        if (failOnFullScan) {
+            assertTrue(flagged.isEmpty(), "full scans detected: " + flagged);
+        }
+    }
+
+    private List<StatementCase> cases() {
+        return List.of(
+                new StatementCase(RESERVATION + "isRangeBookedForUpdate", r -> {
+                    int start = 18 + r.nextInt(24);
+                    return params("roomId", 1 + r.nextInt(roomCount), "date", today.plusDays(r.nextInt(7)),
+                            "startSlot", start, "endSlot", start + r.nextInt(4));
+                }),
+                new StatementCase(RESERVATION + "isRangeBooked", r -> {
+                    int start = 18 + r.nextInt(24);
+                    return params("roomId", 1 + r.nextInt(roomCount), "date", today.plusDays(r.nextInt(7)),
+                            "startSlot", start, "endSlot", start + r.nextInt(4));
+                }),
+                new StatementCase(RESERVATION + "getReservationsByDate", r -> params("date", today.plusDays(r.nextInt(7)))),
+                new StatementCase(RESERVATION + "getTotalReservedSlotsByUserIdAndDate", r -> params(
+                        "userId", 1 + r.nextInt(userCount), "date", today.plusDays(r.nextInt(7)))),
+                new StatementCase(RESERVATION + "findByUserId", r -> params("userId", 1 + r.nextInt(userCount))),
+                new StatementCase(RESERVATION + "findById", r -> params("id", 1 + r.nextInt(reservationCount))),
+                new StatementCase(RESERVATION + "findAll", r -> null),
+                new StatementCase(RESERVATION + "getCurrentReservations", r -> null),
+                new StatementCase(RESERVATION + "findByDateRange", r -> params("from", today.minusDays(7), "to", today)),
+                new StatementCase(RESERVATION + "insertReservation", r -> newReservation(r)),
+                new StatementCase(RESERVATION + "updateCheckinTime", r -> params("id", 1 + r.nextInt(reservationCount))),
+                new StatementCase(RESERVATION + "findChangesByDate", r -> params(
+                        "date", today.plusDays(r.nextInt(7)), "since", 1L, "upTo", Long.MAX_VALUE)),
+                new StatementCase(RESERVATION + "currentVersion", r -> null),
+                new StatementCase(RESERVATION + "incrementVersion", r -> null),
+                new StatementCase(RESERVATION + "lockPendingVersions", r -> params("limit", 500)),
+                new StatementCase(RESERVATION + "assignVersion", r -> params(
+                        "ids", List.of(1 + r.nextInt(reservationCount)), "version", 2L)),
+                new StatementCase(RESERVATION + "updateStatus", r -> params(
+                        "id", 1 + r.nextInt(reservationCount), "status", "CHECKED_IN")),
+                new StatementCase(RESERVATION + "markNoShow", r -> params("id", 1 + r.nextInt(reservationCount))),
+                new StatementCase(RESERVATION + "deleteById", r -> params("id", 1 + r.nextInt(reservationCount))),
+                new StatementCase(RESERVATION + "findActiveByRoomAndRangeForUpdate", r -> params(
+                        "roomId", 1 + r.nextInt(roomCount), "from", today.plusDays(r.nextInt(7)), "to", today.plusDays(7),
+                        "startSlot", 0, "endSlot", 47)),
+                new StatementCase(RESERVATION + "cancelByIds", r -> params(
+                        "ids", List.of(1 + r.nextInt(reservationCount)), "deletedAt", today.atStartOfDay())),
+                new StatementCase(ROOMS + "getRooms", r -> null),
+                new StatementCase(SETTING + "findAll", r -> null),
+                new StatementCase(SETTING + "findByKey", r -> "DAILY_LIMIT_HOURS"),
+                new StatementCase(USER + "findById", r -> (long) (1 + r.nextInt(userCount))),
+                new StatementCase(USER + "findByEmail", r -> "user" + (1 + r.nextInt(userCount)) + "@hanyang.ac.kr"),
+                new StatementCase(USER + "findAll", r -> null)
+        );
+    }
+
+    /**
+     * 한 구문을 WARMUP + ITERATIONS 번 실행(쓰기는 매번 롤백)하고 EXPLAIN 결과와 함께 한 줄로 기록
+     */
+    private String run(EmbeddedDatabase db, StatementCase statementCase, List<String> flagged, int days) throws Exception {
+        MappedStatement mappedStatement = db.getSqlSessionFactory().getConfiguration().getMappedStatement(statementCase.id());
+        long[] micros = new long[ITERATIONS];
+        long rows = 0;
+        Object lastParameter = null;
+        try (SqlSession session = db.getSqlSessionFactory().openSession(false)) {
+            for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+                Object parameter = statementCase.parameter().apply(random);
+                long started = System.nanoTime();
+                long affected;
+                if (mappedStatement.getSqlCommandType() == SqlCommandType.SELECT) {
+                    affected = session.selectList(statementCase.id(), parameter).size();
+                } else {
+                    affected = session.update(statementCase.id(), parameter);
+                }
+                long elapsed = (System.nanoTime() - started) / 1_000;
+                session.rollback(true);
+                if (i >= WARMUP) {
+                    micros[i - WARMUP] = elapsed;
+                    rows += affected;
+                }
+                lastParameter = parameter;
+            }
+        }
+        Arrays.sort(micros);
+
+        List<String> plan = explain(db, mappedStatement, lastParameter);
+        boolean fullScan = plan.stream().anyMatch(step -> {
+            String[] parts = step.split(":");
+            return LARGE_TABLES.contains(parts[0]) && ("ALL".equals(parts[1]) || "index".equals(parts[1]));
+        });
+        String name = statementCase.id().substring(statementCase.id().lastIndexOf('.', statementCase.id().lastIndexOf('.') - 1) + 1);
+        if (fullScan) {
+            flagged.add(name + " @ " + days + " days: " + String.join(", ", plan));
+        }
+        return String.format("| %s | %d | %d | %.1f | %s | %s |", name,
+                micros[ITERATIONS / 2], micros[(int) (ITERATIONS * 0.95)], (double) rows / ITERATIONS,
+                String.join(", ", plan), fullScan ? "**YES**" : "");
+    }
+
+    /**
+     * @return "table:type:key:rows" 형태의 실행 계획 단계 목록
+     */
+    private List<String> explain(EmbeddedDatabase db, MappedStatement mappedStatement, Object parameter) throws Exception {
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        List<String> plan = new ArrayList<>();
+        try (Connection connection = db.getDataSource().getConnection();
+             PreparedStatement ps = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            ParameterHandler handler = new DefaultParameterHandler(mappedStatement, parameter, boundSql);
+            handler.setParameters(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    plan.add(rs.getString("table") + ":" + rs.getString("type") + ":"
+                            + rs.getString("key") + ":" + rs.getString("rows"));
+                }
+            }
+        }
+        return plan;
+    }
+
+    private void analyze(EmbeddedDatabase db) throws Exception {
+        try (Connection connection = db.getDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE reservations, users");
+        }
+    }
+
+    private Reservation newReservation(Random r) {
+        Reservation reservation = new Reservation();
+        reservation.setUserId(1 + r.nextInt(userCount));
+        reservation.setRoomId(1 + r.nextInt(roomCount));
+        reservation.setDate(today.plusDays(r.nextInt(7)));
+        reservation.setStartSlot(18);
+        reservation.setEndSlot(19);
+        reservation.setStatus("RESERVED");
+        reservation.setCheckinRequired(true);
+        return reservation;
+    }
+
+    private static Map<String, Object> params(Object... keyValues) {
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return params;
+    }
+}
@@ -0,0 +1,164 @@
+package kr.ac.hanyang.backend.benchmark;
+
+import kr.ac.hanyang.backend.config.GlobalExceptionHandler;
+import kr.ac.hanyang.backend.dto.ErrorResponse;
+import kr.ac.hanyang.backend.exception.ErrorCode;
+import kr.ac.hanyang.backend.exception.ReservationException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 예약 거절 경로 벤치마크 (DB 없음)
+ * 몰리는 시간대처럼 거절만 반복해 이전 방식과 현재 방식의 처리량/할당량을 비교한다.
+ * - legacy: String.format 메시지 + 스택 트레이스를 채우는 예외 + 요청마다 만드는 응답 본문
+ * - current: ReservationException.of(code) 공유 인스턴스 + GlobalExceptionHandler 의 미리 만든 본문
+ * 컨트롤러/프록시/필터 체인 깊이를 흉내 내려고 benchmark.stackDepth 만큼 호출을 쌓은 뒤 던진다.
+ * 실행: ./gradlew rejectionBenchmark [-Dbenchmark.threads=8 -Dbenchmark.stackDepth=120]
+ * 결과: build/reports/rejection-benchmark.md
+ */
+@Tag("benchmark")
+class RejectionBenchmark {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", Runtime.getRuntime().availableProcessors());
+    private static final int STACK_DEPTH = Integer.getInteger("benchmark.stackDepth", 120);
+    private static final long WARMUP_MS = Long.getLong("benchmark.warmupMs", 2000);
+    private static final long DURATION_MS = Long.getLong("benchmark.durationMs", 5000);
+
+    // 변경 전 ReservationException 과 같은 형태 (스택 트레이스 채움)
+    private static class LegacyReservationException extends RuntimeException {
+        LegacyReservationException(String message) {
+            super(message);
+        }
+    }
+
+    private record LegacyErrorResponse(String message) {
+    }
+
+    private record Result(String name, double opsPerSecond, double bytesPerOp) {
+    }
+
+    // 거절에는 DB 차단기를 쓰지 않음
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(null);
+
+    @Test
+    void compareRejectionPaths() throws Exception {
+        // 응답 형태 확인
+        ResponseEntity<ErrorResponse> response = currentRejection(STACK_DEPTH, 28);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("SLOT_TAKEN", response.getBody().getCode());
+
+        List<Result> results = new ArrayList<>();
+        results.add(run("legacy (format + stack trace)", slot -> legacyRejection(STACK_DEPTH, slot).getBody().message().length()));
+        results.add(run("current (shared stackless + preallocated body)", slot -> currentRejection(STACK_DEPTH, slot).getBody().getMessage().length()));
+
+        StringBuilder report = new StringBuilder("# Rejection path benchmark\n\n");
+        report.append("threads=").append(THREADS).append(", stackDepth=").append(STACK_DEPTH)
+                .append(", duration=").append(DURATION_MS).append(" ms\n\n");
+        report.append("| path | rejections/s | bytes allocated/op |\n|---|---|---|\n");
+        for (Result result : results) {
+            report.append(String.format("| %s | %.0f | %.0f |%n", result.name(), result.opsPerSecond(), result.bytesPerOp()));
+        }
+        report.append(String.format("%nspeedup: %.1fx%n", results.get(1).opsPerSecond() / results.get(0).opsPerSecond()));
+
+        Path out = Path.of("build", "reports", "rejection-benchmark.md");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, report, StandardCharsets.UTF_8);
+        System.out.println(report);
+    }
+
+    private ResponseEntity<LegacyErrorResponse> legacyRejection(int depth, int slot) {
+        try {
+            throwLegacy(depth, slot);
+            throw new AssertionError();
+        } catch (LegacyReservationException e) {
+            return new ResponseEntity<>(new LegacyErrorResponse(e.getMessage()), HttpStatus.CONFLICT);
+        }
+    }
+
+    private ResponseEntity<ErrorResponse> currentRejection(int depth, int slot) {
+        try {
+            throwCurrent(depth, slot);
+            throw new AssertionError();
+        } catch (ReservationException e) {
+            return handler.handleReservationException(e);
+        }
+    }
+
+    private static int throwLegacy(int depth, int slot) {
+        if (depth > 0) {
+            return throwLegacy(depth - 1, slot) + 1;
+        }
+        throw new LegacyReservationException("선택하신 시간 [" + String.format("%02d:%s", slot / 2, slot % 2 == 0 ? "00" : "30")
+                + "]는 이미 다른 사용자가 예약했습니다.");
+    }
+
+    private static int throwCurrent(int depth, int slot) {
+        if (depth > 0) {
+            return throwCurrent(depth - 1, slot) + 1;
+        }
+        throw ReservationException.of(ErrorCode.SLOT_TAKEN);
+    }
+
+    private Result run(String name, IntUnaryOperator rejection) throws InterruptedException {
+        measure(rejection, WARMUP_MS);
+        long[] totals = measure(rejection, DURATION_MS);
+        return new Result(name, totals[0] * 1000.0 / DURATION_MS, totals[0] > 0 ? (double) totals[1] / totals[0] : 0);
+    }
+
+    /**
+     * @return {거절 수, 할당 바이트}
+     */
+    private long[] measure(IntUnaryOperator rejection, long durationMs) throws InterruptedException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        AtomicLong operations = new AtomicLong();
+        AtomicLong allocated = new AtomicLong();
+        AtomicLong sink = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + durationMs * 1_000_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long before = threads.getCurrentThreadAllocatedBytes();
+                long count = 0;
+                long checksum = 0;
+                while (System.nanoTime() < deadline) {
+                    checksum += rejection.applyAsInt((int) (count % 48));
+                    count++;
+                }
+                allocated.addAndGet(threads.getCurrentThreadAllocatedBytes() - before);
+                operations.addAndGet(count);
+                sink.addAndGet(checksum);
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        // 결과를 쓰지 않으면 JIT 가 루프를 지울 수 있음
+        if (sink.get() == Long.MIN_VALUE) {
+            System.out.println(sink.get());
+        }
+        return new long[]{operations.get(), allocated.get()};
+    }
+}
@@ -0,0 +1,135 @@
+package kr.ac.hanyang.backend.benchmark;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * 임베디드 DB 에 현실적인 분포의 사용자/방/예약 데이터를 채우는 생성기
+ * - 방-날짜마다 운영 시간 안에서 이용률(utilization)만큼 1~4 슬롯짜리 예약을 겹치지 않게 배치
+ * - 과거 예약은 CHECKED_IN / CANCELLED(노쇼) / RESERVED(체크인 불필요) 로, 오늘 이후는 RESERVED 로 기록
+ * - 사용자별 하루 한도(DAILY_LIMIT_HOURS)는 고려하지 않음
+ * 모든 값은 -Dbenchmark.* 시스템 속성으로 바꿀 수 있다.
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[] ROOM_TYPES = {"SEMINAR", "STUDY", "LAB"};
+    private static final int BATCH_SIZE = 1000;
+
+    private final int users = Integer.getInteger("benchmark.users", 5000);
+    private final int rooms = Integer.getInteger("benchmark.rooms", 20);
+    private final double utilization = Double.parseDouble(System.getProperty("benchmark.utilization", "0.45"));
+    private final double checkedInRatio = Double.parseDouble(System.getProperty("benchmark.checkedInRatio", "0.70"));
+    private final double noShowRatio = Double.parseDouble(System.getProperty("benchmark.noShowRatio", "0.15"));
+    private final int openingSlot = Integer.getInteger("benchmark.openingHour", 9) * 2;
+    private final int closingSlot = Integer.getInteger("benchmark.closingHour", 21) * 2;
+    private final Random random = new Random(Long.getLong("benchmark.seed", 42L));
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getRooms() {
+        return rooms;
+    }
+
+    public void generateUsers(DataSource dataSource) throws SQLException {
+        String sql = "INSERT INTO users (email, name, department, provider, provider_id, role) VALUES (?, ?, ?, 'google', ?, 0)";
+        try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= users; i++) {
+                ps.setString(1, "user" + i + "@hanyang.ac.kr");
+                ps.setString(2, "사용자" + i);
+                ps.setString(3, "학과" + (i % 40));
+                ps.setString(4, "sub-" + i);
+                ps.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    public void generateRooms(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("INSERT INTO rooms (id, name, type) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= rooms; i++) {
+                ps.setInt(1, i);
+                ps.setString(2, (100 + i) + "호");
+                ps.setString(3, ROOM_TYPES[i % ROOM_TYPES.length]);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /**
+     * [from, to] 기간의 예약 생성
+     *
+     * @param today 이 날짜 이전은 지난 예약으로 취급
+     * @return 생성한 예약 수
+     */
+    public int generateReservations(DataSource dataSource, LocalDate from, LocalDate to, LocalDate today) throws SQLException {
+        String sql = "INSERT INTO reservations (user_id, room_id, date, start_slot, end_slot, status, checkin_time, checkin_required, created_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 1)";
+        int count = 0;
+        try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                boolean past = date.isBefore(today);
+                for (int room = 1; room <= rooms; room++) {
+                    int slot = openingSlot;
+                    while (slot < closingSlot) {
+                        if (random.nextDouble() >= utilization) {
+                            slot++;
+                            continue;
+                        }
+                        int endSlot = Math.min(slot + random.nextInt(4), closingSlot - 1);
+                        addReservation(ps, date, room, slot, endSlot, past);
+                        count++;
+                        if (count % BATCH_SIZE == 0) {
+                            ps.executeBatch();
+                        }
+                        slot = endSlot + 1;
+                    }
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+        return count;
+    }
+
+    private void addReservation(PreparedStatement ps, LocalDate date, int room, int startSlot, int endSlot, boolean past)
+            throws SQLException {
+        String status = "RESERVED";
+        Timestamp checkinTime = null;
+        boolean checkinRequired = true;
+        if (past) {
+            double roll = random.nextDouble();
+            if (roll < checkedInRatio) {
+                status = "CHECKED_IN";
+                checkinTime = Timestamp.valueOf(date.atTime(startSlot / 2, (startSlot % 2) * 30).plusMinutes(random.nextInt(15)));
+            } else if (roll < checkedInRatio + noShowRatio) {
+                status = "CANCELLED";
+            } else {
+                checkinRequired = false;
+            }
+        }
+        ps.setInt(1, 1 + random.nextInt(users));
+        ps.setInt(2, room);
+        ps.setDate(3, Date.valueOf(date));
+        ps.setInt(4, startSlot);
+        ps.setInt(5, endSlot);
+        ps.setString(6, status);
+        ps.setTimestamp(7, checkinTime);
+        ps.setBoolean(8, checkinRequired);
+        ps.setTimestamp(9, Timestamp.valueOf(date.minusDays(random.nextInt(7)).atTime(12, 0)));
+        ps.addBatch();
+    }
+}
@@ -0,0 +1,152 @@
+package kr.ac.hanyang.backend.datasource;
+
+import kr.ac.hanyang.backend.exception.DatabaseUnavailableException;
+import kr.ac.hanyang.backend.time.MutableClock;
+import kr.ac.hanyang.backend.time.SlotClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 차단기 상태 전이 (CLOSED → OPEN → HALF_OPEN → CLOSED), 시간은 주입한 시계로만 흐른다.
+ */
+class DatabaseCircuitBreakerTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_SECONDS = 10;
+
+    private MutableClock clock;
+    private DatabaseCircuitBreaker breaker;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-19T01:00:00Z"));
+        breaker = breaker(2000);
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresAndStopsCallingDatabase() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThrows(DataAccessResourceFailureException.class, () -> breaker.call(this::fail));
+        }
+
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowsWrites());
+        DatabaseUnavailableException rejected = assertThrows(DatabaseUnavailableException.class,
+                () -> breaker.call(this::succeed));
+        assertEquals(OPEN_SECONDS, rejected.getRetryAfterSeconds());
+        assertEquals(FAILURE_THRESHOLD, calls.get());
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        for (int i = 0; i < FAILURE_THRESHOLD - 1; i++) {
+            assertThrows(DataAccessResourceFailureException.class, () -> breaker.call(this::fail));
+        }
+        breaker.call(this::succeed);
+        assertThrows(DataAccessResourceFailureException.class, () -> breaker.call(this::fail));
+
+        assertEquals(DatabaseCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void nonDatabaseExceptionsDoNotOpen() {
+        for (int i = 0; i < FAILURE_THRESHOLD * 2; i++) {
+            assertThrows(IllegalArgumentException.class, () -> breaker.call(() -> {
+                throw new IllegalArgumentException("policy");
+            }));
+        }
+
+        assertEquals(DatabaseCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpenProbeSuccessCloses() {
+        open();
+        clock.advance(Duration.ofSeconds(OPEN_SECONDS - 1));
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, breaker.retryAfterSeconds());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(DatabaseCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        assertEquals("ok", breaker.call(this::succeed));
+        assertEquals(DatabaseCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowsWrites());
+    }
+
+    @Test
+    void halfOpenProbeFailureReopensForAnotherInterval() {
+        open();
+        clock.advance(Duration.ofSeconds(OPEN_SECONDS));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> breaker.call(this::fail));
+
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(OPEN_SECONDS, breaker.retryAfterSeconds());
+    }
+
+    @Test
+    void halfOpenLetsOnlyOneProbeThrough() {
+        open();
+        clock.advance(Duration.ofSeconds(OPEN_SECONDS));
+
+        String result = breaker.call(() -> {
+            // 시험 호출이 끝나기 전에 들어온 호출은 DB 를 부르지 않고 거절
+            assertThrows(DatabaseUnavailableException.class, () -> breaker.call(this::succeed));
+            return "probe";
+        });
+
+        assertEquals("probe", result);
+        assertEquals(DatabaseCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void slowCallsCountAsFailures() {
+        breaker = breaker(0);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            breaker.call(this::succeed);
+        }
+
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private void open() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThrows(DataAccessResourceFailureException.class, () -> breaker.call(this::fail));
+        }
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private String succeed() {
+        calls.incrementAndGet();
+        return "ok";
+    }
+
+    private String fail() {
+        calls.incrementAndGet();
+        throw new DataAccessResourceFailureException("connection refused");
+    }
+
+    private DatabaseCircuitBreaker breaker(long slowCallMs) {
+        DatabaseCircuitBreaker breaker = new DatabaseCircuitBreaker(null, new SlotClock(clock));
+        ReflectionTestUtils.setField(breaker, "enabled", true);
+        ReflectionTestUtils.setField(breaker, "failureThreshold", FAILURE_THRESHOLD);
+        ReflectionTestUtils.setField(breaker, "slowCallMs", slowCallMs);
+        ReflectionTestUtils.setField(breaker, "openSeconds", OPEN_SECONDS);
+        ReflectionTestUtils.setField(breaker, "probeTimeoutSeconds", 2);
+        return breaker;
+    }
+}
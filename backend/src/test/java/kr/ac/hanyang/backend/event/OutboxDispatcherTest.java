@@ -0,0 +1,195 @@
+package kr.ac.hanyang.backend.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.OutboxConsumer;
+import kr.ac.hanyang.backend.dto.OutboxRecord;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.mapper.OutboxMapper;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * outbox 디스패처: 순번 부여, 구독자별 위치 전진, 실패 시 그 구독자만 멈추고 백오프, 최대 시도 후 건너뛰기
+ */
+class OutboxDispatcherTest {
+
+    private static final String SHARD = "default";
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 1000;
+    private static final long MAX_RETRY_BACKOFF_MS = 60000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private OutboxMapper outboxMapper;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxMapper = mock(OutboxMapper.class);
+        ShardRouter shardRouter = new ShardRouter(mock(ObjectProvider.class), mock(ObjectProvider.class),
+                mock(ReservationMapper.class));
+        dispatcher = new OutboxDispatcher(outboxMapper, objectMapper, new OutboxSignal(), List.of(), shardRouter,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(dispatcher, "retryBackoffMs", RETRY_BACKOFF_MS);
+        ReflectionTestUtils.setField(dispatcher, "maxRetryBackoffMs", MAX_RETRY_BACKOFF_MS);
+    }
+
+    @Test
+    void sequencesUnsequencedEventsAfterLastSeq() {
+        when(outboxMapper.lockLastSeq()).thenReturn(5L);
+        when(outboxMapper.lockUnsequenced(BATCH_SIZE)).thenReturn(List.of(20L, 21L, 23L));
+
+        assertEquals(3, dispatcher.sequence());
+
+        verify(outboxMapper).assignSeq(List.of(20L, 21L, 23L), 5L);
+        verify(outboxMapper).updateLastSeq(8L);
+    }
+
+    @Test
+    void sequenceWithoutNewEventsKeepsLastSeq() {
+        when(outboxMapper.lockLastSeq()).thenReturn(5L);
+        when(outboxMapper.lockUnsequenced(BATCH_SIZE)).thenReturn(List.of());
+
+        assertEquals(0, dispatcher.sequence());
+
+        verify(outboxMapper, never()).updateLastSeq(anyLong());
+    }
+
+    @Test
+    void deliversInSeqOrderAndAdvancesPosition() throws Exception {
+        position("node-1/Cache", 10, 0, true);
+        when(outboxMapper.findAfter(10L, BATCH_SIZE)).thenReturn(List.of(record(11), record(12)));
+        List<Long> received = new ArrayList<>();
+
+        int read = dispatcher.deliver(SHARD, "node-1/Cache", event -> received.add(event.id()));
+
+        assertEquals(2, read);
+        assertEquals(List.of(111L, 112L), received);
+        verify(outboxMapper).ensureConsumer("node-1/Cache");
+        verify(outboxMapper).advanceConsumer("node-1/Cache", 12L);
+    }
+
+    @Test
+    void consumerWaitingForBackoffIsSkipped() {
+        position("node-1/Cache", 10, 1, false);
+
+        assertEquals(0, dispatcher.deliver(SHARD, "node-1/Cache", event -> {
+            throw new AssertionError("must not deliver");
+        }));
+
+        verify(outboxMapper, never()).findAfter(anyLong(), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void failureStopsOnlyThatConsumerAtFailedEvent() {
+        position("node-1/Failing", 10, 0, true);
+        position("node-1/Healthy", 10, 0, true);
+        when(outboxMapper.findAfter(10L, BATCH_SIZE)).thenReturn(List.of(record(11), record(12), record(13)));
+        List<Long> healthy = new ArrayList<>();
+
+        int failingRead = dispatcher.deliver(SHARD, "node-1/Failing", event -> {
+            if (event.id() == 112L) {
+                throw new IllegalStateException("subscriber down");
+            }
+        });
+        int healthyRead = dispatcher.deliver(SHARD, "node-1/Healthy", event -> healthy.add(event.id()));
+
+        // 실패한 구독자는 실패 직전까지의 위치로 백오프, 다른 구독자는 끝까지 받는다
+        assertEquals(0, failingRead);
+        verify(outboxMapper).recordConsumerFailure("node-1/Failing", 11L, RETRY_BACKOFF_MS, MAX_RETRY_BACKOFF_MS);
+        verify(outboxMapper, never()).advanceConsumer(eq("node-1/Failing"), anyLong());
+        assertEquals(3, healthyRead);
+        assertEquals(List.of(111L, 112L, 113L), healthy);
+        verify(outboxMapper).advanceConsumer("node-1/Healthy", 13L);
+    }
+
+    @Test
+    void eventIsSkippedAfterMaxAttempts() {
+        position("Waitlist", 10, MAX_ATTEMPTS - 1, true);
+        when(outboxMapper.findAfter(10L, BATCH_SIZE)).thenReturn(List.of(record(11), record(12)));
+        List<Long> received = new ArrayList<>();
+
+        int read = dispatcher.deliver(SHARD, "Waitlist", event -> {
+            if (event.id() == 111L) {
+                throw new IllegalStateException("poison event");
+            }
+            received.add(event.id());
+        });
+
+        assertEquals(2, read);
+        assertEquals(List.of(112L), received);
+        verify(outboxMapper, never()).recordConsumerFailure(anyString(), anyLong(), anyLong(), anyLong());
+        verify(outboxMapper).advanceConsumer("Waitlist", 12L);
+    }
+
+    @Test
+    void ensuresConsumerPositionOncePerShard() {
+        position("Waitlist", 10, 0, true);
+        when(outboxMapper.findAfter(10L, BATCH_SIZE)).thenReturn(List.of());
+
+        dispatcher.deliver(SHARD, "Waitlist", event -> {
+        });
+        dispatcher.deliver(SHARD, "Waitlist", event -> {
+        });
+
+        verify(outboxMapper, times(1)).ensureConsumer("Waitlist");
+        verify(outboxMapper, never()).advanceConsumer(anyString(), anyLong());
+    }
+
+    private void position(String consumer, long lastSeq, int attempts, boolean ready) {
+        OutboxConsumer position = new OutboxConsumer();
+        position.setConsumer(consumer);
+        position.setLastSeq(lastSeq);
+        position.setAttempts(attempts);
+        position.setReady(ready);
+        when(outboxMapper.findConsumer(consumer)).thenReturn(position);
+    }
+
+    private OutboxRecord record(long seq) {
+        Reservation reservation = new Reservation();
+        reservation.setId(7);
+        reservation.setUserId(3);
+        reservation.setRoomId(12);
+        reservation.setDate(LocalDate.of(2026, 10, 20));
+        reservation.setStartSlot(20);
+        reservation.setEndSlot(23);
+        reservation.setStatus("CANCELLED");
+
+        OutboxRecord record = new OutboxRecord();
+        record.setId(100 + seq);
+        record.setReservationId(reservation.getId());
+        record.setEventType(ReservationEventType.CANCELLED.name());
+        record.setSeq(seq);
+        record.setCreatedAt(LocalDateTime.of(2026, 10, 19, 10, 0));
+        try {
+            record.setPayload(objectMapper.writeValueAsString(reservation));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return record;
+    }
+}
@@ -0,0 +1,190 @@
+package kr.ac.hanyang.backend.journal;
+
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.ReservationEvent;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세그먼트 끝이 손상된 저널의 복원: 유효한 레코드까지만 읽고, 다음 기록은 손상된 자리부터 덮어쓴다.
+ * DB 대조 시 tombstone 행은 취소로 본다.
+ */
+class ReservationJournalTest {
+
+    private static final int RESERVATION_ID = 7;
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 20);
+
+    @TempDir
+    Path dir;
+
+    private ReservationJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void partialFinalRecordIsIgnoredAndOverwritten() throws IOException {
+        ByteBuffer segment = records(1, 2);
+        // 세 번째 레코드를 쓰다 끊긴 경우: 앞 절반만 파일에 남음
+        byte[] torn = new byte[JournalRecord.SIZE / 2];
+        records(3).flip().get(torn);
+        writeSegment(segment, torn);
+
+        openJournal();
+        assertEquals(List.of(1L, 2L), eventIds(journal.history(RESERVATION_ID)));
+
+        append(4);
+        assertEquals(List.of(1L, 2L, 4L), eventIds(journal.history(RESERVATION_ID)));
+        assertEquals(4L, readAt(2 * JournalRecord.SIZE).eventId());
+    }
+
+    @Test
+    void crcMismatchStopsReadingAtCorruptedRecord() throws IOException {
+        ByteBuffer segment = records(1, 2, 3);
+        byte[] bytes = segment.array();
+        // 두 번째 레코드의 roomId 한 바이트만 바꿔 CRC 가 맞지 않게 한다.
+        bytes[JournalRecord.SIZE + 20] ^= 0x01;
+        writeSegment(segment);
+
+        assertNull(JournalRecord.readFrom(ByteBuffer.wrap(bytes, JournalRecord.SIZE, JournalRecord.SIZE).slice()));
+
+        openJournal();
+        assertEquals(List.of(1L), eventIds(journal.history(RESERVATION_ID)));
+
+        append(4);
+        assertEquals(List.of(1L, 4L), eventIds(journal.history(RESERVATION_ID)));
+        assertEquals(4L, readAt(JournalRecord.SIZE).eventId());
+    }
+
+    @Test
+    void zeroFilledTailIsTreatedAsUnwritten() throws IOException {
+        ByteBuffer segment = records(1, 2);
+        writeSegment(segment, new byte[JournalRecord.SIZE * 10]);
+
+        assertNull(JournalRecord.readFrom(ByteBuffer.allocate(JournalRecord.SIZE)));
+
+        openJournal();
+        assertEquals(List.of(1L, 2L), eventIds(journal.history(RESERVATION_ID)));
+
+        append(3);
+        assertEquals(List.of(1L, 2L, 3L), eventIds(journal.history(RESERVATION_ID)));
+        assertEquals(3L, readAt(2 * JournalRecord.SIZE).eventId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcileTreatsTombstonedRowAsCancelled() throws IOException {
+        Reservation tombstone = reservation();
+        tombstone.setStatus("CANCELLED");
+        tombstone.setDeletedAt(LocalDateTime.of(2026, 10, 19, 10, 5));
+        // DB 를 읽는 사이 취소 전의 CREATED 가 늦게 기록된 경우
+        ReservationMapper mapper = mock(ReservationMapper.class);
+        when(mapper.findByDateRange(any(), any())).thenAnswer(invocation -> {
+            journal.onReservationEvent(new ReservationEvent(1, ReservationEventType.CREATED, reservation(),
+                    LocalDateTime.of(2026, 10, 19, 10, 0)));
+            return List.of(tombstone);
+        });
+        openJournal(mapper, new ShardRouter(mock(ObjectProvider.class), mock(ObjectProvider.class), mapper));
+
+        journal.reconcile();
+
+        assertEquals(List.of(), journal.activeOn(DATE));
+    }
+
+    private void openJournal() {
+        openJournal(null, null);
+    }
+
+    private void openJournal(ReservationMapper mapper, ShardRouter shardRouter) {
+        SlotClock slotClock = new SlotClock(Clock.fixed(Instant.parse("2026-10-19T01:00:00Z"), SlotClock.ZONE));
+        journal = new ReservationJournal(mapper, shardRouter, slotClock);
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "directory", dir.toString());
+        ReflectionTestUtils.setField(journal, "segmentSizeMb", 1);
+        ReflectionTestUtils.setField(journal, "retentionDays", 90);
+        journal.init();
+    }
+
+    private void append(long eventId) {
+        Reservation reservation = reservation();
+        reservation.setStatus("CANCELLED");
+        journal.onReservationEvent(new ReservationEvent(eventId, ReservationEventType.CANCELLED, reservation,
+                LocalDateTime.of(2026, 10, 19, 10, 0)));
+    }
+
+    private JournalRecord readAt(int offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segmentPath()));
+        buffer.position(offset);
+        return JournalRecord.readFrom(buffer);
+    }
+
+    private static ByteBuffer records(long... eventIds) {
+        ByteBuffer buffer = ByteBuffer.allocate(eventIds.length * JournalRecord.SIZE);
+        for (long eventId : eventIds) {
+            record(eventId).writeTo(buffer);
+        }
+        return buffer;
+    }
+
+    private void writeSegment(ByteBuffer records, byte[]... tail) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(records.capacity() + Arrays.stream(tail).mapToInt(bytes -> bytes.length).sum());
+        out.put(records.array());
+        for (byte[] bytes : tail) {
+            out.put(bytes);
+        }
+        Files.write(segmentPath(), out.array());
+    }
+
+    private Path segmentPath() {
+        return dir.resolve("segment-000000.journal");
+    }
+
+    private static JournalRecord record(long eventId) {
+        return JournalRecord.of(eventId, eventId == 1 ? ReservationEventType.CREATED : ReservationEventType.CHECKED_IN,
+                reservation());
+    }
+
+    private static Reservation reservation() {
+        Reservation reservation = new Reservation();
+        reservation.setId(RESERVATION_ID);
+        reservation.setUserId(3);
+        reservation.setRoomId(12);
+        reservation.setDate(DATE);
+        reservation.setStartSlot(20);
+        reservation.setEndSlot(23);
+        reservation.setStatus("RESERVED");
+        return reservation;
+    }
+
+    private static List<Long> eventIds(List<JournalRecord> records) {
+        return records.stream().map(JournalRecord::eventId).toList();
+    }
+}
@@ -0,0 +1,153 @@
+package kr.ac.hanyang.backend.mapper;
+
+import kr.ac.hanyang.backend.benchmark.EmbeddedDatabase;
+import kr.ac.hanyang.backend.dto.Reservation;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 예약 구간 잠금(isRangeBookedForUpdate)의 동시성 (임베디드 MariaDB, 예약 트랜잭션과 같은 READ COMMITTED)
+ * - 다른 트랜잭션이 쓰는 중인 겹치는 예약이 있으면 커밋/롤백까지 기다린 뒤 그 결과로 판단한다.
+ * - 구간 양 끝 슬롯만 겹쳐도 겹침으로 잠근다.
+ * 실행: ./gradlew bookingLockTest
+ */
+@Tag("benchmark")
+class BookingLockConcurrencyTest {
+
+    private static final int ROOM_ID = 1;
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 20);
+    private static final long BLOCKED_MS = 500;
+
+    private static EmbeddedDatabase database;
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        database = new EmbeddedDatabase("booking_lock");
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        executor.shutdownNow();
+        database.close();
+    }
+
+    @BeforeEach
+    void clearReservations() throws Exception {
+        try (Connection connection = database.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM reservations");
+        }
+    }
+
+    @Test
+    void waitsForUncommittedOverlappingBookingAndThenRejects() throws Exception {
+        try (SqlSession first = open(); SqlSession second = open()) {
+            first.getMapper(ReservationMapper.class).insertReservation(reservation(20, 23));
+
+            Future<Integer> lock = executor.submit(() -> lockRange(second, 22, 25));
+            assertBlocked(lock);
+
+            first.commit();
+            assertEquals(1, lock.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void waitsForUncommittedCancellationAndThenAllows() throws Exception {
+        int id = insertCommitted(20, 23);
+        try (SqlSession first = open(); SqlSession second = open()) {
+            assertEquals(1, first.getMapper(ReservationMapper.class).deleteById(id));
+
+            Future<Integer> lock = executor.submit(() -> lockRange(second, 20, 23));
+            assertBlocked(lock);
+
+            first.commit();
+            assertNull(lock.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void rolledBackBookingDoesNotBlockAfterRollback() throws Exception {
+        try (SqlSession first = open(); SqlSession second = open()) {
+            first.getMapper(ReservationMapper.class).insertReservation(reservation(20, 23));
+
+            Future<Integer> lock = executor.submit(() -> lockRange(second, 18, 20));
+            assertBlocked(lock);
+
+            first.rollback();
+            assertNull(lock.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void endpointsAndInnerRangesOverlap() throws Exception {
+        insertCommitted(21, 21);
+        insertCommitted(30, 33);
+        try (SqlSession session = open()) {
+            // 요청 구간 안쪽의 짧은 예약
+            assertEquals(1, lockRange(session, 20, 23));
+            // 양 끝 슬롯만 겹침
+            assertEquals(1, lockRange(session, 26, 30));
+            assertEquals(1, lockRange(session, 33, 35));
+            // 맞닿기만 하고 겹치지 않음
+            assertNull(lockRange(session, 22, 29));
+            assertNull(lockRange(session, 34, 40));
+            session.rollback();
+        }
+    }
+
+    private static SqlSession open() {
+        return database.getSqlSessionFactory().openSession(TransactionIsolationLevel.READ_COMMITTED);
+    }
+
+    private static Integer lockRange(SqlSession session, int startSlot, int endSlot) {
+        return session.getMapper(ReservationMapper.class).isRangeBookedForUpdate(ROOM_ID, DATE, startSlot, endSlot);
+    }
+
+    private static int insertCommitted(int startSlot, int endSlot) {
+        try (SqlSession session = open()) {
+            Reservation reservation = reservation(startSlot, endSlot);
+            session.getMapper(ReservationMapper.class).insertReservation(reservation);
+            session.commit();
+            return reservation.getId();
+        }
+    }
+
+    private static void assertBlocked(Future<?> future) {
+        assertThrows(TimeoutException.class, () -> future.get(BLOCKED_MS, TimeUnit.MILLISECONDS));
+        assertFalse(future.isDone());
+    }
+
+    private static Reservation reservation(int startSlot, int endSlot) {
+        Reservation reservation = new Reservation();
+        reservation.setUserId(1);
+        reservation.setRoomId(ROOM_ID);
+        reservation.setDate(DATE);
+        reservation.setStartSlot(startSlot);
+        reservation.setEndSlot(endSlot);
+        reservation.setStatus("RESERVED");
+        reservation.setCheckinRequired(true);
+        return reservation;
+    }
+}
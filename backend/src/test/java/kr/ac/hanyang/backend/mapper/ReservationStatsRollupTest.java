@@ -0,0 +1,172 @@
+package kr.ac.hanyang.backend.mapper;
+
+import kr.ac.hanyang.backend.benchmark.EmbeddedDatabase;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.ReservationStats;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 통계 롤업의 누적 압축과 잠금 (임베디드 MariaDB)
+ * - 전체 기간 조회 = 압축한 누적 + 압축 이후의 시간대 롤업
+ * - 압축 중에는 지난 날짜의 늦은 변경이 압축 위치를 읽지 못하고 기다린다.
+ * - 백필 구간(REPEATABLE READ)이 잠근 기간에는 예약 추가(READ COMMITTED)가 구간 커밋까지 기다렸다가 증분을 더한다.
+ * 실행: ./gradlew statsRollupTest
+ */
+@Tag("benchmark")
+class ReservationStatsRollupTest {
+
+    private static final LocalDate OLD = LocalDate.of(2026, 10, 1);
+    private static final LocalDate RECENT = LocalDate.of(2026, 10, 18);
+    private static final LocalDate EPOCH = LocalDate.of(1970, 1, 1);
+    private static final long BLOCKED_MS = 500;
+
+    private static EmbeddedDatabase database;
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        database = new EmbeddedDatabase("stats_rollup");
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        executor.shutdownNow();
+        database.close();
+    }
+
+    @BeforeEach
+    void clearRollups() throws Exception {
+        try (Connection connection = database.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM reservations");
+            statement.execute("DELETE FROM reservation_stats_hourly");
+            statement.execute("DELETE FROM reservation_stats_total");
+            statement.execute("UPDATE reservation_stats_compaction SET compacted_through = '1970-01-01'");
+        }
+    }
+
+    @Test
+    void totalsCombineCompactedAndOpenDays() {
+        try (SqlSession session = open(TransactionIsolationLevel.READ_COMMITTED)) {
+            ReservationStatsMapper mapper = session.getMapper(ReservationStatsMapper.class);
+            mapper.upsertHourly(List.of(row(OLD, 1, 9, 2), row(OLD, 1, 10, 1), row(RECENT, 1, 9, 3)));
+            session.commit();
+
+            assertEquals(6, bookedSlots(mapper.findTotals()));
+
+            // 누적 2행(10/1의 9시, 10시) + 10/18 시간대 롤업 1행
+            compact(session, OLD);
+            assertEquals(6, bookedSlots(mapper.findTotals()));
+            assertEquals(3, mapper.findTotals().size());
+
+            // 이미 있는 누적 행에 더하기
+            compact(session, RECENT);
+            assertEquals(6, bookedSlots(mapper.findTotals()));
+            assertEquals(2, mapper.findTotals().size());
+        }
+    }
+
+    @Test
+    void lateChangeWaitsForCompaction() throws Exception {
+        try (SqlSession compaction = open(TransactionIsolationLevel.READ_COMMITTED);
+             SqlSession late = open(TransactionIsolationLevel.READ_COMMITTED)) {
+            ReservationStatsMapper mapper = compaction.getMapper(ReservationStatsMapper.class);
+            assertEquals(EPOCH, mapper.lockCompactedThrough());
+            mapper.updateCompactedThrough(OLD);
+
+            Future<LocalDate> read = executor.submit(
+                    () -> late.getMapper(ReservationStatsMapper.class).findCompactedThroughForShare());
+            assertBlocked(read);
+
+            compaction.commit();
+            assertEquals(OLD, read.get(10, TimeUnit.SECONDS));
+            late.rollback();
+        }
+    }
+
+    @Test
+    void backfillChunkBlocksBookingsOnItsDates() throws Exception {
+        try (SqlSession backfill = open(TransactionIsolationLevel.REPEATABLE_READ);
+             SqlSession booking = open(TransactionIsolationLevel.READ_COMMITTED)) {
+            // 아직 예약이 없는 날짜도 갭 잠금으로 막는다
+            assertEquals(0, backfill.getMapper(ReservationMapper.class).findByDateRangeForUpdate(RECENT, RECENT).size());
+            backfill.getMapper(ReservationStatsMapper.class).deleteHourlyBetween(RECENT, RECENT);
+
+            Future<?> book = executor.submit(() -> {
+                booking.getMapper(ReservationMapper.class).insertReservation(reservation(RECENT, 18, 19));
+                booking.getMapper(ReservationStatsMapper.class).upsertHourly(List.of(row(RECENT, 1, 9, 2)));
+            });
+            assertBlocked(book);
+
+            backfill.getMapper(ReservationStatsMapper.class).upsertHourly(List.of(row(RECENT, 1, 9, 4)));
+            backfill.commit();
+            book.get(10, TimeUnit.SECONDS);
+            booking.commit();
+
+            assertEquals(6, bookedSlots(backfill.getMapper(ReservationStatsMapper.class).findTotals()));
+        }
+    }
+
+    private static void compact(SqlSession session, LocalDate through) {
+        ReservationStatsMapper mapper = session.getMapper(ReservationStatsMapper.class);
+        LocalDate compactedThrough = mapper.lockCompactedThrough();
+        mapper.compactTotals(compactedThrough, through);
+        mapper.updateCompactedThrough(through);
+        session.commit();
+    }
+
+    private static SqlSession open(TransactionIsolationLevel level) {
+        return database.getSqlSessionFactory().openSession(level);
+    }
+
+    private static long bookedSlots(List<ReservationStats> rows) {
+        return rows.stream().mapToLong(ReservationStats::getBookedSlots).sum();
+    }
+
+    private static void assertBlocked(Future<?> future) {
+        assertThrows(TimeoutException.class, () -> future.get(BLOCKED_MS, TimeUnit.MILLISECONDS));
+        assertFalse(future.isDone());
+    }
+
+    private static Reservation reservation(LocalDate date, int startSlot, int endSlot) {
+        Reservation reservation = new Reservation();
+        reservation.setUserId(1);
+        reservation.setRoomId(1);
+        reservation.setDate(date);
+        reservation.setStartSlot(startSlot);
+        reservation.setEndSlot(endSlot);
+        reservation.setStatus("RESERVED");
+        reservation.setCheckinRequired(true);
+        return reservation;
+    }
+
+    private static ReservationStats row(LocalDate date, int roomId, int hourOfDay, int bookedSlots) {
+        ReservationStats row = new ReservationStats();
+        row.setStatDate(date);
+        row.setRoomId(roomId);
+        row.setHourOfDay(hourOfDay);
+        row.setBookedSlots(bookedSlots);
+        return row;
+    }
+}
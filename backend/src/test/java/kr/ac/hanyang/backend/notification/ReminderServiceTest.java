@@ -0,0 +1,125 @@
+package kr.ac.hanyang.backend.notification;
+
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.ReservationEvent;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.MutableClock;
+import kr.ac.hanyang.backend.time.SlotClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림 큐 재구성: DB 에서 읽고, 읽는 동안 받은 이벤트를 새 큐에 다시 적용
+ */
+class ReminderServiceTest {
+
+    // 2026-10-19 10:00 (Asia/Seoul)
+    private static final Instant NOW = Instant.parse("2026-10-19T01:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    private final List<Notification> delivered = new ArrayList<>();
+    private ReservationMapper mapper;
+    private MutableClock clock;
+    private ReminderService reminderService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mapper = mock(ReservationMapper.class);
+        when(mapper.getReservationsByDate(any())).thenReturn(List.of());
+        clock = new MutableClock(NOW);
+        reminderService = new ReminderService(mapper,
+                new ShardRouter(mock(ObjectProvider.class), mock(ObjectProvider.class), mapper),
+                delivered::addAll, new SlotClock(clock));
+        ReflectionTestUtils.setField(reminderService, "enabled", true);
+        ReflectionTestUtils.setField(reminderService, "reminderMinutes", 10);
+        ReflectionTestUtils.setField(reminderService, "deadlineWarningMinutes", 5);
+        ReflectionTestUtils.setField(reminderService, "batchSize", 100);
+    }
+
+    @Test
+    void schedulesReminderAndDeadlineFromDatabase() {
+        when(mapper.getReservationsByDate(TODAY)).thenReturn(List.of(reservation(1, 24)));
+
+        reminderService.rebuild();
+
+        assertEquals(2, reminderService.pendingCount());
+        // 12:00 시작 → 11:50 안내, 12:10 체크인 마감 임박
+        clock.advance(Duration.ofMinutes(110));
+        assertEquals(1, reminderService.dispatchDue());
+        assertEquals(NotificationType.REMINDER, delivered.get(0).type());
+        clock.advance(Duration.ofMinutes(20));
+        assertEquals(1, reminderService.dispatchDue());
+        assertEquals(NotificationType.CHECKIN_DEADLINE, delivered.get(1).type());
+    }
+
+    @Test
+    void cancellationReceivedWhileReadingIsReapplied() {
+        Reservation reservation = reservation(1, 24);
+        when(mapper.getReservationsByDate(TODAY)).thenAnswer(invocation -> {
+            // 읽기 전에 취소가 커밋되고 이벤트가 먼저 도착했지만, 읽은 결과는 취소 전 상태
+            reminderService.onReservationEvent(event(ReservationEventType.CANCELLED, reservation));
+            return List.of(reservation(1, 24));
+        });
+
+        reminderService.rebuild();
+
+        assertEquals(0, reminderService.pendingCount());
+    }
+
+    @Test
+    void creationReceivedWhileReadingIsReapplied() {
+        when(mapper.getReservationsByDate(TODAY)).thenAnswer(invocation -> {
+            reminderService.onReservationEvent(event(ReservationEventType.CREATED, reservation(2, 26)));
+            return List.of();
+        });
+
+        reminderService.rebuild();
+
+        assertEquals(2, reminderService.pendingCount());
+    }
+
+    @Test
+    void eventsAfterRebuildAreNotReplayedByNextRebuild() {
+        reminderService.onReservationEvent(event(ReservationEventType.CREATED, reservation(3, 28)));
+        assertEquals(2, reminderService.pendingCount());
+
+        // 다음 재구성은 DB 기준 (이벤트 뒤 롤백/정리된 예약은 남지 않는다)
+        reminderService.rebuild();
+
+        assertEquals(0, reminderService.pendingCount());
+    }
+
+    private static ReservationEvent event(ReservationEventType type, Reservation reservation) {
+        return new ReservationEvent(reservation.getId(), type, reservation, LocalDateTime.of(2026, 10, 19, 10, 0));
+    }
+
+    private static Reservation reservation(int id, int startSlot) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setUserId(3);
+        reservation.setRoomId(12);
+        reservation.setDate(TODAY);
+        reservation.setStartSlot(startSlot);
+        reservation.setEndSlot(startSlot + 1);
+        reservation.setStatus("RESERVED");
+        reservation.setCheckinRequired(true);
+        return reservation;
+    }
+}
@@ -0,0 +1,198 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.ReservationEvent;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.MutableClock;
+import kr.ac.hanyang.backend.time.SlotClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 날짜별 예약 캐시 조회: 캐시 적중/무효화, DB 장애 시 마지막 정상 결과(stale) 반환
+ */
+class ReservationDayCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T01:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+    private static final long TTL_SECONDS = 60;
+
+    private Function<LocalDate, List<Reservation>> database;
+    private ReservationMapper mapper;
+    private MutableClock clock;
+    private DatabaseCircuitBreaker circuitBreaker;
+    private ReservationDayCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        database = date -> List.of(reservation(1, date));
+        clock = new MutableClock(NOW);
+        SlotClock slotClock = new SlotClock(clock);
+        mapper = mock(ReservationMapper.class);
+        when(mapper.getReservationsByDate(any())).thenAnswer(invocation -> database.apply(invocation.getArgument(0)));
+        circuitBreaker = new DatabaseCircuitBreaker(null, slotClock);
+        ReflectionTestUtils.setField(circuitBreaker, "enabled", true);
+        ReflectionTestUtils.setField(circuitBreaker, "failureThreshold", 1);
+        ReflectionTestUtils.setField(circuitBreaker, "slowCallMs", 2000L);
+        ReflectionTestUtils.setField(circuitBreaker, "openSeconds", 10L);
+        cache = new ReservationDayCache(mapper, slotClock, circuitBreaker,
+                new ShardRouter(mock(ObjectProvider.class), mock(ObjectProvider.class), mapper),
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(cache, "ttlSeconds", TTL_SECONDS);
+    }
+
+    @Test
+    void cachesDayUntilReservationEvent() {
+        List<Reservation> first = cache.get(TODAY);
+        assertSame(first, cache.get(TODAY));
+        assertQueries(1, TODAY);
+
+        cache.onReservationEvent(event(TODAY));
+        cache.get(TODAY);
+        assertQueries(2, TODAY);
+    }
+
+    @Test
+    void reloadsDayAfterTtlWithoutEvent() {
+        cache.get(TODAY);
+        clock.advance(Duration.ofSeconds(TTL_SECONDS - 1));
+        cache.get(TODAY);
+        assertQueries(1, TODAY);
+
+        // 이벤트를 놓쳐도 유지 시간이 지나면 다시 읽는다
+        database = date -> List.of(reservation(1, date), reservation(2, date));
+        clock.advance(Duration.ofSeconds(1));
+
+        assertEquals(2, cache.get(TODAY).size());
+        assertQueries(2, TODAY);
+    }
+
+    @Test
+    void servesStaleWhenReloadAfterTtlFails() {
+        List<Reservation> loaded = cache.get(TODAY);
+        database = date -> {
+            throw new DataAccessResourceFailureException("connection refused");
+        };
+        clock.advance(Duration.ofSeconds(TTL_SECONDS));
+
+        ReservationDayCache.DayView view = cache.read(TODAY);
+
+        assertTrue(view.stale());
+        assertEquals(loaded, view.reservations());
+    }
+
+    @Test
+    void doesNotCacheResultInvalidatedWhileLoading() {
+        database = date -> {
+            // 조회 도중 커밋된 변경
+            cache.onReservationEvent(event(date));
+            return List.of(reservation(1, date));
+        };
+        cache.get(TODAY);
+        cache.get(TODAY);
+
+        assertQueries(2, TODAY);
+    }
+
+    @Test
+    void datesOutsideWindowAreNotCached() {
+        LocalDate later = TODAY.plusDays(ReservationDayCache.WINDOW_DAYS);
+        cache.get(later);
+        cache.get(later);
+
+        assertQueries(2, later);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void servesLastGoodResultAsStaleWhenDatabaseFails() {
+        List<Reservation> loaded = cache.load(TODAY);
+        cache.onReservationEvent(event(TODAY));
+        database = date -> {
+            throw new DataAccessResourceFailureException("connection refused");
+        };
+
+        ReservationDayCache.DayView view = cache.read(TODAY);
+
+        assertTrue(view.stale());
+        assertEquals(loaded, view.reservations());
+        assertEquals(NOW.toEpochMilli(), view.loadedAt());
+    }
+
+    @Test
+    void servesStaleWithoutQueryingWhileBreakerIsOpen() {
+        cache.load(TODAY);
+        cache.onReservationEvent(event(TODAY));
+        circuitBreaker.recordFailure(new DataAccessResourceFailureException("connection refused"));
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        ReservationDayCache.DayView view = cache.read(TODAY);
+
+        assertTrue(view.stale());
+        assertQueries(1, TODAY);
+    }
+
+    @Test
+    void failsWhenNoResultWasEverLoaded() {
+        database = date -> {
+            throw new DataAccessResourceFailureException("connection refused");
+        };
+
+        assertThrows(DataAccessResourceFailureException.class, () -> cache.read(TODAY));
+    }
+
+    @Test
+    void freshReadIsNotStale() {
+        ReservationDayCache.DayView view = cache.read(TODAY);
+
+        assertFalse(view.stale());
+        assertEquals(1, view.reservations().size());
+    }
+
+    private void assertQueries(int expected, LocalDate date) {
+        verify(mapper, times(expected)).getReservationsByDate(date);
+    }
+
+    private static ReservationEvent event(LocalDate date) {
+        return new ReservationEvent(1, ReservationEventType.CANCELLED, reservation(1, date),
+                LocalDateTime.of(2026, 10, 19, 10, 0));
+    }
+
+    private static Reservation reservation(int id, LocalDate date) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setUserId(3);
+        reservation.setRoomId(12);
+        reservation.setDate(date);
+        reservation.setStartSlot(20);
+        reservation.setEndSlot(23);
+        reservation.setStatus("RESERVED");
+        return reservation;
+    }
+}
@@ -0,0 +1,105 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.event.ReservationEventType;
+import kr.ac.hanyang.backend.event.ReservationOutbox;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관리자 일괄 취소: 잠근 대상을 한 문장으로 취소하고 통계/outbox 를 한 번에 기록
+ */
+class ReservationServiceTest {
+
+    private static final int ROOM_ID = 12;
+    private static final LocalDate FROM = LocalDate.of(2026, 10, 20);
+    private static final LocalDate TO = LocalDate.of(2026, 10, 22);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 10, 0);
+
+    private ReservationMapper reservationMapper;
+    private ReservationStatsService reservationStatsService;
+    private ReservationOutbox reservationOutbox;
+    private ReservationSyncService reservationSyncService;
+    private ReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        reservationMapper = mock(ReservationMapper.class);
+        reservationStatsService = mock(ReservationStatsService.class);
+        reservationOutbox = mock(ReservationOutbox.class);
+        reservationSyncService = mock(ReservationSyncService.class);
+        SlotClock slotClock = new SlotClock(Clock.fixed(Instant.parse("2026-10-19T01:00:00Z"), SlotClock.ZONE));
+        reservationService = new ReservationService(reservationMapper, mock(SettingService.class),
+                mock(RoomOccupancyService.class), mock(ReservationDayCache.class), reservationStatsService,
+                mock(WaitlistHoldRegistry.class), mock(DailyQuotaLock.class), reservationOutbox,
+                reservationSyncService, mock(ShardRouter.class), slotClock);
+    }
+
+    @Test
+    void cancelsLockedReservationsInOneStatement() {
+        List<Reservation> active = List.of(reservation(3, FROM), reservation(8, TO));
+        when(reservationMapper.findActiveByRoomAndRangeForUpdate(ROOM_ID, FROM, TO, 18, 25)).thenReturn(active);
+
+        List<Reservation> cancelled = reservationService.cancelRoomReservationsByAdmin(ROOM_ID, FROM, TO, 18, 25);
+
+        assertEquals(List.of(3, 8), cancelled.stream().map(Reservation::getId).toList());
+        assertTrue(cancelled.stream().allMatch(r -> "CANCELLED".equals(r.getStatus()) && NOW.equals(r.getDeletedAt())));
+        verify(reservationMapper).cancelByIds(List.of(3, 8), NOW);
+        verify(reservationSyncService).markChanged();
+        verify(reservationStatsService).recordCancelled(cancelled);
+        verify(reservationOutbox).recordAll(ReservationEventType.CANCELLED, cancelled);
+    }
+
+    @Test
+    void nothingToCancelWritesNothing() {
+        when(reservationMapper.findActiveByRoomAndRangeForUpdate(ROOM_ID, FROM, TO, 18, 25)).thenReturn(List.of());
+
+        assertTrue(reservationService.cancelRoomReservationsByAdmin(ROOM_ID, FROM, TO, 18, 25).isEmpty());
+
+        verify(reservationMapper, never()).cancelByIds(any(), any());
+        verifyNoInteractions(reservationSyncService, reservationStatsService, reservationOutbox);
+    }
+
+    @Test
+    void rejectsInvalidRangeBeforeLocking() {
+        assertThrows(IllegalArgumentException.class,
+                () -> reservationService.cancelRoomReservationsByAdmin(ROOM_ID, TO, FROM, 18, 25));
+        assertThrows(IllegalArgumentException.class,
+                () -> reservationService.cancelRoomReservationsByAdmin(ROOM_ID, FROM, TO, 25, 18));
+        assertThrows(IllegalArgumentException.class,
+                () -> reservationService.cancelRoomReservationsByAdmin(ROOM_ID, FROM, TO, 18, SlotClock.SLOTS_PER_DAY));
+
+        verifyNoInteractions(reservationMapper);
+    }
+
+    private static Reservation reservation(int id, LocalDate date) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setUserId(3);
+        reservation.setRoomId(ROOM_ID);
+        reservation.setDate(date);
+        reservation.setStartSlot(20);
+        reservation.setEndSlot(23);
+        reservation.setStatus("RESERVED");
+        return reservation;
+    }
+}
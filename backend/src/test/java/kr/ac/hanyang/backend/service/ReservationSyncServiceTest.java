@@ -0,0 +1,130 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예약 현황 델타 동기화: 미배정 행에 버전 배정, since 이후 변경만 조회, 버전 토큰 검증 (샤딩 꺼짐)
+ */
+class ReservationSyncServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 20);
+    private static final int BATCH_SIZE = 500;
+
+    private ReservationMapper mapper;
+    private ReservationSyncService syncService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mapper = mock(ReservationMapper.class);
+        SlotClock slotClock = new SlotClock(Clock.fixed(Instant.parse("2026-10-19T01:00:00Z"), SlotClock.ZONE));
+        // 차단기는 app.db-breaker.enabled 기본값이 주입되지 않은 상태(꺼짐)로 그대로 통과시킨다.
+        syncService = new ReservationSyncService(mapper,
+                new ShardRouter(mock(ObjectProvider.class), mock(ObjectProvider.class), mapper),
+                new DatabaseCircuitBreaker(null, slotClock), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(syncService, "batchSize", BATCH_SIZE);
+    }
+
+    @Test
+    void assignsOneNewVersionToPendingRows() {
+        when(mapper.lockPendingVersions(BATCH_SIZE)).thenReturn(List.of(3, 5));
+        when(mapper.currentVersion()).thenReturn(8L);
+
+        assertEquals(2, syncService.assignPending());
+
+        // 카운터는 행을 잠근 뒤에 올린다
+        var order = inOrder(mapper);
+        order.verify(mapper).lockPendingVersions(BATCH_SIZE);
+        order.verify(mapper).incrementVersion();
+        order.verify(mapper).assignVersion(List.of(3, 5), 8L);
+    }
+
+    @Test
+    void noPendingRowsLeavesCounterAlone() {
+        when(mapper.lockPendingVersions(BATCH_SIZE)).thenReturn(List.of());
+
+        assertEquals(0, syncService.assignPending());
+
+        verify(mapper, never()).incrementVersion();
+        verify(mapper, never()).assignVersion(any(), anyLong());
+    }
+
+    @Test
+    void withoutSinceReturnsFullDay() {
+        List<Reservation> active = List.of(reservation(1), reservation(2));
+        when(mapper.currentVersion()).thenReturn(7L);
+        when(mapper.findChangesByDate(DATE, 0L, 7L)).thenReturn(active);
+
+        ReservationSyncService.Changes changes = syncService.getChanges(DATE, null);
+
+        assertTrue(changes.full());
+        assertEquals("7", changes.version());
+        assertEquals(active, changes.changes());
+    }
+
+    @Test
+    void returnsOnlyChangesAfterSince() {
+        List<Reservation> changed = List.of(reservation(2));
+        when(mapper.currentVersion()).thenReturn(9L);
+        when(mapper.findChangesByDate(DATE, 7L, 9L)).thenReturn(changed);
+
+        ReservationSyncService.Changes changes = syncService.getChanges(DATE, "7");
+
+        assertFalse(changes.full());
+        assertEquals("9", changes.version());
+        assertEquals(changed, changes.changes());
+    }
+
+    @Test
+    void unchangedCounterReadsNoRows() {
+        when(mapper.currentVersion()).thenReturn(7L);
+
+        ReservationSyncService.Changes changes = syncService.getChanges(DATE, "7");
+
+        assertEquals("7", changes.version());
+        assertTrue(changes.changes().isEmpty());
+        verify(mapper, never()).findChangesByDate(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void malformedSinceIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> syncService.getChanges(DATE, "abc"));
+        verify(mapper, never()).lockPendingVersions(anyInt());
+    }
+
+    private static Reservation reservation(int id) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setRoomId(12);
+        reservation.setDate(DATE);
+        reservation.setStatus("RESERVED");
+        return reservation;
+    }
+}
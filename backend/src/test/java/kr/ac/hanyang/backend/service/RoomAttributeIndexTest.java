@@ -0,0 +1,182 @@
+package kr.ac.hanyang.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.hanyang.backend.datasource.DatabaseCircuitBreaker;
+import kr.ac.hanyang.backend.datasource.ShardRouter;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.RoomsDTO;
+import kr.ac.hanyang.backend.mapper.ReservationMapper;
+import kr.ac.hanyang.backend.mapper.RoomsMapper;
+import kr.ac.hanyang.backend.time.SlotClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 방 속성 비트셋 인덱스: 조건 교집합, 수용 인원 구간, 방 정보 수정 후 재구성
+ */
+class RoomAttributeIndexTest {
+
+    private static final List<RoomsDTO> ROOMS = List.of(
+            new RoomsDTO(1, "A101", "SEMINAR", "SEOUL", 4, "whiteboard", false),
+            new RoomsDTO(2, "A102", "SEMINAR", "SEOUL", 8, "projector, Whiteboard", true),
+            new RoomsDTO(3, "B201", "STUDY", "ERICA", 8, "projector", false),
+            new RoomsDTO(4, "B202", "STUDY", "ERICA", 12, "projector,whiteboard", true),
+            new RoomsDTO(5, "C301", "LAB", null, 20, null, true));
+
+    private final RoomAttributeIndex index = new RoomAttributeIndex(ROOMS);
+
+    @Test
+    void noConditionsMatchesAllRooms() {
+        assertEquals(List.of(1, 2, 3, 4, 5), ids(index.match(null, null, null, null, null)));
+    }
+
+    @Test
+    void intersectsAllConditions() {
+        assertEquals(List.of(2, 4), ids(index.match(null, List.of("projector", "whiteboard"), null, null, null)));
+        assertEquals(List.of(4), ids(index.match(null, List.of("projector", "whiteboard"), true, "study", null)));
+        assertEquals(List.of(2), ids(index.match(null, List.of("projector"), true, null, "seoul")));
+        assertEquals(List.of(2, 4, 5), ids(index.match(null, null, true, null, null)));
+    }
+
+    @Test
+    void normalizesTagsAndIgnoresBlankConditions() {
+        assertEquals(List.of(2, 4), ids(index.match(null, List.of(" PROJECTOR ", "", "WhiteBoard"), null, " ", "")));
+        assertEquals(List.of(3, 4), ids(index.match(null, null, false, " Study ", null)));
+    }
+
+    @Test
+    void unknownValueMatchesNothing() {
+        assertTrue(index.match(null, List.of("piano"), null, null, null).isEmpty());
+        assertTrue(index.match(null, null, null, "HALL", null).isEmpty());
+        assertTrue(index.match(null, null, null, null, "BUSAN").isEmpty());
+    }
+
+    @Test
+    void capacityBucketsIncludeRoomsAtOrAboveMinimum() {
+        assertEquals(List.of(1, 2, 3, 4, 5), ids(index.match(1, null, null, null, null)));
+        assertEquals(List.of(1, 2, 3, 4, 5), ids(index.match(4, null, null, null, null)));
+        // 없는 인원 값은 그보다 큰 첫 구간으로
+        assertEquals(List.of(2, 3, 4, 5), ids(index.match(5, null, null, null, null)));
+        assertEquals(List.of(2, 3, 4, 5), ids(index.match(8, null, null, null, null)));
+        assertEquals(List.of(4, 5), ids(index.match(9, null, null, null, null)));
+        assertEquals(List.of(5), ids(index.match(20, null, null, null, null)));
+        assertTrue(index.match(21, null, null, null, null).isEmpty());
+    }
+
+    @Test
+    void capacityIntersectsWithOtherConditions() {
+        assertEquals(List.of(4), ids(index.match(10, List.of("projector"), null, null, null)));
+        assertEquals(List.of(3, 4), ids(index.match(8, null, null, "STUDY", "ERICA")));
+    }
+
+    @Test
+    void matchReturnsCopy() {
+        BitSet first = index.match(null, null, null, null, null);
+        first.clear();
+
+        assertEquals(List.of(1, 2, 3, 4, 5), ids(index.match(null, null, null, null, null)));
+    }
+
+    @Test
+    void occupancyMarksReservedSlotsOfKnownRooms() {
+        BitSet[] busy = index.occupancy(List.of(
+                reservation(2, 18, 20),
+                reservation(4, 20, 21),
+                reservation(99, 18, 30)));
+
+        assertTrue(busy[17].isEmpty());
+        assertEquals(List.of(2), ids(busy[18]));
+        assertEquals(List.of(2, 4), ids(busy[20]));
+        assertEquals(List.of(4), ids(busy[21]));
+        assertTrue(busy[22].isEmpty());
+        assertEquals(SlotClock.SLOTS_PER_DAY, busy.length);
+    }
+
+    @Test
+    void rebuildsIndexWhenRoomsAreEdited() {
+        List<RoomsDTO> table = new ArrayList<>();
+        ROOMS.forEach(room -> table.add(copy(room)));
+        RoomsService roomsService = roomsService(table);
+        roomsService.refreshCatalog();
+        long version = roomsService.getCatalog().getVersion();
+        assertEquals(List.of(4, 5), searchIds(roomsService, 10, null));
+
+        // 수용 인원을 늘리고 비품을 바꾼 뒤 다시 읽으면 새 인덱스로 검색
+        table.get(0).setCapacity(10);
+        table.get(3).setEquipment("whiteboard");
+        roomsService.refreshCatalog();
+
+        assertNotEquals(version, roomsService.getCatalog().getVersion());
+        assertEquals(List.of(1, 4, 5), searchIds(roomsService, 10, null));
+        assertEquals(List.of(2, 3), searchIds(roomsService, null, List.of("projector")));
+
+        // 방 추가/삭제
+        table.remove(4);
+        table.add(new RoomsDTO(6, "D401", "LAB", "ERICA", 30, "projector", true));
+        roomsService.refreshCatalog();
+
+        assertEquals(List.of(1, 4, 6), searchIds(roomsService, 10, null));
+    }
+
+    @Test
+    void keepsSnapshotWhenRoomsAreUnchanged() {
+        List<RoomsDTO> table = new ArrayList<>();
+        ROOMS.forEach(room -> table.add(copy(room)));
+        RoomsService roomsService = roomsService(table);
+        roomsService.refreshCatalog();
+
+        assertSame(roomsService.getCatalog(), roomsService.refreshCatalog());
+    }
+
+    private static List<Integer> searchIds(RoomsService roomsService, Integer minCapacity, List<String> equipment) {
+        return roomsService.search(minCapacity, equipment, null, null, null, null, null, null).rooms().stream()
+                .map(RoomsDTO::getId)
+                .toList();
+    }
+
+    private List<Integer> ids(BitSet bits) {
+        return index.roomsOf(bits).stream().map(RoomsDTO::getId).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RoomsService roomsService(List<RoomsDTO> table) {
+        SlotClock slotClock = new SlotClock(Clock.fixed(Instant.parse("2026-10-19T01:00:00Z"), SlotClock.ZONE));
+        RoomsMapper roomsMapper = mock(RoomsMapper.class);
+        when(roomsMapper.getRooms()).thenAnswer(invocation -> table.stream().map(RoomAttributeIndexTest::copy).toList());
+        ReservationMapper reservationMapper = mock(ReservationMapper.class);
+        ShardRouter shardRouter = new ShardRouter(mock(ObjectProvider.class), mock(ObjectProvider.class), reservationMapper);
+        // 차단기는 app.db-breaker.enabled 기본값이 주입되지 않은 상태(꺼짐)로 그대로 통과시킨다.
+        DatabaseCircuitBreaker circuitBreaker = new DatabaseCircuitBreaker(null, slotClock);
+        ReservationDayCache dayCache = new ReservationDayCache(reservationMapper, slotClock, circuitBreaker, shardRouter,
+                mock(PlatformTransactionManager.class));
+        return new RoomsService(roomsMapper, new ObjectMapper(), circuitBreaker, shardRouter, dayCache, slotClock);
+    }
+
+    private static RoomsDTO copy(RoomsDTO room) {
+        return new RoomsDTO(room.getId(), room.getName(), room.getType(), room.getCampus(), room.getCapacity(),
+                room.getEquipment(), room.isAccessible());
+    }
+
+    private static Reservation reservation(int roomId, int startSlot, int endSlot) {
+        Reservation reservation = new Reservation();
+        reservation.setRoomId(roomId);
+        reservation.setStartSlot(startSlot);
+        reservation.setEndSlot(endSlot);
+        reservation.setStatus("RESERVED");
+        return reservation;
+    }
+}
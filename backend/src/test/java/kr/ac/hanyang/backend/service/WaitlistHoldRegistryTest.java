@@ -0,0 +1,86 @@
+package kr.ac.hanyang.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 임시 배정 보관: 다른 사용자 구간 차단, 만료, 해제/재배정
+ */
+class WaitlistHoldRegistryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 19);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 10, 0);
+
+    private final WaitlistHoldRegistry registry = new WaitlistHoldRegistry();
+
+    @Test
+    void blocksOverlappingRangeForOtherUsersOnly() {
+        registry.hold(hold(1, 100, 7, 20, 23, NOW.plusMinutes(5)));
+
+        assertTrue(registry.isHeldByOther(7, DAY, 22, 25, 200, NOW));
+        // 양 끝 슬롯이 맞닿아도 겹침
+        assertTrue(registry.isHeldByOther(7, DAY, 18, 20, 200, NOW));
+        assertTrue(registry.isHeldByOther(7, DAY, 23, 23, 200, NOW));
+        // 배정받은 본인은 예약 가능
+        assertFalse(registry.isHeldByOther(7, DAY, 20, 23, 100, NOW));
+        assertFalse(registry.isHeldByOther(7, DAY, 24, 25, 200, NOW));
+        assertFalse(registry.isHeldByOther(7, DAY, 16, 19, 200, NOW));
+        assertFalse(registry.isHeldByOther(8, DAY, 20, 23, 200, NOW));
+        assertFalse(registry.isHeldByOther(7, DAY.plusDays(1), 20, 23, 200, NOW));
+    }
+
+    @Test
+    void expiredHoldNoLongerBlocks() {
+        registry.hold(hold(1, 100, 7, 20, 23, NOW.plusMinutes(5)));
+
+        assertTrue(registry.isHeldByOther(7, DAY, 20, 23, 200, NOW.plusMinutes(4)));
+        assertFalse(registry.isHeldByOther(7, DAY, 20, 23, 200, NOW.plusMinutes(5)));
+    }
+
+    @Test
+    void removeExpiredReturnsOnlyExpiredHoldsOnce() {
+        registry.hold(hold(1, 100, 7, 20, 23, NOW.plusMinutes(5)));
+        registry.hold(hold(2, 101, 7, 30, 31, NOW.plusMinutes(10)));
+
+        assertTrue(registry.removeExpired(NOW.plusMinutes(4)).isEmpty());
+
+        List<WaitlistHoldRegistry.Hold> expired = registry.removeExpired(NOW.plusMinutes(5));
+        assertEquals(List.of(1L), expired.stream().map(WaitlistHoldRegistry.Hold::entryId).toList());
+        assertNull(registry.get(1));
+        assertEquals(2L, registry.get(2).entryId());
+        assertTrue(registry.removeExpired(NOW.plusMinutes(5)).isEmpty());
+    }
+
+    @Test
+    void releaseUnblocksRange() {
+        registry.hold(hold(1, 100, 7, 20, 23, NOW.plusMinutes(5)));
+
+        assertEquals(1L, registry.release(1).entryId());
+
+        assertNull(registry.get(1));
+        assertNull(registry.release(1));
+        assertFalse(registry.isHeldByOther(7, DAY, 20, 23, 200, NOW));
+    }
+
+    @Test
+    void reHoldReplacesPreviousRange() {
+        registry.hold(hold(1, 100, 7, 20, 23, NOW.plusMinutes(5)));
+        registry.hold(hold(1, 100, 8, 30, 31, NOW.plusMinutes(5)));
+
+        assertFalse(registry.isHeldByOther(7, DAY, 20, 23, 200, NOW));
+        assertTrue(registry.isHeldByOther(8, DAY, 30, 31, 200, NOW));
+    }
+
+    private static WaitlistHoldRegistry.Hold hold(long entryId, int userId, int roomId, int startSlot, int endSlot,
+                                                  LocalDateTime expiresAt) {
+        return new WaitlistHoldRegistry.Hold(entryId, userId, roomId, DAY, startSlot, endSlot, expiresAt);
+    }
+}
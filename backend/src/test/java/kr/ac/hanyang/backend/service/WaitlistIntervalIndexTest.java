@@ -0,0 +1,117 @@
+package kr.ac.hanyang.backend.service;
+
+import kr.ac.hanyang.backend.dto.WaitlistEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 대기 요청 구간 인덱스: 겹침 판정(양 끝 포함), 먼저 들어온 순 정렬, 방/유형 키 분리, 제거
+ */
+class WaitlistIntervalIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 19);
+
+    private final WaitlistIntervalIndex index = new WaitlistIntervalIndex();
+
+    @Test
+    void findsEntriesOverlappingFreedRange() {
+        index.add(roomEntry(1, 7, DAY, 18, 19));
+        index.add(roomEntry(2, 7, DAY, 20, 23));
+        index.add(roomEntry(3, 7, DAY, 24, 25));
+        index.add(roomEntry(4, 7, DAY, 10, 30));
+
+        assertEquals(List.of(2L, 4L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 21, 22)));
+        // 양 끝 슬롯이 맞닿기만 해도 겹침
+        assertEquals(List.of(1L, 2L, 4L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 19, 20)));
+        assertEquals(List.of(3L, 4L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 25, 28)));
+        assertEquals(List.of(4L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 30, 40)));
+        assertTrue(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 31, 40).isEmpty());
+    }
+
+    @Test
+    void findsLongEntryStartingFarBeforeFreedRange() {
+        index.add(roomEntry(1, 7, DAY, 0, 47));
+        index.add(roomEntry(2, 7, DAY, 30, 30));
+
+        assertEquals(List.of(1L, 2L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 30, 30)));
+        assertEquals(List.of(1L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 47, 47)));
+    }
+
+    @Test
+    void ordersByArrivalNotByStartSlot() {
+        index.add(roomEntry(5, 7, DAY, 18, 21));
+        index.add(roomEntry(2, 7, DAY, 20, 21));
+        index.add(roomEntry(9, 7, DAY, 19, 19));
+
+        assertEquals(List.of(2L, 5L, 9L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 18, 21)));
+    }
+
+    @Test
+    void separatesRoomTypeAndDateKeys() {
+        index.add(roomEntry(1, 7, DAY, 18, 19));
+        index.add(roomEntry(2, 8, DAY, 18, 19));
+        index.add(roomEntry(3, 7, DAY.plusDays(1), 18, 19));
+        index.add(typeEntry(4, "SEMINAR", DAY, 18, 19));
+
+        assertEquals(List.of(1L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 18, 19)));
+        assertEquals(List.of(4L), ids(index.findOverlapping(WaitlistIntervalIndex.typeKey("SEMINAR", DAY), 18, 19)));
+        assertTrue(index.findOverlapping(WaitlistIntervalIndex.typeKey("STUDY", DAY), 18, 19).isEmpty());
+    }
+
+    @Test
+    void removedEntriesAreNotMatched() {
+        WaitlistEntry first = roomEntry(1, 7, DAY, 18, 19);
+        WaitlistEntry second = roomEntry(2, 7, DAY, 18, 20);
+        index.add(first);
+        index.add(second);
+
+        index.remove(first);
+
+        assertEquals(List.of(2L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 18, 19)));
+        index.remove(second);
+        assertTrue(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 18, 19).isEmpty());
+    }
+
+    @Test
+    void removeBeforeDropsPastDates() {
+        index.add(roomEntry(1, 7, DAY.minusDays(1), 18, 19));
+        index.add(roomEntry(2, 7, DAY, 18, 19));
+
+        index.removeBefore(DAY);
+
+        assertTrue(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY.minusDays(1)), 18, 19).isEmpty());
+        assertEquals(List.of(2L), ids(index.findOverlapping(WaitlistIntervalIndex.roomKey(7, DAY), 18, 19)));
+    }
+
+    private static List<Long> ids(List<WaitlistEntry> entries) {
+        return entries.stream().map(WaitlistEntry::getId).toList();
+    }
+
+    private static WaitlistEntry roomEntry(long id, int roomId, LocalDate date, int startSlot, int endSlot) {
+        WaitlistEntry entry = entry(id, date, startSlot, endSlot);
+        entry.setRoomId(roomId);
+        return entry;
+    }
+
+    private static WaitlistEntry typeEntry(long id, String roomType, LocalDate date, int startSlot, int endSlot) {
+        WaitlistEntry entry = entry(id, date, startSlot, endSlot);
+        entry.setRoomType(roomType);
+        return entry;
+    }
+
+    private static WaitlistEntry entry(long id, LocalDate date, int startSlot, int endSlot) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setId(id);
+        entry.setUserId((int) id);
+        entry.setDate(date);
+        entry.setStartSlot(startSlot);
+        entry.setEndSlot(endSlot);
+        entry.setStatus("WAITING");
+        return entry;
+    }
+}
@@ -0,0 +1,501 @@
+package kr.ac.hanyang.backend.simulation;
+
+import kr.ac.hanyang.backend.BackendApplication;
+import kr.ac.hanyang.backend.benchmark.EmbeddedDatabase;
+import kr.ac.hanyang.backend.benchmark.SyntheticDataGenerator;
+import kr.ac.hanyang.backend.dto.Reservation;
+import kr.ac.hanyang.backend.dto.ReservationRequestDTO;
+import kr.ac.hanyang.backend.exception.ReservationException;
+import kr.ac.hanyang.backend.notification.Notification;
+import kr.ac.hanyang.backend.notification.NotificationSink;
+import kr.ac.hanyang.backend.notification.NotificationType;
+import kr.ac.hanyang.backend.scheduler.ReservationScheduler;
+import kr.ac.hanyang.backend.service.CheckinService;
+import kr.ac.hanyang.backend.service.ReservationService;
+import kr.ac.hanyang.backend.time.SlotClock;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 가속 시간 1주일 시뮬레이션
+ * 주입 가능한 시계(SimulationClock)로 애플리케이션 컨텍스트를 임베디드 MariaDB 위에 띄우고,
+ * 시뮬레이션 시각을 1분씩 진행하면서 예약/체크인/취소 요청과 스케줄 작업(노쇼 처리, 슬롯 경계 작업)을 직접 호출한다.
+ * 매일 끝과 종료 시점에 정책 불변식을 검사한다.
+ * - 같은 방/날짜의 활성 예약이 겹치지 않음
+ * - 사용자별 하루 예약 한도(DAILY_LIMIT_HOURS) 준수
+ * - 예약 가능 기간(오늘 ~ 6일 뒤)을 넘는 예약은 성공하지 않음
+ * - 체크인 마감(시작 + 15분)이 지난 RESERVED 예약이 남아 있지 않음 (스케줄러 1분 주기 허용)
+ * - checkin_time 은 [시작, 시작 + 15분] 안
+ * - 통계 롤업의 체크인/노쇼 슬롯 수가 예약 테이블과 일치
+ * - 알림은 발송 시각 이후, 만료(예약 시작/체크인 마감) 전에만 발송 (기록용 발송 채널로 대체)
+ * 실행: ./gradlew weekSimulation [-Dsimulation.speed=1000 -Dsimulation.bookingsPerHour=60 -Dsimulation.seed=42]
+ * (speed: 실제 1초당 시뮬레이션 초, 0 이면 대기 없이 최대 속도)
+ * 결과: build/reports/week-simulation.md
+ */
+@Tag("benchmark")
+class WeekSimulation {
+
+    private static final double SPEED = Double.parseDouble(System.getProperty("simulation.speed", "1000"));
+    private static final int DAYS = Integer.getInteger("simulation.days", 7);
+    private static final LocalDate START = LocalDate.parse(System.getProperty("simulation.start", "2025-03-03"));
+    private static final double BOOKINGS_PER_HOUR = Double.parseDouble(System.getProperty("simulation.bookingsPerHour", "60"));
+    private static final double CHECKIN_RATE = Double.parseDouble(System.getProperty("simulation.checkinRate", "0.75"));
+    private static final double LATE_RATE = Double.parseDouble(System.getProperty("simulation.lateRate", "0.10"));
+    private static final double CANCEL_RATE = Double.parseDouble(System.getProperty("simulation.cancelRate", "0.10"));
+    private static final double BEYOND_HORIZON_RATE = Double.parseDouble(System.getProperty("simulation.beyondHorizonRate", "0.05"));
+    private static final boolean FAIL_ON_VIOLATION = Boolean.parseBoolean(System.getProperty("simulation.failOnViolation", "true"));
+    private static final int MAX_LISTED_VIOLATIONS = 50;
+
+    private final Random random = new Random(Long.getLong("simulation.seed", 42L));
+    private final Map<String, OperationStats> operations = new LinkedHashMap<>();
+    private final Set<String> violations = new LinkedHashSet<>();
+    private final PriorityQueue<Action> actions = new PriorityQueue<>(Comparator.comparingLong(Action::minute));
+    private final RecordingNotificationSink notifications = new RecordingNotificationSink();
+
+    private SimulationClock clock;
+    private ReservationService reservationService;
+    private CheckinService checkinService;
+    private ReservationScheduler scheduler;
+    private JdbcTemplate jdbc;
+    private List<Integer> userIds;
+    private Map<Integer, String> emails;
+    private List<Integer> roomIds;
+    private int openingSlot;
+    private int closingSlot;
+
+    private enum Kind { CHECKIN, LATE_CHECKIN, CANCEL }
+
+    private record Action(long minute, Kind kind, Reservation reservation) {
+    }
+
+    @Test
+    void runWeek() throws Exception {
+        LocalDateTime start = START.atStartOfDay();
+        clock = new SimulationClock(new AtomicReference<>(start.atZone(SlotClock.ZONE).toInstant()), SlotClock.ZONE);
+        Path journalDir = Files.createTempDirectory("week-simulation-journal");
+
+        try (EmbeddedDatabase db = new EmbeddedDatabase("week_simulation")) {
+            SyntheticDataGenerator generator = new SyntheticDataGenerator();
+            generator.generateUsers(db.getDataSource());
+            generator.generateRooms(db.getDataSource());
+
+            try (ConfigurableApplicationContext context = startApplication(db, journalDir)) {
+                reservationService = context.getBean(ReservationService.class);
+                checkinService = context.getBean(CheckinService.class);
+                scheduler = context.getBean(ReservationScheduler.class);
+                jdbc = new JdbcTemplate(db.getDataSource());
+                loadFixtures();
+
+                long totalMinutes = DAYS * 24L * 60;
+                long realStarted = System.nanoTime();
+                long maxLagMs = 0;
+                for (long minute = 0; minute < totalMinutes; minute++) {
+                    LocalDateTime now = start.plusMinutes(minute);
+                    clock.set(now.atZone(SlotClock.ZONE).toInstant());
+                    step(minute, now);
+                    if (now.getHour() == 23 && now.getMinute() == 59) {
+                        checkInvariants(now);
+                    }
+                    maxLagMs = Math.max(maxLagMs, pace(realStarted, minute + 1));
+                }
+                long realElapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - realStarted);
+                LocalDateTime end = start.plusMinutes(totalMinutes);
+                clock.set(end.atZone(SlotClock.ZONE).toInstant());
+                scheduler.cancelNoShowReservations();
+                checkInvariants(end);
+
+                writeReport(totalMinutes, realElapsedMs, maxLagMs);
+            }
+        }
+
+        if (FAIL_ON_VIOLATION) {
+            assertTrue(violations.isEmpty(), "invariant violations: " + violations);
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(EmbeddedDatabase db, Path journalDir) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", db.getDataSource().getJdbcUrl());
+        properties.put("spring.datasource.username", "root");
+        properties.put("spring.datasource.password", "");
+        properties.put("mybatis.mapper-locations", "classpath:mapper/*.xml");
+        properties.put("mybatis.type-aliases-package", "kr.ac.hanyang.backend.dto");
+        properties.put("mybatis.configuration.map-underscore-to-camel-case", "true");
+        properties.put("spring.security.oauth2.client.registration.google.client-id", "simulation");
+        properties.put("spring.security.oauth2.client.registration.google.client-secret", "simulation");
+        properties.put("spring.security.oauth2.client.registration.google.scope", "profile,email");
+        properties.put("server.port", "0");
+        properties.put("logging.config", "classpath:log4j2.xml");
+        properties.put("logging.level.kr.ac.hanyang", "WARN");
+        properties.put("logging.level.org.mybatis", "WARN");
+        // 스케줄 작업은 시뮬레이션 시각에 맞춰 직접 호출
+        properties.put("app.scheduling.enabled", "false");
+        properties.put("app.warmup.enabled", "false");
+        properties.put("app.journal.dir", journalDir.toString());
+        properties.put("app.clock.system", "false");
+
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .properties(properties)
+                .initializers(context -> {
+                    context.getBeanFactory().registerSingleton("clock", clock);
+                    context.getBeanFactory().registerSingleton("notificationSink", notifications);
+                })
+                .run();
+    }
+
+    private void loadFixtures() {
+        userIds = new ArrayList<>();
+        emails = new HashMap<>();
+        jdbc.query("SELECT id, email FROM users", rs -> {
+            userIds.add(rs.getInt("id"));
+            emails.put(rs.getInt("id"), rs.getString("email"));
+        });
+        roomIds = jdbc.queryForList("SELECT id FROM rooms", Integer.class);
+        openingSlot = setting("OPENING_HOUR", 9) * 2;
+        closingSlot = setting("CLOSING_HOUR", 21) * 2;
+    }
+
+    /**
+     * 시뮬레이션 1분: 새 예약 요청 → 예정된 체크인/취소 → 스케줄 작업
+     */
+    private void step(long minute, LocalDateTime now) {
+        if (now.getHour() >= 7 && now.getHour() < 23) {
+            double expected = BOOKINGS_PER_HOUR / 60.0;
+            int bookings = (int) expected + (random.nextDouble() < expected - (int) expected ? 1 : 0);
+            for (int i = 0; i < bookings; i++) {
+                book(minute, now);
+            }
+        }
+
+        while (!actions.isEmpty() && actions.peek().minute() <= minute) {
+            Action action = actions.poll();
+            switch (action.kind()) {
+                case CHECKIN -> checkin(action.reservation(), true);
+                case LATE_CHECKIN -> checkin(action.reservation(), false);
+                case CANCEL -> cancel(action.reservation());
+            }
+        }
+
+        timedJob("scheduler.cancelNoShow", () -> scheduler.cancelNoShowReservations());
+        timedJob("scheduler.expireWaitlistHolds", () -> scheduler.expireWaitlistHolds());
+        if (now.getMinute() % SlotClock.SLOT_MINUTES == 0) {
+            timedJob("scheduler.rollOverOccupancy", () -> scheduler.rollOverOccupancy());
+            timedJob("scheduler.rebuildCheckinIndex", () -> scheduler.rebuildCheckinIndex());
+            timedJob("scheduler.rebuildReminderQueue", () -> scheduler.rebuildReminderQueue());
+        }
+        timedJob("scheduler.dispatchNotifications", () -> scheduler.dispatchNotifications());
+    }
+
+    private void book(long minute, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        boolean beyondHorizon = random.nextDouble() < BEYOND_HORIZON_RATE;
+        LocalDate date = beyondHorizon ? today.plusDays(7 + random.nextInt(3)) : today.plusDays(random.nextInt(7));
+        int earliest = date.equals(today) ? Math.max(openingSlot, SlotClock.slotOf(now.toLocalTime()) + 1) : openingSlot;
+        int length = 1 + random.nextInt(4);
+        if (earliest + length > closingSlot) {
+            return;
+        }
+
+        ReservationRequestDTO request = new ReservationRequestDTO();
+        request.setUserId(userIds.get(random.nextInt(userIds.size())));
+        request.setRoomId(roomIds.get(random.nextInt(roomIds.size())));
+        request.setDate(date);
+        request.setStartSlot(earliest + random.nextInt(closingSlot - length - earliest + 1));
+        request.setEndSlot(request.getStartSlot() + length - 1);
+
+        Reservation created = timed("reservation.create", () -> reservationService.createReservation(request));
+        if (created == null) {
+            return;
+        }
+        if (date.isAfter(today.plusDays(6))) {
+            violations.add("beyond horizon booking accepted: id=" + created.getId() + ", date=" + date + ", today=" + today);
+        }
+
+        long startMinute = minuteOf(SlotClock.slotStart(date, created.getStartSlot()));
+        double roll = random.nextDouble();
+        if (roll < CANCEL_RATE) {
+            long cancelAt = minute + 1 + (long) (random.nextDouble() * Math.max(1, startMinute - minute - 1));
+            actions.add(new Action(cancelAt, Kind.CANCEL, created));
+        } else if (roll < CANCEL_RATE + LATE_RATE) {
+            actions.add(new Action(startMinute + 16 + random.nextInt(10), Kind.LATE_CHECKIN, created));
+        } else if (roll < CANCEL_RATE + LATE_RATE + CHECKIN_RATE) {
+            actions.add(new Action(startMinute + random.nextInt(15), Kind.CHECKIN, created));
+        }
+        // 나머지는 체크인하지 않음 → 노쇼 처리 대상
+    }
+
+    private void checkin(Reservation reservation, boolean onTime) {
+        String email = emails.get(reservation.getUserId());
+        Reservation result = timed(onTime ? "checkin.onTime" : "checkin.late",
+                () -> checkinService.checkin(email, reservation.getRoomId()));
+        if (onTime && (result == null || !"CHECKED_IN".equals(result.getStatus()))) {
+            violations.add("on-time check-in not accepted: id=" + reservation.getId() + ", at=" + clock.now());
+        }
+        if (!onTime && result != null && "CHECKED_IN".equals(result.getStatus()) && result.getId() == reservation.getId()) {
+            violations.add("late check-in accepted: id=" + reservation.getId() + ", at=" + clock.now());
+        }
+    }
+
+    private void cancel(Reservation reservation) {
+        timed("reservation.cancel", () -> {
+            reservationService.cancelReservation(reservation.getId(), reservation.getUserId());
+            return null;
+        });
+    }
+
+    private void checkInvariants(LocalDateTime now) {
+        Integer overlaps = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM reservations a JOIN reservations b
+                  ON a.room_id = b.room_id AND a.date = b.date AND a.id < b.id
+                 AND a.start_slot <= b.end_slot AND b.start_slot <= a.end_slot
+                WHERE a.status IN ('RESERVED', 'CHECKED_IN') AND b.status IN ('RESERVED', 'CHECKED_IN')
+                """, Integer.class);
+        if (overlaps != null && overlaps > 0) {
+            violations.add(now.toLocalDate() + ": " + overlaps + " overlapping active reservation pairs");
+        }
+
+        int maxSlots = setting("DAILY_LIMIT_HOURS", 3) * 2;
+        Integer overLimit = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM (
+                    SELECT user_id, date FROM reservations WHERE status IN ('RESERVED', 'CHECKED_IN')
+                    GROUP BY user_id, date HAVING SUM(end_slot - start_slot + 1) > ?
+                ) t
+                """, Integer.class, maxSlots);
+        if (overLimit != null && overLimit > 0) {
+            violations.add(now.toLocalDate() + ": " + overLimit + " user-days over the daily limit");
+        }
+
+        jdbc.query("SELECT id, date, start_slot FROM reservations WHERE status = 'RESERVED' AND checkin_required = 1", rs -> {
+            LocalDateTime deadline = SlotClock.slotStart(rs.getDate("date").toLocalDate(), rs.getInt("start_slot")).plusMinutes(15);
+            // 스케줄러가 매분 돌므로 마감 후 1분까지는 허용
+            if (now.isAfter(deadline.plusMinutes(1))) {
+                violations.add("expired RESERVED left behind: id=" + rs.getInt("id") + ", deadline=" + deadline);
+            }
+        });
+
+        jdbc.query("SELECT id, date, start_slot, checkin_time FROM reservations WHERE status = 'CHECKED_IN'", rs -> {
+            LocalDateTime slotStart = SlotClock.slotStart(rs.getDate("date").toLocalDate(), rs.getInt("start_slot"));
+            LocalDateTime checkinTime = rs.getTimestamp("checkin_time").toLocalDateTime();
+            if (checkinTime.isBefore(slotStart) || checkinTime.isAfter(slotStart.plusMinutes(15))) {
+                violations.add("check-in outside window: id=" + rs.getInt("id") + ", checkinTime=" + checkinTime);
+            }
+        });
+
+        compareStats(now, "checked_in_slots", "CHECKED_IN");
+        compareStats(now, "no_show_slots", "CANCELLED");
+    }
+
+    private void compareStats(LocalDateTime now, String column, String status) {
+        Long rolledUp = jdbc.queryForObject("SELECT COALESCE(SUM(" + column + "), 0) FROM reservation_stats_daily", Long.class);
+        Long actual = jdbc.queryForObject(
+                "SELECT COALESCE(SUM(end_slot - start_slot + 1), 0) FROM reservations WHERE status = ?", Long.class, status);
+        if (!actual.equals(rolledUp)) {
+            violations.add(now.toLocalDate() + ": stats " + column + "=" + rolledUp + " but " + status + " slots=" + actual);
+        }
+    }
+
+    private <T> T timed(String operation, CheckedSupplier<T> call) {
+        OperationStats stats = operations.computeIfAbsent(operation, k -> new OperationStats());
+        long started = System.nanoTime();
+        try {
+            T result = call.get();
+            stats.record(System.nanoTime() - started, null);
+            return result;
+        } catch (ReservationException | IllegalArgumentException e) {
+            stats.record(System.nanoTime() - started, e.getClass().getSimpleName());
+            return null;
+        } catch (Exception e) {
+            stats.record(System.nanoTime() - started, "ERROR " + e.getClass().getSimpleName());
+            violations.add(operation + " failed unexpectedly at " + clock.now() + ": " + e);
+            return null;
+        }
+    }
+
+    private void timedJob(String operation, Runnable job) {
+        timed(operation, () -> {
+            job.run();
+            return null;
+        });
+    }
+
+    /**
+     * 속도에 맞춰 대기하고, 예정보다 늦어진 시간(ms)을 반환
+     */
+    private long pace(long realStarted, long simulatedMinutes) throws InterruptedException {
+        if (SPEED <= 0) {
+            return 0;
+        }
+        long targetNanos = (long) (simulatedMinutes * 60_000_000_000L / SPEED);
+        long behind = System.nanoTime() - realStarted - targetNanos;
+        if (behind < 0) {
+            TimeUnit.NANOSECONDS.sleep(-behind);
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(behind);
+    }
+
+    private long minuteOf(LocalDateTime time) {
+        return Duration.between(START.atStartOfDay(), time).toMinutes();
+    }
+
+    private int setting(String key, int defaultValue) {
+        List<String> values = jdbc.queryForList("SELECT value FROM settings WHERE key_name = ?", String.class, key);
+        return values.isEmpty() ? defaultValue : Integer.parseInt(values.get(0));
+    }
+
+    private void writeReport(long totalMinutes, long realElapsedMs, long maxLagMs) throws Exception {
+        StringBuilder report = new StringBuilder("# Week simulation\n\n")
+                .append("- simulated: ").append(DAYS).append(" days from ").append(START)
+                .append(" (").append(totalMinutes).append(" minutes)\n")
+                .append("- speed: ").append(SPEED <= 0 ? "unpaced" : "x" + SPEED)
+                .append(", real time: ").append(realElapsedMs).append(" ms")
+                .append(", max lag behind schedule: ").append(maxLagMs).append(" ms\n")
+                .append("- simulated minutes per real second: ")
+                .append(String.format("%.1f", totalMinutes * 1000.0 / Math.max(1, realElapsedMs))).append("\n\n")
+                .append("| operation | calls | ok | rejected | ops/s | p50 (us) | p95 (us) | max (us) |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---:|\n");
+        operations.forEach((name, stats) -> report.append(stats.row(name, realElapsedMs)));
+
+        report.append("\n## Rejections\n\n");
+        operations.forEach((name, stats) -> stats.outcomes.forEach((outcome, count) ->
+                report.append("- ").append(name).append(": ").append(outcome).append(" x").append(count).append('\n')));
+
+        Map<String, Integer> statuses = new LinkedHashMap<>();
+        jdbc.query("SELECT status, COUNT(*) AS cnt FROM reservations GROUP BY status ORDER BY status",
+                rs -> { statuses.put(rs.getString("status"), rs.getInt("cnt")); });
+        report.append("\n## Final reservation states\n\n");
+        statuses.forEach((status, count) -> report.append("- ").append(status).append(": ").append(count).append('\n'));
+
+        report.append("\n## Notifications\n\n")
+                .append("- batches: ").append(notifications.batches).append('\n');
+        notifications.byType.forEach((type, count) -> report.append("- ").append(type).append(": ").append(count).append('\n'));
+
+        report.append("\n## Invariant violations: ").append(violations.size()).append("\n\n");
+        violations.stream().limit(MAX_LISTED_VIOLATIONS).forEach(v -> report.append("- ").append(v).append('\n'));
+
+        Path output = Path.of("build", "reports", "week-simulation.md");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report, StandardCharsets.UTF_8);
+        System.out.println(report);
+    }
+
+    /**
+     * 메일/웹훅 대신 발송된 알림을 기록하고 발송 시점을 검사하는 채널
+     */
+    private class RecordingNotificationSink implements NotificationSink {
+        private final Map<NotificationType, Integer> byType = new LinkedHashMap<>();
+        private int batches;
+
+        @Override
+        public void deliver(List<Notification> batch) {
+            batches++;
+            LocalDateTime now = clock.now();
+            for (Notification notification : batch) {
+                byType.merge(notification.type(), 1, Integer::sum);
+                if (now.isBefore(notification.dueAt()) || !now.isBefore(notification.expiresAt())) {
+                    violations.add("notification " + notification.type() + " for reservation "
+                            + notification.reservationId() + " sent at " + now + ", due " + notification.dueAt());
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface CheckedSupplier<T> {
+        T get() throws Exception;
+    }
+
+    private static class OperationStats {
+        private final List<Long> nanos = new ArrayList<>();
+        private final Map<String, Integer> outcomes = new LinkedHashMap<>();
+        private int rejected;
+
+        void record(long elapsedNanos, String rejection) {
+            nanos.add(elapsedNanos);
+            if (rejection != null) {
+                rejected++;
+                outcomes.merge(rejection, 1, Integer::sum);
+            }
+        }
+
+        String row(String name, long realElapsedMs) {
+            List<Long> sorted = nanos.stream().sorted().toList();
+            return String.format("| %s | %d | %d | %d | %.1f | %d | %d | %d |%n", name, sorted.size(),
+                    sorted.size() - rejected, rejected, sorted.size() * 1000.0 / Math.max(1, realElapsedMs),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 1.0));
+        }
+
+        private static long percentile(List<Long> sorted, double p) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = Math.min(sorted.size() - 1, (int) Math.ceil(p * sorted.size()) - 1);
+            return TimeUnit.NANOSECONDS.toMicros(sorted.get(Math.max(0, index)));
+        }
+    }
+
+    /**
+     * 시뮬레이션이 직접 진행시키는 시계
+     * withZone 으로 만든 시계도 같은 시각을 공유해야 SlotClock 이 진행을 본다.
+     */
+    static final class SimulationClock extends Clock {
+
+        private final AtomicReference<Instant> instant;
+        private final ZoneId zone;
+
+        SimulationClock(AtomicReference<Instant> instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void set(Instant value) {
+            instant.set(value);
+        }
+
+        LocalDateTime now() {
+            return LocalDateTime.ofInstant(instant.get(), zone);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new SimulationClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant.get();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+-- 벤치마크/시뮬레이션용 임베디드 DB 스키마
+-- 운영 DB의 reservations / rooms / settings 는 저장소에 DDL 이 없으므로 매퍼에서 쓰는 컬럼 기준으로 재구성했다.
+-- 운영 인덱스가 다르면 이 파일을 맞춰 수정할 것 (EXPLAIN 결과가 달라짐)
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(100) NOT NULL,
+    department VARCHAR(100) NULL,
+    provider VARCHAR(50) NOT NULL DEFAULT 'google',
+    provider_id VARCHAR(255) NOT NULL DEFAULT '',
+    role INT NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_provider (provider, provider_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id INT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    type VARCHAR(50) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS settings (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    key_name VARCHAR(100) NOT NULL UNIQUE,
+    value VARCHAR(255) NOT NULL,
+    description VARCHAR(255) NULL,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS reservations (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    user_id INT NOT NULL,
+    room_id INT NOT NULL,
+    date DATE NOT NULL,
+    start_slot INT NOT NULL,
+    end_slot INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    checkin_time DATETIME NULL,
+    checkin_required BOOLEAN DEFAULT TRUE,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_room_date (room_id, date),
+    INDEX idx_user_date (user_id, date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT IGNORE INTO settings (key_name, value, description) VALUES
+    ('DAILY_LIMIT_HOURS', '3', '하루 최대 예약 시간'),
+    ('OPENING_HOUR', '9', '운영 시작 시각'),
+    ('CLOSING_HOUR', '21', '운영 종료 시각');
@@ -150,7 +150,7 @@ function AdminPage() {
       showMessage('success', '설정이 성공적으로 업데이트되고 반영되었습니다.');
     } catch (error: any) {
       console.error('설정 업데이트 실패:', error);
-      showMessage('error', error.response?.data?.error || '설정 업데이트에 실패했습니다.');
+      showMessage('error', error.response?.data?.message || '설정 업데이트에 실패했습니다.');
     } finally {
       setLoading(false);
     }
@@ -166,7 +166,7 @@ function AdminPage() {
       loadReservations();
     } catch (error: any) {
       console.error('예약 취소 실패:', error);
-      showMessage('error', error.response?.data?.error || '예약 취소에 실패했습니다.');
+      showMessage('error', error.response?.data?.message || '예약 취소에 실패했습니다.');
     } finally {
       setLoading(false);
     }
@@ -182,7 +182,7 @@ function AdminPage() {
       loadUsers();
     } catch (error: any) {
       console.error('권한 변경 실패:', error);
-      showMessage('error', error.response?.data?.error || '권한 변경에 실패했습니다.');
+      showMessage('error', error.response?.data?.message || '권한 변경에 실패했습니다.');
     } finally {
       setLoading(false);
     }
@@ -212,6 +212,12 @@ function AdminPage() {
     return `${hour.toString().padStart(2, '0')}:${minute}`;
   };
 
+  // 예: "한인규 (교육공학과)", 사용자 정보가 없으면 ID
+  const formatReservationUser = (res: Reservation) => {
+    if (!res.userName) return `#${res.userId}`;
+    return res.userDepartment ? `${res.userName} (${res.userDepartment})` : res.userName;
+  };
+
   if (authLoading) {
     return (
       <div className="page-container space-page bg-surface">
@@ -392,8 +398,8 @@ function AdminPage() {
                         <thead>
                           <tr>
                             <th>예약 ID</th>
-                            <th>방 ID</th>
-                            <th>사용자 ID</th>
+                            <th>방</th>
+                            <th>사용자</th>
                             <th>날짜</th>
                             <th>시간</th>
                             <th>상태</th>
@@ -404,8 +410,8 @@ function AdminPage() {
                           {currentReservations.map(res => (
                             <tr key={res.id}>
                               <td>{res.id}</td>
-                              <td>Room {res.roomId}</td>
-                              <td>{res.userId}</td>
+                              <td>{res.roomName ?? `Room ${res.roomId}`}</td>
+                              <td title={res.userEmail}>{formatReservationUser(res)}</td>
                               <td>{res.date}</td>
                               <td>{formatSlotTime(res.startSlot)} - {formatSlotTime(res.endSlot + 1)}</td>
                               <td><span className="badge bg-success">{res.status}</span></td>
@@ -427,8 +433,8 @@ function AdminPage() {
                       <thead>
                         <tr>
                           <th>예약 ID</th>
-                          <th>방 ID</th>
-                          <th>사용자 ID</th>
+                          <th>방</th>
+                          <th>사용자</th>
                           <th>날짜</th>
                           <th>시간</th>
                           <th>상태</th>
@@ -439,8 +445,8 @@ function AdminPage() {
                         {allReservations.slice(0, 20).map(res => (
                           <tr key={res.id}>
                             <td>{res.id}</td>
-                            <td>Room {res.roomId}</td>
-                            <td>{res.userId}</td>
+                            <td>{res.roomName ?? `Room ${res.roomId}`}</td>
+                            <td title={res.userEmail}>{formatReservationUser(res)}</td>
                             <td>{res.date}</td>
                             <td>{formatSlotTime(res.startSlot)} - {formatSlotTime(res.endSlot + 1)}</td>
                             <td><span className={`badge bg-${res.status === 'RESERVED' ? 'success' : 'secondary'}`}>{res.status}</span></td>
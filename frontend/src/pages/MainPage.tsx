@@ -1,7 +1,7 @@
 import React, { useMemo, useState, useLayoutEffect, useRef, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Reservation } from '../types/reservation';
-import { getReservationsByDate, createReservation, ReservationRequest, getMyReservations, cancelReservation } from '../services/reservationService';
+import { getReservationsByDate, getReservationChanges, createReservation, ReservationRequest, getMyReservations, cancelReservation } from '../services/reservationService';
 import { getCurrentUser, logout, UserInfo } from '../services/authService';
 import { getPublicSettings, PublicSettings } from '../services/settingService';
 
@@ -369,6 +369,8 @@ function MainPage() {
   const [authLoading, setAuthLoading] = useState(true);
   const [settings, setSettings] = useState<PublicSettings | null>(null);
   
+  // 델타 동기화 기준 (현재 그리드의 날짜와 서버 버전)
+  const syncRef = useRef<{ date: string; version: string } | null>(null);
   const studyPanelRef = useRef<HTMLDivElement>(null);
   const dcellPanelRef = useRef<HTMLDivElement>(null);
 
@@ -405,6 +407,18 @@ function MainPage() {
     fetchSettings();
   }, []);
 
+  // 날짜의 활성 예약 전체 + 동기화 버전 (실패 시 기존 조회로 대체, DB 장애 시 마지막 정상 데이터)
+  const loadReservations = async (date: string): Promise<Reservation[]> => {
+    try {
+      const day = await getReservationChanges(date);
+      syncRef.current = { date, version: day.version };
+      return day.changes;
+    } catch (error) {
+      syncRef.current = null;
+      return getReservationsByDate(date);
+    }
+  };
+
   const fetchRoomsAndReservations = async () => {
     if (!currentUser) return;
     
@@ -416,7 +430,7 @@ function MainPage() {
         fetch('http://localhost:8080/api/rooms', {
           credentials: 'include'
         }),
-        getReservationsByDate(formattedDate),
+        loadReservations(formattedDate),
         getMyReservations(currentUser.id)
       ]);
 
@@ -438,6 +452,39 @@ function MainPage() {
     }
   };
 
+  // 주기적 갱신: 마지막 버전 이후 바뀐 예약만 받아 병합 (바뀐 게 없으면 빈 응답)
+  const syncReservations = async () => {
+    if (!currentUser) return;
+    const formattedDate = formatDate(selectedDate);
+    const sync = syncRef.current;
+    if (!sync || sync.date !== formattedDate) {
+      fetchRoomsAndReservations();
+      return;
+    }
+    try {
+      const delta = await getReservationChanges(formattedDate, sync.version);
+      if (syncRef.current !== sync) return; // 그 사이 전체 조회가 끝남
+      syncRef.current = { date: formattedDate, version: delta.version };
+      if (delta.changes.length === 0) return;
+
+      setReservations(prev => {
+        const byId = new Map(prev.map(r => [r.id, r]));
+        delta.changes.forEach(r => {
+          if (r.status === 'RESERVED' || r.status === 'CHECKED_IN') {
+            byId.set(r.id, r);
+          } else {
+            byId.delete(r.id); // 취소/노쇼
+          }
+        });
+        return Array.from(byId.values());
+      });
+      setMyReservations(await getMyReservations(currentUser.id) || []);
+    } catch (error) {
+      console.error('Failed to sync reservations:', error);
+      fetchRoomsAndReservations();
+    }
+  };
+
   // 날짜가 변경될 때마다 방과 예약 정보 다시 가져오기
   useEffect(() => {
     if (currentUser) {
@@ -448,18 +495,18 @@ function MainPage() {
   // 실시간 반영: 주기적 갱신 + 탭 포커스/가시성 변화 시 재조회
   useEffect(() => {
     if (!currentUser) return;
-    // 30초마다 최신 예약 상황 조회
+    // 30초마다 바뀐 예약만 동기화
     const intervalId = setInterval(() => {
-      fetchRoomsAndReservations();
+      syncReservations();
     }, 30000);
 
-    // 브라우저 탭이 다시 보이거나 포커스될 때 재조회
+    // 브라우저 탭이 다시 보이거나 포커스될 때 동기화
     const handleVisibility = () => {
       if (document.visibilityState === 'visible') {
-        fetchRoomsAndReservations();
+        syncReservations();
       }
     };
-    const handleFocus = () => fetchRoomsAndReservations();
+    const handleFocus = () => syncReservations();
     document.addEventListener('visibilitychange', handleVisibility);
     window.addEventListener('focus', handleFocus);
 
@@ -21,6 +21,12 @@ export interface Reservation {
   startSlot: number;
   endSlot: number;
   status: string;
+  // 관리자 목록에는 예약자/방 정보가 함께 옴 (탈퇴한 사용자, 삭제된 방이면 없음)
+  userName?: string;
+  userEmail?: string;
+  userDepartment?: string;
+  roomName?: string;
+  roomCampus?: string;
 }
 
 export interface User {
@@ -71,6 +77,22 @@ export const cancelReservationByAdmin = async (reservationId: number): Promise<v
   await axios.delete(`${API_BASE_URL}/admin/reservations/${reservationId}`);
 };
 
+/**
+ * 방 예약 일괄 취소 (방 폐쇄/점검). 슬롯 생략 시 하루 전체, 취소된 예약(예약자 정보 포함) 반환
+ */
+export const cancelRoomReservations = async (
+  roomId: number,
+  from: string,
+  to: string,
+  startSlot?: number,
+  endSlot?: number
+): Promise<Reservation[]> => {
+  const response = await axios.post(`${API_BASE_URL}/admin/rooms/${roomId}/reservations/cancel`, null, {
+    params: { from, to, startSlot, endSlot },
+  });
+  return response.data;
+};
+
 /**
  * 모든 사용자 조회 (슈퍼관리자용)
  */
@@ -21,6 +21,21 @@ export const getReservationsByDate = async (date: string): Promise<Reservation[]
     return response.data;
 };
 
+export interface ReservationChanges {
+    date: string;
+    version: string; // 다음 조회의 since 로 그대로 전달
+    full: boolean; // since 없이 조회한 활성 예약 전체
+    changes: Reservation[];
+}
+
+// 예약 현황 델타 동기화: since 이후 바뀐 예약만 (since 없으면 전체)
+export const getReservationChanges = async (date: string, since?: string): Promise<ReservationChanges> => {
+    const response = await axios.get(`${API_BASE_URL}/reservation/changes`, {
+        params: { date, since }
+    });
+    return response.data;
+};
+
 export const createReservation = async (reservationData: ReservationRequest): Promise<Reservation> => {
     const response = await axios.post(`${API_BASE_URL}/reservation`, reservationData);
     return response.data;
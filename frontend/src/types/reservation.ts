@@ -8,4 +8,6 @@ export interface Reservation {
     status: string;
     checkinTime: string | null; // or Date?
     createdAt: string; // or Date?
+    version?: number; // 변경 버전 (델타 동기화)
+    deletedAt?: string | null; // 취소 시각 (tombstone)
 }